@@ -7,12 +7,30 @@ db.createCollection('survey_responses');
 db.createCollection('candidates');
 db.createCollection('applications');
 db.createCollection('companies');
+db.createCollection('feedback_jobs');
 
 // Create indexes for better performance
-db.surveys.createIndex({ "id": 1 }, { unique: true });
-db.survey_responses.createIndex({ "id": 1 }, { unique: true });
-db.candidates.createIndex({ "id": 1 }, { unique: true });
-db.applications.createIndex({ "id": 1 }, { unique: true });
-db.companies.createIndex({ "id": 1 }, { unique: true });
+// Documents are keyed by _id (unique by default); these cover the scoring read paths
+db.applications.createIndex(
+    { "surveyId": 1, "applicationOverallScore": -1, "candidateId": 1 },
+    { name: "survey_score_candidate" }
+);
+db.applications.createIndex({ "companyId": 1, "complete": 1 }, { name: "company_complete" });
+// Score re-composition: a company's applications in _id order, resumable from a checkpoint
+db.applications.createIndex({ "companyId": 1, "_id": 1 }, { name: "company_id" });
+// ATS outbox: pending score pushes by due time
+db.applications.createIndex(
+    { "atsPush.nextAttemptAt": 1 },
+    { name: "ats_push_due", partialFilterExpression: { "atsPush.status": "PENDING" } }
+);
+db.survey_responses.createIndex({ "surveyId": 1 });
+db.candidates.createIndex({ "email": 1 });
 
-print('Database scoring_algo initialized successfully!'); 
\ No newline at end of file
+// Feedback job queue: one pending job per candidate/survey, claimed by priority then age
+db.feedback_jobs.createIndex(
+    { "candidateId": 1, "surveyId": 1 },
+    { name: "pending_candidate_survey", unique: true, partialFilterExpression: { "status": "PENDING" } }
+);
+db.feedback_jobs.createIndex({ "status": 1, "priority": -1, "enqueuedAt": 1 }, { name: "status_priority_enqueued" });
+
+print('Database scoring_algo initialized successfully!');
@@ -1,12 +1,41 @@
 package com.serand.assessment;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
 
 @SpringBootApplication
 public class ScoringApplication {
     
     public static void main(String[] args) {
+        if (Arrays.stream(args).anyMatch(arg -> arg.startsWith("--scoring.batch.input="))) {
+            System.exit(runBatch(args));
+        }
         SpringApplication.run(ScoringApplication.class, args);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Headless batch scoring: no web server and no background MongoDB workers; exits when the file is scored.
+     */
+    private static int runBatch(String[] args) {
+        String[] batchArgs = new String[args.length + 4];
+        batchArgs[0] = "--scoring.ats.outbox.enabled=false";
+        batchArgs[1] = "--scoring.feedback.queue.enabled=false";
+        batchArgs[2] = "--scoring.persistence.write-behind.enabled=false";
+        batchArgs[3] = "--scoring.config.warm-on-startup=false";
+        System.arraycopy(args, 0, batchArgs, 4, args.length);
+        try {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ScoringApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .run(batchArgs);
+            return SpringApplication.exit(context);
+        } catch (RuntimeException e) {
+            // Already reported by SpringApplication
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.serand.assessment.batch;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Outcome of one offline batch scoring run.
+ */
+public record BatchScoringReport(long responses, long failures, long inputBytes, int chunks, Duration elapsed) {
+
+    public double responsesPerSecond() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds > 0 ? responses / seconds : 0;
+    }
+
+    public double megabytesPerSecond() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds > 0 ? inputBytes / (1024.0 * 1024.0) / seconds : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "Scored %d responses (%d failed) from %d bytes in %d chunks in %.3f s: %.1f responses/s, %.2f MB/s",
+                responses, failures, inputBytes, chunks, elapsed.toNanos() / 1e9, responsesPerSecond(), megabytesPerSecond());
+    }
+}
@@ -0,0 +1,63 @@
+package com.serand.assessment.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.serand.assessment.service.CentralScoringEngine;
+import com.serand.assessment.service.ScoreCompositionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Headless batch mode: scores scoring.batch.input into scoring.batch.output and prints a throughput report.
+ * Started by ScoringApplication when --scoring.batch.input is given.
+ */
+@Component
+@ConditionalOnProperty(name = "scoring.batch.input")
+public class BatchScoringRunner implements ApplicationRunner {
+
+    private final CentralScoringEngine centralScoringEngine;
+    private final ScoreCompositionService scoreCompositionService;
+    private final ObjectMapper objectMapper;
+    private final Path input;
+    private final Path output;
+    private final int threads;
+    private final DataSize chunkSize;
+
+    public BatchScoringRunner(CentralScoringEngine centralScoringEngine,
+                              ScoreCompositionService scoreCompositionService,
+                              ObjectMapper objectMapper,
+                              @Value("${scoring.batch.input}") Path input,
+                              @Value("${scoring.batch.output:}") String output,
+                              @Value("${scoring.batch.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+                              @Value("${scoring.batch.chunk-size:4MB}") DataSize chunkSize) {
+        this.centralScoringEngine = centralScoringEngine;
+        this.scoreCompositionService = scoreCompositionService;
+        this.objectMapper = objectMapper;
+        this.input = input;
+        this.output = output.isBlank() ? Path.of(input + ".scored.ndjson") : Path.of(output);
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("batch-scoring-"));
+        try {
+            // Two chunks per thread keeps every thread busy while the writer drains results in order
+            NdjsonBatchScorer scorer = new NdjsonBatchScorer(centralScoringEngine, scoreCompositionService, objectMapper,
+                    executor, chunkSize.toBytes(), threads * 2);
+            BatchScoringReport report = scorer.score(input, output);
+            System.out.println(report + " -> " + output);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
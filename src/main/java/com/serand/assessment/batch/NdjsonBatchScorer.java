@@ -0,0 +1,223 @@
+package com.serand.assessment.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.serand.assessment.dto.SurveyProcessingResponse;
+import com.serand.assessment.model.*;
+import com.serand.assessment.service.CentralScoringEngine;
+import com.serand.assessment.service.ScoreCompositionService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Scores an NDJSON file of SurveyResponses without the web or persistence layers.
+ * The input is split into chunks of roughly chunkSize bytes ending on a line break; each chunk is
+ * memory-mapped and scored on the executor with CentralScoringEngine and ScoreCompositionService,
+ * parsing records straight from the mapped pages. Result lines (SurveyProcessingResponse JSON) are
+ * buffered per chunk and appended to the output channel in input order. At most maxChunksInFlight
+ * chunks are scored or waiting to be written at once, which bounds memory for any input size.
+ */
+public class NdjsonBatchScorer {
+
+    private final CentralScoringEngine centralScoringEngine;
+    private final ScoreCompositionService scoreCompositionService;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final long chunkSize;
+    private final int maxChunksInFlight;
+
+    public NdjsonBatchScorer(CentralScoringEngine centralScoringEngine,
+                             ScoreCompositionService scoreCompositionService,
+                             ObjectMapper objectMapper,
+                             Executor executor,
+                             long chunkSize,
+                             int maxChunksInFlight) {
+        this.centralScoringEngine = centralScoringEngine;
+        this.scoreCompositionService = scoreCompositionService;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = maxChunksInFlight;
+    }
+
+    public BatchScoringReport score(Path input, Path output) throws IOException {
+        long started = System.nanoTime();
+        long responses = 0;
+        long failures = 0;
+        int chunks = 0;
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            Deque<CompletableFuture<ChunkResult>> inFlight = new ArrayDeque<>();
+            long start = 0;
+            while (start < size) {
+                long end = chunkEnd(in, start, size);
+                MappedByteBuffer chunk = in.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                inFlight.addLast(CompletableFuture.supplyAsync(() -> scoreChunk(chunk), executor));
+                chunks++;
+                start = end;
+                if (inFlight.size() >= maxChunksInFlight) {
+                    ChunkResult result = write(inFlight.removeFirst(), out);
+                    responses += result.responses();
+                    failures += result.failures();
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                ChunkResult result = write(inFlight.removeFirst(), out);
+                responses += result.responses();
+                failures += result.failures();
+            }
+            out.force(false);
+            return new BatchScoringReport(responses, failures, size, chunks, Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+
+    /**
+     * End of the chunk starting at start: just past the first line break at or after start + chunkSize.
+     */
+    private long chunkEnd(FileChannel in, long start, long size) throws IOException {
+        long position = Math.min(start + chunkSize, size);
+        if (position >= size) {
+            return size;
+        }
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        while (position < size) {
+            probe.clear();
+            int read = in.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private ChunkResult write(CompletableFuture<ChunkResult> pending, FileChannel out) throws IOException {
+        ChunkResult result;
+        try {
+            result = pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e;
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(result.output().buffer(), 0, result.output().size());
+        while (bytes.hasRemaining()) {
+            out.write(bytes);
+        }
+        return result;
+    }
+
+    private ChunkResult scoreChunk(MappedByteBuffer chunk) {
+        ResultBuffer output = new ResultBuffer(Math.max(256, chunk.limit() / 4));
+        long responses = 0;
+        long failures = 0;
+        int lineStart = 0;
+        int limit = chunk.limit();
+        for (int i = 0; i <= limit; i++) {
+            if (i < limit && chunk.get(i) != '\n') {
+                continue;
+            }
+            int length = i - lineStart;
+            if (length > 0 && !isBlank(chunk, lineStart, i)) {
+                responses++;
+                SurveyProcessingResponse result = scoreLine(chunk.slice(lineStart, length));
+                if (!result.isSuccess()) {
+                    failures++;
+                }
+                try {
+                    objectMapper.writeValue(output, result);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                output.write('\n');
+            }
+            lineStart = i + 1;
+        }
+        return new ChunkResult(output, responses, failures);
+    }
+
+    private SurveyProcessingResponse scoreLine(ByteBuffer line) {
+        SurveyResponse surveyResponse;
+        try {
+            surveyResponse = objectMapper.readValue(new ByteBufferBackedInputStream(line), SurveyResponse.class);
+        } catch (IOException e) {
+            return SurveyProcessingResponse.error("Failed: invalid SurveyResponse JSON: " + e.getMessage());
+        }
+        if (surveyResponse == null) {
+            // A literal "null" line parses without error but is not a SurveyResponse
+            return SurveyProcessingResponse.error("Failed: invalid SurveyResponse JSON: null");
+        }
+        SurveyProcessingResponse result;
+        try {
+            result = scoreAndCompose(surveyResponse);
+        } catch (RuntimeException e) {
+            result = SurveyProcessingResponse.error("Failed: " + e.getMessage());
+        }
+        result.setSurveyResponseId(surveyResponse.getId());
+        return result;
+    }
+
+    /**
+     * Same scoring and composition as the live pipeline, without linking or persisting the application.
+     */
+    private SurveyProcessingResponse scoreAndCompose(SurveyResponse surveyResponse) {
+        Survey survey = surveyResponse.getSurvey();
+        Company company = survey.getCompany();
+        centralScoringEngine.calculateAllQuestionScores(surveyResponse, survey, company);
+        Scores scores = scoreCompositionService.aggregatePillarScores(surveyResponse.getAnswerMap(), company,
+                company.getPillars());
+
+        Candidate candidate = surveyResponse.getCandidate();
+        double cvScore = candidate != null ? candidate.getCvScoreMap().getOrDefault(survey.getId(), 0.0) : 0.0;
+        Application application = surveyResponse.getApplication() != null ? surveyResponse.getApplication() : new Application();
+        application = scoreCompositionService.updateApplicationScores(application, scores, cvScore);
+        return SurveyProcessingResponse.success(application.getApplicationOverallScore(), scores, "Success");
+    }
+
+    private static boolean isBlank(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * ByteArrayOutputStream whose backing array can be written out without a copy.
+     */
+    private static final class ResultBuffer extends ByteArrayOutputStream {
+        private ResultBuffer(int initialSize) {
+            super(initialSize);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+    }
+
+    private record ChunkResult(ResultBuffer output, long responses, long failures) {
+    }
+}
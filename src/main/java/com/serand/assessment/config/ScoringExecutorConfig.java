@@ -0,0 +1,109 @@
+package com.serand.assessment.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executors used by the scoring pipeline.
+ */
+@Configuration
+public class ScoringExecutorConfig {
+
+    /**
+     * Bounded pool for concurrent text-answer (LLM) scoring.
+     */
+    @Bean(name = "textScoringExecutor", destroyMethod = "shutdown")
+    public ExecutorService textScoringExecutor(
+            @Value("${scoring.text.max-concurrency:16}") int maxConcurrency,
+            @Value("${scoring.text.queue-capacity:1000}") int queueCapacity) {
+        return boundedExecutor("text-scoring-", maxConcurrency, queueCapacity);
+    }
+
+    /**
+     * Runs the validate, score and compose stages of processSurveyResponse.
+     */
+    @Bean(name = "scoringPipelineExecutor", destroyMethod = "shutdown")
+    public ExecutorService scoringPipelineExecutor(
+            @Value("${scoring.pipeline.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${scoring.pipeline.queue-capacity:1000}") int queueCapacity) {
+        return boundedExecutor("scoring-pipeline-", threads, queueCapacity);
+    }
+
+    /**
+     * Runs the persistence stage of processSurveyResponse.
+     */
+    @Bean(name = "persistenceExecutor", destroyMethod = "shutdown")
+    public ExecutorService persistenceExecutor(
+            @Value("${scoring.persistence.threads:8}") int threads,
+            @Value("${scoring.persistence.queue-capacity:1000}") int queueCapacity) {
+        return boundedExecutor("persistence-", threads, queueCapacity);
+    }
+
+    /**
+     * Runs feedback generation and ATS pushes after the caller's future has completed. Saturation rejects
+     * the task rather than running it on the submitting persistence thread; the submitter logs it, and with
+     * the ATS outbox enabled the push is still delivered by the AtsOutboxDispatcher's poll.
+     */
+    @Bean(name = "postProcessingExecutor", destroyMethod = "shutdown")
+    public ExecutorService postProcessingExecutor(
+            @Value("${scoring.post-processing.threads:4}") int threads,
+            @Value("${scoring.post-processing.queue-capacity:10000}") int queueCapacity) {
+        return boundedExecutor("post-processing-", threads, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Streams and scores résumés alongside question scoring.
+     */
+    @Bean(name = "cvScoringExecutor", destroyMethod = "shutdown")
+    public ExecutorService cvScoringExecutor(
+            @Value("${scoring.cv.threads:4}") int threads,
+            @Value("${scoring.cv.queue-capacity:1000}") int queueCapacity) {
+        return boundedExecutor("cv-scoring-", threads, queueCapacity);
+    }
+
+    /**
+     * Runs queued candidate feedback generation, separate from live scoring.
+     */
+    @Bean(name = "feedbackExecutor", destroyMethod = "shutdown")
+    public ExecutorService feedbackExecutor(
+            @Value("${scoring.feedback.max-concurrency:2}") int maxConcurrency) {
+        return boundedExecutor("feedback-", maxConcurrency, maxConcurrency);
+    }
+
+    /**
+     * Re-composes stored question scores into pillar and application scores, one slice of a chunk per task.
+     */
+    @Bean(name = "recompositionExecutor", destroyMethod = "shutdown")
+    public ExecutorService recompositionExecutor(
+            @Value("${scoring.recomposition.threads:4}") int threads) {
+        return boundedExecutor("recomposition-", threads, threads);
+    }
+
+    /**
+     * Fixed-size pool with a bounded queue. When both the pool and its queue are saturated the
+     * submitting thread runs the task itself, which throttles callers instead of dropping work.
+     */
+    private static ExecutorService boundedExecutor(String threadNamePrefix, int threads, int queueCapacity) {
+        return boundedExecutor(threadNamePrefix, threads, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private static ExecutorService boundedExecutor(String threadNamePrefix, int threads, int queueCapacity,
+                                                   RejectedExecutionHandler saturationPolicy) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory(threadNamePrefix),
+                saturationPolicy);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
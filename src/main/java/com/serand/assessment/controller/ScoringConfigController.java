@@ -0,0 +1,106 @@
+package com.serand.assessment.controller;
+
+import com.serand.assessment.dto.WeightingSimulationRequest;
+import com.serand.assessment.repository.AnswerKeyRescoringJobDocument;
+import com.serand.assessment.repository.RecompositionJobDocument;
+import com.serand.assessment.service.AnswerKeyRescoringService;
+import com.serand.assessment.service.ScoreRecompositionService;
+import com.serand.assessment.service.ScoringConfigRegistry;
+import com.serand.assessment.service.WeightingSimulationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Hot reload of scoring configuration after a survey or company was edited. The new configuration is
+ * compiled and swapped in atomically; requests already being scored finish on the previous one.
+ * Stored scores of a company's applications are brought in line with new weightings or pillars by a
+ * re-composition job, which reuses the stored question scores; corrected answer keys are applied by
+ * re-scoring only the affected MCQ answers. Proposed weightings can be previewed first as a read-only
+ * re-ranking of a survey's applicants.
+ */
+@RestController
+@RequestMapping("/api/scoring-config")
+public class ScoringConfigController {
+
+    private final ScoringConfigRegistry configRegistry;
+    private final ScoreRecompositionService recompositionService;
+    private final AnswerKeyRescoringService answerKeyRescoringService;
+    private final WeightingSimulationService simulationService;
+
+    public ScoringConfigController(ScoringConfigRegistry configRegistry,
+                                   ScoreRecompositionService recompositionService,
+                                   AnswerKeyRescoringService answerKeyRescoringService,
+                                   WeightingSimulationService simulationService) {
+        this.configRegistry = configRegistry;
+        this.recompositionService = recompositionService;
+        this.answerKeyRescoringService = answerKeyRescoringService;
+        this.simulationService = simulationService;
+    }
+
+    @PostMapping("/surveys/{surveyId}/reload")
+    public ResponseEntity<Map<String, Object>> reloadSurvey(@PathVariable String surveyId) {
+        return configRegistry.reloadSurvey(surveyId)
+                .map(snapshot -> ResponseEntity.ok(Map.<String, Object>of(
+                        "surveyId", surveyId, "version", snapshot.getVersion())))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Reload a survey whose answer keys were corrected and re-score the answers scored against other keys.
+     */
+    @PostMapping("/surveys/{surveyId}/rescore-answer-keys")
+    public ResponseEntity<AnswerKeyRescoringJobDocument> rescoreAnswerKeys(@PathVariable String surveyId) {
+        return answerKeyRescoringService.reloadAndRescore(surveyId)
+                .map(progress -> ResponseEntity.accepted().body(progress))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/surveys/{surveyId}/rescore-answer-keys")
+    public ResponseEntity<AnswerKeyRescoringJobDocument> answerKeyRescoringProgress(
+            @PathVariable String surveyId) {
+        return ResponseEntity.of(answerKeyRescoringService.progress(surveyId));
+    }
+
+    /**
+     * Preview how proposed weightings or pillars would re-rank a survey's applicants. Nothing is written.
+     */
+    @PostMapping("/surveys/{surveyId}/simulate")
+    public ResponseEntity<?> simulate(@PathVariable String surveyId,
+                                      @RequestBody WeightingSimulationRequest request,
+                                      @RequestParam(defaultValue = "20") int top) {
+        try {
+            return ResponseEntity.of(simulationService.simulate(surveyId, request.getWeightings(),
+                    request.getPillars(), top));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/companies/{companyId}/reload")
+    public ResponseEntity<Map<String, Object>> reloadCompany(@PathVariable String companyId) {
+        int republished = configRegistry.reloadCompany(companyId);
+        return ResponseEntity.ok(Map.of("companyId", companyId, "surveysReloaded", republished,
+                "version", configRegistry.getVersion()));
+    }
+
+    @PostMapping("/companies/{companyId}/recompose")
+    public ResponseEntity<RecompositionJobDocument> recompose(@PathVariable String companyId,
+                                                              @RequestParam(defaultValue = "false") boolean restart) {
+        return recompositionService.start(companyId, restart)
+                .map(job -> ResponseEntity.accepted().body(job))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/companies/{companyId}/recompose")
+    public ResponseEntity<RecompositionJobDocument> recompositionProgress(@PathVariable String companyId) {
+        return ResponseEntity.of(recompositionService.progress(companyId));
+    }
+}
@@ -0,0 +1,36 @@
+package com.serand.assessment.controller;
+
+import com.serand.assessment.service.BulkScoringService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/survey-responses")
+public class SurveyResponseController {
+
+    static final String NDJSON = "application/x-ndjson";
+
+    private final BulkScoringService bulkScoringService;
+
+    public SurveyResponseController(BulkScoringService bulkScoringService) {
+        this.bulkScoringService = bulkScoringService;
+    }
+
+    /**
+     * Bulk scoring: newline-delimited SurveyResponse JSON in, one SurveyProcessingResponse JSON line
+     * out per input line as each one completes. The request body is consumed while results stream back.
+     */
+    @PostMapping(path = "/bulk", consumes = NDJSON, produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> scoreBulk(InputStream body) {
+        StreamingResponseBody results = output -> bulkScoringService.scoreNdjson(body, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(results);
+    }
+}
@@ -0,0 +1,38 @@
+package com.serand.assessment.dto;
+
+import com.serand.assessment.model.Application;
+
+/**
+ * Score update sent to the ATS for one application.
+ */
+public class AtsScorePush {
+    private final String applicationId;
+    private final String candidateId;
+    private final String surveyId;
+    private final String companyId;
+    private final double applicationOverallScore;
+
+    public AtsScorePush(String applicationId, String candidateId, String surveyId, String companyId,
+                        double applicationOverallScore) {
+        this.applicationId = applicationId;
+        this.candidateId = candidateId;
+        this.surveyId = surveyId;
+        this.companyId = companyId;
+        this.applicationOverallScore = applicationOverallScore;
+    }
+
+    public static AtsScorePush from(Application application) {
+        return new AtsScorePush(application.getId(),
+                application.getCandidate() != null ? application.getCandidate().getId() : null,
+                application.getSurvey() != null ? application.getSurvey().getId() : null,
+                application.getCompany() != null ? application.getCompany().getId() : null,
+                application.getApplicationOverallScore());
+    }
+
+    // Getters
+    public String getApplicationId() { return applicationId; }
+    public String getCandidateId() { return candidateId; }
+    public String getSurveyId() { return surveyId; }
+    public String getCompanyId() { return companyId; }
+    public double getApplicationOverallScore() { return applicationOverallScore; }
+}
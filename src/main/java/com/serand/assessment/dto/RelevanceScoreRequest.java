@@ -0,0 +1,26 @@
+package com.serand.assessment.dto;
+
+/**
+ * One text answer to be scored for relevance against its question.
+ */
+public class RelevanceScoreRequest {
+    private final String answer;
+    private final String question;
+
+    public RelevanceScoreRequest(String answer, String question) {
+        this.answer = answer;
+        this.question = question;
+    }
+
+    /**
+     * Rough token estimate (~4 characters per token) used to size batches.
+     */
+    public int estimateTokens() {
+        int chars = (answer != null ? answer.length() : 0) + (question != null ? question.length() : 0);
+        return chars / 4 + 1;
+    }
+
+    // Getters
+    public String getAnswer() { return answer; }
+    public String getQuestion() { return question; }
+}
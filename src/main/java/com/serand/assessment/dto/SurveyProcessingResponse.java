@@ -7,6 +7,10 @@ public class SurveyProcessingResponse {
     private double overallScore;
     private Scores scores;
     private String message;
+    // Not admitted for scoring because of load; the request was not scored and can be retried
+    private boolean rejected;
+    // Set when the response is one line of a bulk result, to correlate it with its input
+    private String surveyResponseId;
     
     private SurveyProcessingResponse(boolean success, double overallScore, Scores scores, String message) {
         this.success = success;
@@ -22,10 +26,19 @@ public class SurveyProcessingResponse {
     public static SurveyProcessingResponse error(String message) {
         return new SurveyProcessingResponse(false, 0, null, message);
     }
+
+    public static SurveyProcessingResponse rejected(String message) {
+        SurveyProcessingResponse response = new SurveyProcessingResponse(false, 0, null, message);
+        response.rejected = true;
+        return response;
+    }
     
     // Getters
     public boolean isSuccess() { return success; }
     public double getOverallScore() { return overallScore; }
     public Scores getScores() { return scores; }
     public String getMessage() { return message; }
+    public boolean isRejected() { return rejected; }
+    public String getSurveyResponseId() { return surveyResponseId; }
+    public void setSurveyResponseId(String surveyResponseId) { this.surveyResponseId = surveyResponseId; }
 } 
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.serand.assessment.dto;
+
+import com.serand.assessment.model.Pillars;
+import com.serand.assessment.model.Weightings;
+
+/**
+ * Proposed scoring configuration for a what-if ranking. A field left out keeps the company's current value;
+ * an empty pillar map previews dropping custom pillars in favour of the weightings.
+ */
+public class WeightingSimulationRequest {
+    private Weightings weightings;
+    private Pillars pillars;
+
+    // Getters and setters
+    public Weightings getWeightings() { return weightings; }
+    public void setWeightings(Weightings weightings) { this.weightings = weightings; }
+
+    public Pillars getPillars() { return pillars; }
+    public void setPillars(Pillars pillars) { this.pillars = pillars; }
+}
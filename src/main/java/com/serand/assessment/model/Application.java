@@ -9,6 +9,9 @@ public class Application {
     private SurveyResponse candidateResponse;
     private Scores scores;
     private double applicationOverallScore;
+    private double cvScore;
+    // Scores changed and must reach the ATS; persisted as an outbox entry with the application
+    private boolean atsPushPending;
     
     // Getters and setters
     public String getId() { return id; }
@@ -34,4 +37,10 @@ public class Application {
     
     public double getApplicationOverallScore() { return applicationOverallScore; }
     public void setApplicationOverallScore(double applicationOverallScore) { this.applicationOverallScore = applicationOverallScore; }
+    
+    public double getCvScore() { return cvScore; }
+    public void setCvScore(double cvScore) { this.cvScore = cvScore; }
+
+    public boolean isAtsPushPending() { return atsPushPending; }
+    public void setAtsPushPending(boolean atsPushPending) { this.atsPushPending = atsPushPending; }
 } 
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.serand.assessment.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compact, immutable form of a SurveyResponse for bulk in-memory retention: the survey, candidate and
+ * application by id, and the answers as parallel arrays of answer-map keys and CompactSurveyResponseAnswers
+ * instead of a HashMap of full answer objects. Keys that are question ids share the survey definition's
+ * String. MCQ selections are encoded against the survey's question options, so the response is decoded
+ * with the same survey version.
+ */
+public final class CompactSurveyResponse {
+
+    private final String id;
+    private final String surveyId;
+    private final long surveyVersion;
+    private final String candidateId;
+    private final String applicationId;
+    private final String[] keys;
+    private final CompactSurveyResponseAnswer[] answers;
+
+    private CompactSurveyResponse(String id, String surveyId, long surveyVersion, String candidateId,
+                                  String applicationId, String[] keys, CompactSurveyResponseAnswer[] answers) {
+        this.id = id;
+        this.surveyId = surveyId;
+        this.surveyVersion = surveyVersion;
+        this.candidateId = candidateId;
+        this.applicationId = applicationId;
+        this.keys = keys;
+        this.answers = answers;
+    }
+
+    public static CompactSurveyResponse from(SurveyResponse response) {
+        Survey survey = response.getSurvey();
+        Map<String, Question> questions = questionsById(survey);
+        Map<String, SurveyResponseAnswer> answerMap = response.getAnswerMap() != null ? response.getAnswerMap() : Map.of();
+        String[] keys = new String[answerMap.size()];
+        CompactSurveyResponseAnswer[] answers = new CompactSurveyResponseAnswer[answerMap.size()];
+        int i = 0;
+        for (Map.Entry<String, SurveyResponseAnswer> entry : answerMap.entrySet()) {
+            SurveyResponseAnswer answer = entry.getValue();
+            Question question = answer != null ? questions.get(answer.getQuestionId()) : null;
+            keys[i] = CompactSurveyResponseAnswer.canonical(entry.getKey(), question != null ? question.getId() : null);
+            answers[i] = answer != null ? CompactSurveyResponseAnswer.of(answer, question) : null;
+            i++;
+        }
+        return new CompactSurveyResponse(response.getId(),
+                survey != null ? survey.getId() : null, survey != null ? survey.getVersion() : 0,
+                response.getCandidate() != null ? response.getCandidate().getId() : null,
+                response.getApplication() != null ? response.getApplication().getId() : null,
+                keys, answers);
+    }
+
+    /**
+     * Materialize the answer map again, decoding selections against the given survey.
+     *
+     * @throws IllegalArgumentException if the survey is not the id and version the response was encoded with
+     */
+    public Map<String, SurveyResponseAnswer> toAnswerMap(Survey survey) {
+        if (survey == null || !Objects.equals(surveyId, survey.getId()) || surveyVersion != survey.getVersion()) {
+            throw new IllegalArgumentException("Response " + id + " was encoded against survey " + surveyId
+                    + " version " + surveyVersion);
+        }
+        Map<String, Question> questions = questionsById(survey);
+        Map<String, SurveyResponseAnswer> answerMap = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            CompactSurveyResponseAnswer answer = answers[i];
+            Question question = answer != null ? questions.get(answer.getQuestionId()) : null;
+            answerMap.put(keys[i], answer != null
+                    ? answer.toAnswer(question != null ? question.getAvailableAnswers() : null)
+                    : null);
+        }
+        return answerMap;
+    }
+
+    /**
+     * Materialize a SurveyResponse linked to the given survey; candidate and application carry only their ids.
+     */
+    public SurveyResponse toSurveyResponse(Survey survey) {
+        SurveyResponse response = new SurveyResponse();
+        response.setId(id);
+        response.setSurvey(survey);
+        response.setAnswerMap(toAnswerMap(survey));
+        if (candidateId != null) {
+            Candidate candidate = new Candidate();
+            candidate.setId(candidateId);
+            response.setCandidate(candidate);
+        }
+        if (applicationId != null) {
+            Application application = new Application();
+            application.setId(applicationId);
+            response.setApplication(application);
+        }
+        return response;
+    }
+
+    private static Map<String, Question> questionsById(Survey survey) {
+        List<Question> questions = survey != null ? survey.getQuestions() : null;
+        if (questions == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Question> byId = new HashMap<>();
+        for (Question question : questions) {
+            if (question != null && question.getId() != null) {
+                // First definition wins, matching SurveyScoringPlan
+                byId.putIfAbsent(question.getId(), question);
+            }
+        }
+        return byId;
+    }
+
+    public String getId() { return id; }
+    public String getSurveyId() { return surveyId; }
+    public long getSurveyVersion() { return surveyVersion; }
+    public String getCandidateId() { return candidateId; }
+    public String getApplicationId() { return applicationId; }
+    public int getAnswerCount() { return answers.length; }
+    public String getKey(int index) { return keys[index]; }
+    public CompactSurveyResponseAnswer getAnswer(int index) { return answers[index]; }
+}
@@ -0,0 +1,154 @@
+package com.serand.assessment.model;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact, immutable form of a SurveyResponseAnswer for responses that are kept in memory in bulk.
+ * Question ids and references that match the answered question's definition are replaced by the
+ * definition's own Strings, so every response of a survey shares one copy; nothing the candidate sent is
+ * interned. The type is an enum, MCQ selections are stored as byte ordinals into the question's available
+ * answers, and the free text and score explanation are kept as UTF-8 bytes and only turned into Strings
+ * when read.
+ */
+public final class CompactSurveyResponseAnswer {
+
+    // Selections are ordinals when every one of them is an available answer and there are few enough
+    private static final int MAX_ORDINAL = Byte.MAX_VALUE;
+
+    private final String questionId;
+    private final String reference;
+    private final QuestionType type;
+    // Only set when the answer carried a type outside QuestionType, so it survives the round trip
+    private final String otherType;
+    // byte[] of ordinals into the available answers, String[] of literals, or null
+    private final Object selections;
+    private final byte[] text;
+    private final byte[] scoreExplanation;
+    private final int intAnswer;
+    private final double questionScore;
+
+    private CompactSurveyResponseAnswer(String questionId, String reference, QuestionType type, String otherType,
+                                        Object selections, byte[] text, byte[] scoreExplanation,
+                                        int intAnswer, double questionScore) {
+        this.questionId = questionId;
+        this.reference = reference;
+        this.type = type;
+        this.otherType = otherType;
+        this.selections = selections;
+        this.text = text;
+        this.scoreExplanation = scoreExplanation;
+        this.intAnswer = intAnswer;
+        this.questionScore = questionScore;
+    }
+
+    /**
+     * Compact an answer to the given question (may be null when the survey does not define it). Selections
+     * found in the question's available answers are encoded as ordinals; decode with the same options.
+     */
+    public static CompactSurveyResponseAnswer of(SurveyResponseAnswer answer, Question question) {
+        QuestionType type = QuestionType.fromValue(answer.getType());
+        String otherType = type == null ? answer.getType() : null;
+        String[] availableAnswers = question != null ? question.getAvailableAnswers() : null;
+        return new CompactSurveyResponseAnswer(
+                canonical(answer.getQuestionId(), question != null ? question.getId() : null),
+                canonical(answer.getReference(), question != null ? question.getReference() : null),
+                type, otherType, encodeSelections(answer.getArrayAnswer(), availableAnswers),
+                utf8(answer.getStringAnswer()), utf8(answer.getScoreExplanation()),
+                answer.getIntAnswer(), answer.getQuestionScore());
+    }
+
+    /**
+     * Materialize the answer again, resolving ordinal selections against the question's options.
+     */
+    public SurveyResponseAnswer toAnswer(String[] availableAnswers) {
+        SurveyResponseAnswer answer = new SurveyResponseAnswer();
+        answer.setQuestionId(questionId);
+        answer.setReference(reference);
+        answer.setType(getTypeValue());
+        answer.setArrayAnswer(getSelections(availableAnswers));
+        answer.setStringAnswer(getStringAnswer());
+        answer.setIntAnswer(intAnswer);
+        answer.setQuestionScore(questionScore);
+        answer.setScoreExplanation(getScoreExplanation());
+        return answer;
+    }
+
+    private static Object encodeSelections(String[] selected, String[] availableAnswers) {
+        if (selected == null) {
+            return null;
+        }
+        if (availableAnswers != null && availableAnswers.length <= MAX_ORDINAL) {
+            byte[] ordinals = new byte[selected.length];
+            boolean allFound = true;
+            for (int i = 0; i < selected.length && allFound; i++) {
+                int ordinal = indexOf(availableAnswers, selected[i]);
+                allFound = ordinal >= 0;
+                ordinals[i] = (byte) ordinal;
+            }
+            if (allFound) {
+                return ordinals;
+            }
+        }
+        return selected.clone();
+    }
+
+    private static int indexOf(String[] options, String value) {
+        if (value == null) {
+            return -1;
+        }
+        for (int i = 0; i < options.length; i++) {
+            if (value.equals(options[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The survey definition's String when the value equals it, otherwise the value itself.
+     */
+    static String canonical(String value, String defined) {
+        return defined != null && defined.equals(value) ? defined : value;
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static String string(byte[] utf8) {
+        return utf8 != null ? new String(utf8, StandardCharsets.UTF_8) : null;
+    }
+
+    public String getQuestionId() { return questionId; }
+    public String getReference() { return reference; }
+    public QuestionType getType() { return type; }
+    public String getTypeValue() { return type != null ? type.getValue() : otherType; }
+    public int getIntAnswer() { return intAnswer; }
+    public double getQuestionScore() { return questionScore; }
+
+    /** Decoded on every call; callers that read it repeatedly should keep the result. */
+    public String getStringAnswer() { return string(text); }
+    public String getScoreExplanation() { return string(scoreExplanation); }
+
+    /**
+     * The selected answers, resolving ordinals against the question's options.
+     */
+    public String[] getSelections(String[] availableAnswers) {
+        if (selections instanceof byte[] ordinals) {
+            String[] selected = new String[ordinals.length];
+            for (int i = 0; i < ordinals.length; i++) {
+                selected[i] = availableAnswers[ordinals[i]];
+            }
+            return selected;
+        }
+        return selections != null ? ((String[]) selections).clone() : null;
+    }
+
+    /**
+     * Ordinals of the selected answers in the question's options, or null when the selections are
+     * stored as literals (an answer outside the options) or absent.
+     */
+    public byte[] getSelectionOrdinals() {
+        return selections instanceof byte[] ordinals ? ordinals.clone() : null;
+    }
+}
@@ -0,0 +1,111 @@
+package com.serand.assessment.model;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Immutable mapping of pillar reference names to dense ordinals (0..size-1).
+ * Resolved once per company pillar configuration so per-answer aggregation can index
+ * primitive arrays instead of hashing into boxed maps. Layouts built with {@link #of} are interned by
+ * their ordered names, so every Scores of the same pillar configuration shares one instance (flyweight).
+ * Interned layouts are only weakly held and drop out once no Scores uses them.
+ */
+public final class PillarLayout {
+
+    // Ordered pillar names -> shared layout. The key is the layout's own name list, so an entry lives exactly
+    // as long as its layout is referenced from elsewhere
+    private static final Map<List<String>, WeakReference<PillarLayout>> INTERNED = new WeakHashMap<>();
+
+    // Answer references aggregated into the standard (non-custom) pillars
+    public static final int VALUES = 0;
+    public static final int CULTURE = 1;
+    public static final int WORKPLACE = 2;
+    public static final PillarLayout STANDARD = new PillarLayout(new String[]{"values", "culture", "workplace"});
+
+    private final String[] names;
+    private final List<String> nameList;
+    private final Map<String, Integer> ordinals;
+
+    private PillarLayout(String[] names) {
+        this.names = names;
+        this.nameList = List.of(names);
+        this.ordinals = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            ordinals.put(names[i], i);
+        }
+    }
+
+    /**
+     * The shared layout for custom pillars, in the iteration order of the given names.
+     */
+    public static PillarLayout of(Collection<String> pillarNames) {
+        List<String> names = List.copyOf(pillarNames);
+        synchronized (INTERNED) {
+            WeakReference<PillarLayout> reference = INTERNED.get(names);
+            PillarLayout layout = reference != null ? reference.get() : null;
+            if (layout == null) {
+                layout = new PillarLayout(names.toArray(new String[0]));
+                INTERNED.put(layout.nameList, new WeakReference<>(layout));
+            }
+            return layout;
+        }
+    }
+
+    /**
+     * This layout with one more pillar appended, or this layout if it already has the pillar. The result is
+     * not interned: layouts grown pillar by pillar from data stay local to their Scores or snapshot.
+     */
+    public PillarLayout with(String pillarName) {
+        if (ordinalOf(pillarName) >= 0) {
+            return this;
+        }
+        String[] extended = Arrays.copyOf(names, names.length + 1);
+        extended[names.length] = pillarName;
+        return new PillarLayout(extended);
+    }
+
+    static int internedCount() {
+        synchronized (INTERNED) {
+            return INTERNED.size();
+        }
+    }
+
+    /**
+     * Ordinal of a pillar reference, or -1 if it is not part of this layout.
+     */
+    public int ordinalOf(String reference) {
+        if (reference == null) {
+            return -1;
+        }
+        Integer ordinal = ordinals.get(reference);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    public String nameAt(int ordinal) {
+        return names[ordinal];
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Whether this layout covers exactly the pillar names of the given configuration.
+     */
+    public boolean hasSameNames(Map<String, ?> pillars) {
+        if (pillars.size() != names.length) {
+            return false;
+        }
+        for (String name : names) {
+            if (!pillars.containsKey(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
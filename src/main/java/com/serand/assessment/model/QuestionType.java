@@ -0,0 +1,44 @@
+package com.serand.assessment.model;
+
+/**
+ * Answer types a SurveyResponseAnswer can carry, with their wire values.
+ */
+public enum QuestionType {
+    MULTIPLE_CHOICE("multipleChoice"),
+    TEXT("text"),
+    CODING("coding");
+
+    private static final QuestionType[] VALUES = values();
+
+    private final String value;
+
+    QuestionType(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Multiple choice and coding answers are scored against an answer key; text answers by relevance.
+     */
+    public boolean isScoredByAnswerKey() {
+        return this == MULTIPLE_CHOICE || this == CODING;
+    }
+
+    /**
+     * The type with the given wire value, or null if the value is null or not a known type.
+     */
+    public static QuestionType fromValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (QuestionType type : VALUES) {
+            if (type.value.equals(value)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -1,29 +1,87 @@
 package com.serand.assessment.model;
 
-import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSetter;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
 
+/**
+ * Aggregated pillar scores for one application.
+ * Scores are kept in one dense vector: the standard pillars at fixed slots followed by one slot per
+ * custom pillar, ordered by a PillarLayout that is interned and so shared by every Scores of the same
+ * pillar configuration. Weightings and Pillars are references to the company's configuration, not copies.
+ * getCustomPillarScores and getCustomPillarAnswers are read-only views backed by the layout and the vector;
+ * getWorkLife returns a copy. The matching setters rebuild the vector, e.g. when Scores are read back from JSON.
+ * The weighted overall score is computed lazily and memoized; every setter on this class
+ * invalidates it. Callers that mutate a nested Weightings or Pillars instance in place
+ * must call {@link #recalculateOverallScore()} afterwards.
+ */
+// overallScore is written for readers of the JSON but always recomputed on the way back in
+@JsonIgnoreProperties(value = "overallScore", allowGetters = true)
 public class Scores {
-    private double values;
-    private double culture;
-    private double mindset;
-    private double growthMindset;
-    private WorkLife workLife;
-    private Map<String, Double> customPillarScores = new HashMap<>();
-    private Map<String, String[]> customPillarAnswers = new HashMap<>();
+
+    // Slots of the standard pillars in the score vector
+    public static final int VALUES = 0;
+    public static final int CULTURE = 1;
+    public static final int MINDSET = 2;
+    public static final int GROWTH_MINDSET = 3;
+    public static final int WORK_LIFE = 4;
+    public static final int WORK_LIFE_IMPACT = 5;
+    public static final int STANDARD_SLOTS = 6;
+
+    private static final PillarLayout NO_CUSTOM_PILLARS = PillarLayout.of(List.of());
+
+    private PillarLayout customPillarLayout = NO_CUSTOM_PILLARS;
+    // NaN in WORK_LIFE means no WorkLife was set; NaN in a custom slot means that pillar has no score
+    private double[] vector = standardVector();
+    // Indexed by custom pillar ordinal; allocated on first use
+    private String[][] customPillarAnswers;
     private Weightings weightings;
     private Pillars pillars;
-    
+    // NaN means "not computed"; transient so it is never persisted or serialized as state
+    private transient volatile double cachedOverallScore = Double.NaN;
+    // Views over the custom pillar slots; created on first use
+    private transient Map<String, Double> customPillarScoresView;
+    private transient Map<String, String[]> customPillarAnswersView;
+
+    public Scores() {
+    }
+
+    /**
+     * Scores with a slot per custom pillar of the layout already allocated, e.g. for a company's pillars.
+     */
+    public Scores(PillarLayout customPillarLayout) {
+        useCustomPillarLayout(customPillarLayout);
+    }
+
     public double getOverallScore() {
+        double overallScore = cachedOverallScore;
+        if (Double.isNaN(overallScore)) {
+            overallScore = computeOverallScore();
+            cachedOverallScore = overallScore;
+        }
+        return overallScore;
+    }
+    
+    private double computeOverallScore() {
         if (pillars != null && !pillars.getPillars().isEmpty()) {
             // Dynamic pillars calculation
             double totalScore = 0;
             double totalWeight = 0;
             for (Map.Entry<String, Double> pillar : pillars.getPillars().entrySet()) {
-                String pillarName = pillar.getKey();
-                Double weight = pillar.getValue();
-                Double score = customPillarScores.get(pillarName);
-                if (score != null) {
+                double score = getCustomPillarScore(pillar.getKey());
+                if (!Double.isNaN(score)) {
+                    Double weight = pillar.getValue();
                     totalScore += score * weight;
                     totalWeight += weight;
                 }
@@ -31,51 +89,290 @@ public class Scores {
             return totalWeight > 0 ? totalScore / totalWeight : 0;
         } else if (weightings != null) {
             // Standard pillars calculation
-            double workLifeScore = workLife != null ? workLife.getWorkLife() : 0;
-            return (values * weightings.getValues() + 
-                    culture * weightings.getCulture() + 
-                    mindset * weightings.getMindset() + 
-                    workLifeScore * weightings.getWorkLife()) / 
+            double workLifeScore = Double.isNaN(vector[WORK_LIFE]) ? 0 : vector[WORK_LIFE];
+            return (vector[VALUES] * weightings.getValues() +
+                    vector[CULTURE] * weightings.getCulture() +
+                    vector[MINDSET] * weightings.getMindset() +
+                    workLifeScore * weightings.getWorkLife()) /
                    (weightings.getValues() + weightings.getCulture() + 
                     weightings.getMindset() + weightings.getWorkLife());
         }
         return 0;
     }
     
+    /**
+     * Discard the memoized overall score and compute it again.
+     */
     public void recalculateOverallScore() {
-        // Triggers getOverallScore() logic
+        invalidateOverallScore();
+        getOverallScore();
     }
     
+    private void invalidateOverallScore() {
+        cachedOverallScore = Double.NaN;
+    }
+
+    /**
+     * Make room for the pillars of the given layout. Scores already recorded for pillars that are part of
+     * the new layout are kept; the others are dropped.
+     */
+    public void useCustomPillarLayout(PillarLayout layout) {
+        if (layout == customPillarLayout) {
+            return;
+        }
+        double[] resized = Arrays.copyOf(vector, STANDARD_SLOTS + layout.size());
+        Arrays.fill(resized, STANDARD_SLOTS, resized.length, Double.NaN);
+        String[][] answers = customPillarAnswers != null ? new String[layout.size()][] : null;
+        for (int ordinal = 0; ordinal < customPillarLayout.size(); ordinal++) {
+            int moved = layout.ordinalOf(customPillarLayout.nameAt(ordinal));
+            if (moved >= 0) {
+                resized[STANDARD_SLOTS + moved] = vector[STANDARD_SLOTS + ordinal];
+                if (answers != null) {
+                    answers[moved] = customPillarAnswers[ordinal];
+                }
+            }
+        }
+        customPillarLayout = layout;
+        vector = resized;
+        customPillarAnswers = answers;
+        invalidateOverallScore();
+    }
+
+    /**
+     * Record the score of a custom pillar by its ordinal in the current custom pillar layout.
+     */
+    public void setCustomPillarScore(int ordinal, double score) {
+        vector[STANDARD_SLOTS + ordinal] = score;
+        invalidateOverallScore();
+    }
+
     public void addCustomPillarScore(String pillarName, double score) {
-        customPillarScores.put(pillarName, score);
+        setCustomPillarScore(ordinalFor(pillarName), score);
     }
     
     public void addCustomPillarAnswers(String pillarName, String[] answers) {
-        customPillarAnswers.put(pillarName, answers);
+        int ordinal = ordinalFor(pillarName);
+        if (customPillarAnswers == null) {
+            customPillarAnswers = new String[customPillarLayout.size()][];
+        }
+        customPillarAnswers[ordinal] = answers;
+    }
+
+    /**
+     * Score of a custom pillar, or NaN if it has none.
+     */
+    public double getCustomPillarScore(String pillarName) {
+        int ordinal = customPillarLayout.ordinalOf(pillarName);
+        return ordinal >= 0 ? vector[STANDARD_SLOTS + ordinal] : Double.NaN;
+    }
+
+    // Ordinal of a custom pillar, extending the layout for a pillar it does not have yet
+    private int ordinalFor(String pillarName) {
+        int ordinal = customPillarLayout.ordinalOf(pillarName);
+        if (ordinal < 0) {
+            useCustomPillarLayout(customPillarLayout.with(pillarName));
+            ordinal = customPillarLayout.ordinalOf(pillarName);
+        }
+        return ordinal;
+    }
+
+    // Extend the layout once for all the given pillars it does not have yet, keeping its current pillars first
+    private void ensureCustomPillars(Collection<String> pillarNames) {
+        List<String> names = null;
+        for (String pillarName : pillarNames) {
+            if (customPillarLayout.ordinalOf(pillarName) < 0) {
+                if (names == null) {
+                    names = new ArrayList<>(customPillarLayout.size() + pillarNames.size());
+                    for (int ordinal = 0; ordinal < customPillarLayout.size(); ordinal++) {
+                        names.add(customPillarLayout.nameAt(ordinal));
+                    }
+                }
+                names.add(pillarName);
+            }
+        }
+        if (names != null) {
+            useCustomPillarLayout(PillarLayout.of(names));
+        }
+    }
+
+    /**
+     * The shared layout naming the custom pillar slots of {@link #scoreVector()}.
+     */
+    public PillarLayout customPillarLayout() {
+        return customPillarLayout;
+    }
+
+    /**
+     * Copy of the score vector: the standard slots (VALUES .. WORK_LIFE_IMPACT) followed by the custom
+     * pillars in customPillarLayout order. Absent custom pillars and an absent WorkLife are NaN.
+     */
+    public double[] scoreVector() {
+        return vector.clone();
+    }
+
+    private static double[] standardVector() {
+        double[] vector = new double[STANDARD_SLOTS];
+        vector[WORK_LIFE] = Double.NaN;
+        return vector;
     }
     
     // All getters and setters
-    public double getValues() { return values; }
-    public void setValues(double values) { this.values = values; }
-    
-    public double getCulture() { return culture; }
-    public void setCulture(double culture) { this.culture = culture; }
+    public double getValues() { return vector[VALUES]; }
+    public void setValues(double values) { vector[VALUES] = values; invalidateOverallScore(); }
     
-    public double getMindset() { return mindset; }
-    public void setMindset(double mindset) { this.mindset = mindset; }
+    public double getCulture() { return vector[CULTURE]; }
+    public void setCulture(double culture) { vector[CULTURE] = culture; invalidateOverallScore(); }
     
-    public double getGrowthMindset() { return growthMindset; }
-    public void setGrowthMindset(double growthMindset) { this.growthMindset = growthMindset; }
+    public double getMindset() { return vector[MINDSET]; }
+    public void setMindset(double mindset) { vector[MINDSET] = mindset; invalidateOverallScore(); }
     
-    public WorkLife getWorkLife() { return workLife; }
-    public void setWorkLife(WorkLife workLife) { this.workLife = workLife; }
+    public double getGrowthMindset() { return vector[GROWTH_MINDSET]; }
+    public void setGrowthMindset(double growthMindset) { vector[GROWTH_MINDSET] = growthMindset; }
+
+    /**
+     * A copy of the stored WorkLife, or null if none was set. It is not a view: changing it does not change
+     * these scores, so write changes back with setWorkLife.
+     */
+    public WorkLife getWorkLife() {
+        if (Double.isNaN(vector[WORK_LIFE])) {
+            return null;
+        }
+        WorkLife workLife = new WorkLife();
+        workLife.setWorkLife(vector[WORK_LIFE]);
+        workLife.setImpact(vector[WORK_LIFE_IMPACT]);
+        return workLife;
+    }
+
+    public void setWorkLife(WorkLife workLife) {
+        vector[WORK_LIFE] = workLife != null ? workLife.getWorkLife() : Double.NaN;
+        vector[WORK_LIFE_IMPACT] = workLife != null ? workLife.getImpact() : 0;
+        invalidateOverallScore();
+    }
     
     public Weightings getWeightings() { return weightings; }
-    public void setWeightings(Weightings weightings) { this.weightings = weightings; }
+    public void setWeightings(Weightings weightings) { this.weightings = weightings; invalidateOverallScore(); }
     
     public Pillars getPillars() { return pillars; }
-    public void setPillars(Pillars pillars) { this.pillars = pillars; }
+    public void setPillars(Pillars pillars) { this.pillars = pillars; invalidateOverallScore(); }
     
-    public Map<String, Double> getCustomPillarScores() { return customPillarScores; }
-    public Map<String, String[]> getCustomPillarAnswers() { return customPillarAnswers; }
-} 
\ No newline at end of file
+    /**
+     * Read-only view of the custom pillars that have a score, in layout order. It reflects later changes;
+     * use addCustomPillarScore or setCustomPillarScores to change it so the overall score is invalidated.
+     */
+    public Map<String, Double> getCustomPillarScores() {
+        if (customPillarScoresView == null) {
+            customPillarScoresView = new CustomPillarView<>(ordinal -> {
+                double score = vector[STANDARD_SLOTS + ordinal];
+                return Double.isNaN(score) ? null : score;
+            });
+        }
+        return customPillarScoresView;
+    }
+
+    /**
+     * Replace all custom pillar scores; pillars the layout does not have yet are appended to it.
+     */
+    @JsonSetter("customPillarScores")
+    public void setCustomPillarScores(Map<String, Double> scores) {
+        Arrays.fill(vector, STANDARD_SLOTS, vector.length, Double.NaN);
+        if (scores != null) {
+            ensureCustomPillars(scores.keySet());
+            scores.forEach((name, score) -> vector[STANDARD_SLOTS + customPillarLayout.ordinalOf(name)] =
+                    score != null ? score : Double.NaN);
+        }
+        invalidateOverallScore();
+    }
+
+    /**
+     * Read-only view of the custom pillars that have answers, in layout order. It reflects later changes.
+     */
+    public Map<String, String[]> getCustomPillarAnswers() {
+        if (customPillarAnswersView == null) {
+            customPillarAnswersView = new CustomPillarView<>(
+                    ordinal -> customPillarAnswers != null ? customPillarAnswers[ordinal] : null);
+        }
+        return customPillarAnswersView;
+    }
+
+    /**
+     * Replace all custom pillar answers; pillars the layout does not have yet are appended to it.
+     */
+    @JsonSetter("customPillarAnswers")
+    public void setCustomPillarAnswers(Map<String, String[]> answers) {
+        customPillarAnswers = null;
+        if (answers != null && !answers.isEmpty()) {
+            ensureCustomPillars(answers.keySet());
+            customPillarAnswers = new String[customPillarLayout.size()][];
+            answers.forEach((name, pillarAnswers) ->
+                    customPillarAnswers[customPillarLayout.ordinalOf(name)] = pillarAnswers);
+        }
+    }
+
+    /**
+     * Map over the custom pillar slots of the current layout, holding the pillars whose value is not null.
+     */
+    private final class CustomPillarView<V> extends AbstractMap<String, V> {
+        private final IntFunction<V> valueAt;
+
+        private CustomPillarView(IntFunction<V> valueAt) {
+            this.valueAt = valueAt;
+        }
+
+        @Override
+        public V get(Object key) {
+            int ordinal = key instanceof String name ? customPillarLayout.ordinalOf(name) : -1;
+            return ordinal >= 0 ? valueAt.apply(ordinal) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Set<Entry<String, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, V>> iterator() {
+                    return new Iterator<>() {
+                        private final PillarLayout layout = customPillarLayout;
+                        private int next = advance(0);
+
+                        private int advance(int from) {
+                            while (from < layout.size() && valueAt.apply(from) == null) {
+                                from++;
+                            }
+                            return from;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < layout.size();
+                        }
+
+                        @Override
+                        public Entry<String, V> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, V> entry = new SimpleImmutableEntry<>(layout.nameAt(next), valueAt.apply(next));
+                            next = advance(next + 1);
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int size = 0;
+                    for (int ordinal = 0; ordinal < customPillarLayout.size(); ordinal++) {
+                        if (valueAt.apply(ordinal) != null) {
+                            size++;
+                        }
+                    }
+                    return size;
+                }
+            };
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 public class Survey {
     private String id;
     private String name;
+    private long version;
     private List<Question> questions;
     private Company company;
     private PersonalityProfile personalityProfile;
@@ -16,6 +17,9 @@ public class Survey {
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
     
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+    
     public List<Question> getQuestions() { return questions; }
     public void setQuestions(List<Question> questions) { this.questions = questions; }
     
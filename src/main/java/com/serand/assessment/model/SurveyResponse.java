@@ -8,6 +8,8 @@ public class SurveyResponse {
     private Candidate candidate;
     private Application application;
     private Map<String, SurveyResponseAnswer> answerMap;
+    // Fingerprint of the MCQ answer keys the answers were scored against; null until scored
+    private Long answerKeyFingerprint;
     
     // Getters and setters
     public String getId() { return id; }
@@ -24,4 +26,7 @@ public class SurveyResponse {
     
     public Map<String, SurveyResponseAnswer> getAnswerMap() { return answerMap; }
     public void setAnswerMap(Map<String, SurveyResponseAnswer> answerMap) { this.answerMap = answerMap; }
+
+    public Long getAnswerKeyFingerprint() { return answerKeyFingerprint; }
+    public void setAnswerKeyFingerprint(Long answerKeyFingerprint) { this.answerKeyFingerprint = answerKeyFingerprint; }
 } 
\ No newline at end of file
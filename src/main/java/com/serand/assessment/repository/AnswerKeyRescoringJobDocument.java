@@ -0,0 +1,92 @@
+package com.serand.assessment.repository;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Progress and checkpoint of re-scoring a survey's MCQ answers after its answer keys changed. One job per
+ * survey (the id is the survey id). Responses not yet scored against answerKeyFingerprint are processed in
+ * _id order and lastResponseId is the last one written, so an interrupted job for the same answer keys
+ * resumes right after it. Responses whose application was scored or re-scored while the job read it are left
+ * unstamped and counted as skipped, so the next reload re-scores them if they still need it.
+ */
+@Document("answer_key_rescoring_jobs")
+public class AnswerKeyRescoringJobDocument {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        /** Stopped on an error; starting the job again for the same answer keys resumes from the checkpoint. */
+        FAILED
+    }
+
+    @Id
+    private String id;
+    private Status status;
+    private long surveyVersion;
+    private long answerKeyFingerprint;
+    private long responsesScanned;
+    private long answersChanged;
+    private long applicationsRecomposed;
+    private long responsesSkipped;
+    private String lastResponseId;
+    private Instant startedAt;
+    private Instant updatedAt;
+    private String lastError;
+
+    public AnswerKeyRescoringJobDocument copy() {
+        AnswerKeyRescoringJobDocument copy = new AnswerKeyRescoringJobDocument();
+        copy.id = id;
+        copy.status = status;
+        copy.surveyVersion = surveyVersion;
+        copy.answerKeyFingerprint = answerKeyFingerprint;
+        copy.responsesScanned = responsesScanned;
+        copy.answersChanged = answersChanged;
+        copy.applicationsRecomposed = applicationsRecomposed;
+        copy.responsesSkipped = responsesSkipped;
+        copy.lastResponseId = lastResponseId;
+        copy.startedAt = startedAt;
+        copy.updatedAt = updatedAt;
+        copy.lastError = lastError;
+        return copy;
+    }
+
+    // Getters and setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public long getSurveyVersion() { return surveyVersion; }
+    public void setSurveyVersion(long surveyVersion) { this.surveyVersion = surveyVersion; }
+
+    public long getAnswerKeyFingerprint() { return answerKeyFingerprint; }
+    public void setAnswerKeyFingerprint(long answerKeyFingerprint) { this.answerKeyFingerprint = answerKeyFingerprint; }
+
+    public long getResponsesScanned() { return responsesScanned; }
+    public void setResponsesScanned(long responsesScanned) { this.responsesScanned = responsesScanned; }
+
+    public long getAnswersChanged() { return answersChanged; }
+    public void setAnswersChanged(long answersChanged) { this.answersChanged = answersChanged; }
+
+    public long getApplicationsRecomposed() { return applicationsRecomposed; }
+    public void setApplicationsRecomposed(long applicationsRecomposed) { this.applicationsRecomposed = applicationsRecomposed; }
+
+    public long getResponsesSkipped() { return responsesSkipped; }
+    public void setResponsesSkipped(long responsesSkipped) { this.responsesSkipped = responsesSkipped; }
+
+    public String getLastResponseId() { return lastResponseId; }
+    public void setLastResponseId(String lastResponseId) { this.lastResponseId = lastResponseId; }
+
+    public Instant getStartedAt() { return startedAt; }
+    public void setStartedAt(Instant startedAt) { this.startedAt = startedAt; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+}
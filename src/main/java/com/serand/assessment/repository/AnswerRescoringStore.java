@@ -0,0 +1,38 @@
+package com.serand.assessment.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * RecompositionStore with the extra reads and writes the AnswerKeyRescoringService needs to re-score
+ * individual answers, and each survey's re-scoring job checkpoint.
+ */
+public interface AnswerRescoringStore extends RecompositionStore {
+
+    Optional<AnswerKeyRescoringJobDocument> findAnswerKeyJob(String surveyId);
+
+    void saveAnswerKeyJob(AnswerKeyRescoringJobDocument job);
+
+    /**
+     * Survey responses of a survey whose answers were not scored against the given answer keys (including
+     * responses stored without a fingerprint), in _id order after the given id (or from the start when null),
+     * with only applicationId and answerMap loaded. The stream is backed by a cursor and must be closed.
+     */
+    Stream<SurveyResponseDocument> streamSurveyResponses(String surveyId, long answerKeyFingerprint,
+                                                         String afterResponseId);
+
+    /**
+     * Applications by id with only _id, questionScores, cvScore, applicationOverallScore and scores loaded.
+     */
+    List<ApplicationDocument> findScoredApplications(Collection<String> applicationIds);
+
+    /**
+     * Record new scores on individual answers in one bulk operation: survey response id -> answer key -> score.
+     * Every response in the map, including those with no changed answer, is stamped with the answer keys'
+     * fingerprint.
+     */
+    void writeAnswerScores(Map<String, Map<String, Double>> answerScores, long answerKeyFingerprint);
+}
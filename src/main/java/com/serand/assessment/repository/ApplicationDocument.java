@@ -0,0 +1,65 @@
+package com.serand.assessment.repository;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Persisted shape of an Application. Candidate, survey and company are stored by id;
+ * the survey response lives in survey_responses. A pending atsPush is the ATS outbox entry for the
+ * application, written atomically with the scores it announces.
+ */
+@Document("applications")
+@CompoundIndex(name = "survey_score_candidate", def = "{'surveyId': 1, 'applicationOverallScore': -1, 'candidateId': 1}")
+@CompoundIndex(name = "company_complete", def = "{'companyId': 1, 'complete': 1}")
+@CompoundIndex(name = "company_id", def = "{'companyId': 1, '_id': 1}")
+@CompoundIndex(name = "ats_push_due", def = "{'atsPush.nextAttemptAt': 1}", partialFilter = "{'atsPush.status': 'PENDING'}")
+public class ApplicationDocument {
+    @Id
+    private String id;
+    private String candidateId;
+    private String surveyId;
+    private String companyId;
+    private String surveyResponseId;
+    private boolean complete;
+    private double applicationOverallScore;
+    // Null for applications saved before the CV score was stored; see PersistenceMapper.cvScoreOf
+    private Double cvScore;
+    private ScoresDocument scores;
+    private QuestionScores questionScores;
+    private AtsPushState atsPush;
+
+    // Getters and setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getCandidateId() { return candidateId; }
+    public void setCandidateId(String candidateId) { this.candidateId = candidateId; }
+
+    public String getSurveyId() { return surveyId; }
+    public void setSurveyId(String surveyId) { this.surveyId = surveyId; }
+
+    public String getCompanyId() { return companyId; }
+    public void setCompanyId(String companyId) { this.companyId = companyId; }
+
+    public String getSurveyResponseId() { return surveyResponseId; }
+    public void setSurveyResponseId(String surveyResponseId) { this.surveyResponseId = surveyResponseId; }
+
+    public boolean isComplete() { return complete; }
+    public void setComplete(boolean complete) { this.complete = complete; }
+
+    public double getApplicationOverallScore() { return applicationOverallScore; }
+    public void setApplicationOverallScore(double applicationOverallScore) { this.applicationOverallScore = applicationOverallScore; }
+
+    public Double getCvScore() { return cvScore; }
+    public void setCvScore(Double cvScore) { this.cvScore = cvScore; }
+
+    public ScoresDocument getScores() { return scores; }
+    public void setScores(ScoresDocument scores) { this.scores = scores; }
+
+    public QuestionScores getQuestionScores() { return questionScores; }
+    public void setQuestionScores(QuestionScores questionScores) { this.questionScores = questionScores; }
+
+    public AtsPushState getAtsPush() { return atsPush; }
+    public void setAtsPush(AtsPushState atsPush) { this.atsPush = atsPush; }
+}
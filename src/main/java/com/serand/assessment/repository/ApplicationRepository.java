@@ -0,0 +1,33 @@
+package com.serand.assessment.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ApplicationRepository
+        extends MongoRepository<ApplicationDocument, String>, ApplicationWriteRepository {
+
+    /**
+     * Highest-scoring applications for a survey. Filters, sorts and projects only indexed fields
+     * (with _id excluded), so MongoDB can answer it from the survey_score_candidate index alone.
+     */
+    @Query(value = "{ 'surveyId': ?0 }", fields = "{ '_id': 0, 'candidateId': 1, 'applicationOverallScore': 1 }",
+            sort = "{ 'applicationOverallScore': -1 }")
+    List<ApplicationScoreView> findTopScoresBySurveyId(String surveyId, Pageable pageable);
+
+    /**
+     * Scored applications of a survey with only the pillar scores, CV score and application score projected;
+     * weightings and pillars are needed to recover the CV score of applications stored without one.
+     * The stream is backed by a cursor and must be closed.
+     */
+    @Query(value = "{ 'surveyId': ?0, 'scores': { '$ne': null } }",
+            fields = "{ 'scores.values': 1, 'scores.culture': 1, 'scores.mindset': 1, 'scores.workLife': 1, "
+                    + "'scores.customPillarScores': 1, 'scores.weightings': 1, 'scores.pillars': 1, "
+                    + "'cvScore': 1, 'applicationOverallScore': 1 }")
+    Stream<ApplicationDocument> streamScoresBySurveyId(String surveyId);
+
+    long countByCompanyIdAndComplete(String companyId, boolean complete);
+}
@@ -0,0 +1,9 @@
+package com.serand.assessment.repository;
+
+/**
+ * Ranking projection of an application, served from the (surveyId, applicationOverallScore, candidateId) index.
+ */
+public interface ApplicationScoreView {
+    String getCandidateId();
+    double getApplicationOverallScore();
+}
@@ -0,0 +1,41 @@
+package com.serand.assessment.repository;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+/**
+ * Field-level upserts of application documents. Saving an application never replaces the whole document:
+ * once an atsPush outbox entry exists it belongs to the AtsOutboxDispatcher (attempts, nextAttemptAt,
+ * status), so atsPush is only written when a save marks the application's push pending.
+ */
+public final class ApplicationUpdates {
+
+    public static final String ATS_PUSH = "atsPush";
+
+    // Fields a save owns; a field absent from the converted document was null and is unset, as a replace would
+    private static final List<String> FIELDS = List.of("candidateId", "surveyId", "companyId", "surveyResponseId",
+            "complete", "applicationOverallScore", "cvScore", "scores", "questionScores");
+
+    private ApplicationUpdates() {
+    }
+
+    /**
+     * The upsert for an ApplicationDocument already converted to BSON by the MongoConverter.
+     */
+    public static Update upsertOf(Document converted) {
+        Update update = new Update();
+        for (String field : FIELDS) {
+            if (converted.containsKey(field)) {
+                update.set(field, converted.get(field));
+            } else {
+                update.unset(field);
+            }
+        }
+        if (converted.get(ATS_PUSH) != null) {
+            update.set(ATS_PUSH, converted.get(ATS_PUSH));
+        }
+        return update;
+    }
+}
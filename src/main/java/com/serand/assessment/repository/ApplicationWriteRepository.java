@@ -0,0 +1,13 @@
+package com.serand.assessment.repository;
+
+/**
+ * Writes to the applications collection that must leave the ATS outbox state alone.
+ */
+public interface ApplicationWriteRepository {
+
+    /**
+     * Insert or update an application field by field; see {@link ApplicationUpdates}.
+     * The document must already have an id.
+     */
+    void upsertFields(ApplicationDocument document);
+}
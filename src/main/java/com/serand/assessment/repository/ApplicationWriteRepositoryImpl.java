@@ -0,0 +1,26 @@
+package com.serand.assessment.repository;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * ApplicationWriteRepository fragment of ApplicationRepository.
+ */
+public class ApplicationWriteRepositoryImpl implements ApplicationWriteRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public ApplicationWriteRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void upsertFields(ApplicationDocument document) {
+        Document converted = new Document();
+        mongoTemplate.getConverter().write(document, converted);
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(document.getId())),
+                ApplicationUpdates.upsertOf(converted), ApplicationDocument.class);
+    }
+}
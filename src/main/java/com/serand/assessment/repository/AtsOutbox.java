@@ -0,0 +1,22 @@
+package com.serand.assessment.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Pending ATS score pushes, recorded together with the application write and drained by the AtsOutboxDispatcher.
+ */
+public interface AtsOutbox {
+
+    /**
+     * Pending pushes whose next attempt is due, oldest first.
+     */
+    List<AtsOutboxEntry> findDue(Instant now, int limit);
+
+    void markDelivered(Collection<AtsOutboxEntry> entries);
+
+    void scheduleRetry(AtsOutboxEntry entry, Instant nextAttemptAt, String error);
+
+    void markFailed(AtsOutboxEntry entry, String error);
+}
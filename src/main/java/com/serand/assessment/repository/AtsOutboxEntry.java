@@ -0,0 +1,12 @@
+package com.serand.assessment.repository;
+
+import com.serand.assessment.dto.AtsScorePush;
+
+import java.time.Instant;
+
+/**
+ * A due ATS push, the number of delivery attempts already made and the due time it was read with.
+ * The due time identifies this version of the push: a re-score writes a new one.
+ */
+public record AtsOutboxEntry(AtsScorePush push, int attempts, Instant dueAt) {
+}
@@ -0,0 +1,41 @@
+package com.serand.assessment.repository;
+
+import java.time.Instant;
+
+/**
+ * Delivery state of an application's ATS score push, embedded in the application document.
+ */
+public class AtsPushState {
+
+    public enum Status {
+        PENDING,
+        DELIVERED,
+        /** Gave up after the configured number of attempts. */
+        FAILED
+    }
+
+    private Status status;
+    private int attempts;
+    private Instant nextAttemptAt;
+    private String lastError;
+
+    public static AtsPushState pending(Instant now) {
+        AtsPushState state = new AtsPushState();
+        state.setStatus(Status.PENDING);
+        state.setNextAttemptAt(now);
+        return state;
+    }
+
+    // Getters and setters
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public Instant getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(Instant nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+}
@@ -0,0 +1,6 @@
+package com.serand.assessment.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface CandidateRepository extends MongoRepository<CandidateDocument, String> {
+}
@@ -0,0 +1,43 @@
+package com.serand.assessment.repository;
+
+import com.serand.assessment.model.Pillars;
+import com.serand.assessment.model.ValuesAnswer;
+import com.serand.assessment.model.Weightings;
+import com.serand.assessment.model.WorkLifeBenefitsImpactDTO;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.List;
+
+/**
+ * Persisted shape of a Company.
+ */
+@Document("companies")
+public class CompanyDocument {
+    @Id
+    private String id;
+    private List<ValuesAnswer> valuesAnswers;
+    private String[] culture;
+    private WorkLifeBenefitsImpactDTO workLifeBenefitsImpact;
+    private Weightings weightings;
+    private Pillars pillars;
+
+    // Getters and setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public List<ValuesAnswer> getValuesAnswers() { return valuesAnswers; }
+    public void setValuesAnswers(List<ValuesAnswer> valuesAnswers) { this.valuesAnswers = valuesAnswers; }
+
+    public String[] getCulture() { return culture; }
+    public void setCulture(String[] culture) { this.culture = culture; }
+
+    public WorkLifeBenefitsImpactDTO getWorkLifeBenefitsImpact() { return workLifeBenefitsImpact; }
+    public void setWorkLifeBenefitsImpact(WorkLifeBenefitsImpactDTO workLifeBenefitsImpact) { this.workLifeBenefitsImpact = workLifeBenefitsImpact; }
+
+    public Weightings getWeightings() { return weightings; }
+    public void setWeightings(Weightings weightings) { this.weightings = weightings; }
+
+    public Pillars getPillars() { return pillars; }
+    public void setPillars(Pillars pillars) { this.pillars = pillars; }
+}
@@ -0,0 +1,19 @@
+package com.serand.assessment.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CompanyRepository extends MongoRepository<CompanyDocument, String> {
+
+    /**
+     * Load only the fields needed to score and compose a response for the company.
+     */
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'valuesAnswers': 1, 'culture': 1, 'weightings': 1, 'pillars': 1 }")
+    Optional<CompanyDocument> findScoringViewById(String id);
+
+    @Query(value = "{}", fields = "{ 'valuesAnswers': 1, 'culture': 1, 'weightings': 1, 'pillars': 1 }")
+    List<CompanyDocument> findAllScoringViews();
+}
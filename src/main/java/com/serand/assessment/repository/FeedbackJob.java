@@ -0,0 +1,7 @@
+package com.serand.assessment.repository;
+
+/**
+ * A claimed feedback job: generate feedback for one candidate on one survey.
+ */
+public record FeedbackJob(String id, String candidateId, String surveyId, int priority, int attempts) {
+}
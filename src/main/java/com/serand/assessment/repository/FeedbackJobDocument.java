@@ -0,0 +1,67 @@
+package com.serand.assessment.repository;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Persisted candidate feedback generation job. At most one job per candidate/survey is pending at a time.
+ */
+@Document("feedback_jobs")
+@CompoundIndex(name = "pending_candidate_survey", def = "{'candidateId': 1, 'surveyId': 1}", unique = true,
+        partialFilter = "{'status': 'PENDING'}")
+@CompoundIndex(name = "status_priority_enqueued", def = "{'status': 1, 'priority': -1, 'enqueuedAt': 1}")
+public class FeedbackJobDocument {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        /** Gave up after the configured number of attempts. */
+        FAILED
+    }
+
+    @Id
+    private String id;
+    private String candidateId;
+    private String surveyId;
+    private int priority;
+    private Status status;
+    private int attempts;
+    private Instant enqueuedAt;
+    private Instant nextAttemptAt;
+    private Instant leaseUntil;
+    private String lastError;
+
+    // Getters and setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getCandidateId() { return candidateId; }
+    public void setCandidateId(String candidateId) { this.candidateId = candidateId; }
+
+    public String getSurveyId() { return surveyId; }
+    public void setSurveyId(String surveyId) { this.surveyId = surveyId; }
+
+    public int getPriority() { return priority; }
+    public void setPriority(int priority) { this.priority = priority; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public Instant getEnqueuedAt() { return enqueuedAt; }
+    public void setEnqueuedAt(Instant enqueuedAt) { this.enqueuedAt = enqueuedAt; }
+
+    public Instant getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(Instant nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+
+    public Instant getLeaseUntil() { return leaseUntil; }
+    public void setLeaseUntil(Instant leaseUntil) { this.leaseUntil = leaseUntil; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+}
@@ -0,0 +1,30 @@
+package com.serand.assessment.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Durable, prioritized queue of candidate feedback jobs, consumed by the FeedbackJobWorker.
+ */
+public interface FeedbackJobStore {
+
+    /**
+     * Queue feedback for a candidate/survey. A repeat request while a job for the same pair is still
+     * pending is merged into it, keeping the higher priority.
+     */
+    void enqueue(String candidateId, String surveyId, int priority, Instant now);
+
+    /**
+     * Claim up to limit due jobs, highest priority first, then oldest first. Claimed jobs are leased
+     * for leaseDuration; jobs whose lease expired (e.g. the worker died) can be claimed again.
+     */
+    List<FeedbackJob> claim(int limit, Instant now, Duration leaseDuration);
+
+    void complete(Collection<FeedbackJob> jobs);
+
+    void scheduleRetry(FeedbackJob job, Instant nextAttemptAt, String error);
+
+    void markFailed(FeedbackJob job, String error);
+}
@@ -0,0 +1,82 @@
+package com.serand.assessment.repository;
+
+import com.serand.assessment.dto.AtsScorePush;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * AtsOutbox over the atsPush sub-document of the applications collection, served by the ats_push_due index.
+ */
+@Component
+public class MongoAtsOutbox implements AtsOutbox {
+
+    private static final String STATUS = "atsPush.status";
+    private static final String ATTEMPTS = "atsPush.attempts";
+    private static final String NEXT_ATTEMPT_AT = "atsPush.nextAttemptAt";
+    private static final String LAST_ERROR = "atsPush.lastError";
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoAtsOutbox(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<AtsOutboxEntry> findDue(Instant now, int limit) {
+        Query query = Query.query(Criteria.where(STATUS).is(AtsPushState.Status.PENDING.name())
+                        .and(NEXT_ATTEMPT_AT).lte(now))
+                .with(Sort.by(NEXT_ATTEMPT_AT))
+                .limit(limit);
+        query.fields().include("candidateId", "surveyId", "companyId", "applicationOverallScore", "atsPush");
+        List<AtsOutboxEntry> entries = new ArrayList<>();
+        for (ApplicationDocument document : mongoTemplate.find(query, ApplicationDocument.class)) {
+            AtsScorePush push = new AtsScorePush(document.getId(), document.getCandidateId(), document.getSurveyId(),
+                    document.getCompanyId(), document.getApplicationOverallScore());
+            AtsPushState state = document.getAtsPush();
+            entries.add(new AtsOutboxEntry(push, state.getAttempts(), state.getNextAttemptAt()));
+        }
+        return entries;
+    }
+
+    @Override
+    public void markDelivered(Collection<AtsOutboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Criteria[] versions = entries.stream().map(MongoAtsOutbox::version).toArray(Criteria[]::new);
+        mongoTemplate.updateMulti(Query.query(new Criteria().orOperator(versions)),
+                new Update().set(STATUS, AtsPushState.Status.DELIVERED.name()).unset(LAST_ERROR),
+                ApplicationDocument.class);
+    }
+
+    @Override
+    public void scheduleRetry(AtsOutboxEntry entry, Instant nextAttemptAt, String error) {
+        mongoTemplate.updateFirst(Query.query(version(entry)),
+                new Update().set(ATTEMPTS, entry.attempts() + 1).set(NEXT_ATTEMPT_AT, nextAttemptAt).set(LAST_ERROR, error),
+                ApplicationDocument.class);
+    }
+
+    @Override
+    public void markFailed(AtsOutboxEntry entry, String error) {
+        mongoTemplate.updateFirst(Query.query(version(entry)),
+                new Update().set(STATUS, AtsPushState.Status.FAILED.name()).set(ATTEMPTS, entry.attempts() + 1)
+                        .set(LAST_ERROR, error),
+                ApplicationDocument.class);
+    }
+
+    // Match only the version of the push that was read, so a newer push written by a re-score is left pending
+    private static Criteria version(AtsOutboxEntry entry) {
+        return Criteria.where("_id").is(entry.push().getApplicationId())
+                .and(STATUS).is(AtsPushState.Status.PENDING.name())
+                .and(NEXT_ATTEMPT_AT).is(entry.dueAt());
+    }
+}
@@ -0,0 +1,103 @@
+package com.serand.assessment.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * FeedbackJobStore over the feedback_jobs collection. De-duplication relies on the unique
+ * pending_candidate_survey index; claims use findAndModify so concurrent workers never share a job.
+ */
+@Component
+public class MongoFeedbackJobStore implements FeedbackJobStore {
+
+    private static final String PENDING = FeedbackJobDocument.Status.PENDING.name();
+    private static final String RUNNING = FeedbackJobDocument.Status.RUNNING.name();
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoFeedbackJobStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void enqueue(String candidateId, String surveyId, int priority, Instant now) {
+        Query pendingJob = Query.query(Criteria.where("candidateId").is(candidateId)
+                .and("surveyId").is(surveyId)
+                .and("status").is(PENDING));
+        Update update = new Update()
+                .max("priority", priority)
+                .setOnInsert("attempts", 0)
+                .setOnInsert("enqueuedAt", now)
+                .setOnInsert("nextAttemptAt", now);
+        try {
+            mongoTemplate.upsert(pendingJob, update, FeedbackJobDocument.class);
+        } catch (DuplicateKeyException e) {
+            // A concurrent request inserted the pending job first; merge into it
+            mongoTemplate.updateFirst(pendingJob, update, FeedbackJobDocument.class);
+        }
+    }
+
+    @Override
+    public List<FeedbackJob> claim(int limit, Instant now, Duration leaseDuration) {
+        Query due = Query.query(new Criteria().orOperator(
+                        Criteria.where("status").is(PENDING).and("nextAttemptAt").lte(now),
+                        Criteria.where("status").is(RUNNING).and("leaseUntil").lte(now)))
+                .with(Sort.by(Sort.Order.desc("priority"), Sort.Order.asc("enqueuedAt")));
+        Update lease = new Update().set("status", RUNNING).set("leaseUntil", now.plus(leaseDuration));
+        List<FeedbackJob> claimed = new ArrayList<>(limit);
+        while (claimed.size() < limit) {
+            FeedbackJobDocument document = mongoTemplate.findAndModify(due, lease,
+                    FindAndModifyOptions.options().returnNew(true), FeedbackJobDocument.class);
+            if (document == null) {
+                break;
+            }
+            claimed.add(new FeedbackJob(document.getId(), document.getCandidateId(), document.getSurveyId(),
+                    document.getPriority(), document.getAttempts()));
+        }
+        return claimed;
+    }
+
+    @Override
+    public void complete(Collection<FeedbackJob> jobs) {
+        List<String> ids = jobs.stream().map(FeedbackJob::id).toList();
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), FeedbackJobDocument.class);
+    }
+
+    @Override
+    public void scheduleRetry(FeedbackJob job, Instant nextAttemptAt, String error) {
+        Update update = new Update()
+                .set("status", PENDING)
+                .set("attempts", job.attempts() + 1)
+                .set("nextAttemptAt", nextAttemptAt)
+                .set("lastError", error)
+                .unset("leaseUntil");
+        try {
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(job.id())), update, FeedbackJobDocument.class);
+        } catch (DuplicateKeyException e) {
+            // A newer request for the same candidate/survey is already pending and will cover this one
+            mongoTemplate.remove(Query.query(Criteria.where("_id").is(job.id())), FeedbackJobDocument.class);
+        }
+    }
+
+    @Override
+    public void markFailed(FeedbackJob job, String error) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(job.id())),
+                new Update().set("status", FeedbackJobDocument.Status.FAILED.name())
+                        .set("attempts", job.attempts() + 1)
+                        .set("lastError", error)
+                        .unset("leaseUntil"),
+                FeedbackJobDocument.class);
+    }
+}
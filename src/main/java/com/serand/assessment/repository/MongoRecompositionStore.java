@@ -0,0 +1,186 @@
+package com.serand.assessment.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * AnswerRescoringStore over the applications, survey_responses, recomposition_jobs and
+ * answer_key_rescoring_jobs collections.
+ * Scores are written field by field, so anything else stored under scores (e.g. customPillarAnswers) is kept,
+ * and only to applications still holding the overall and question scores they were computed from.
+ */
+@Component
+public class MongoRecompositionStore implements AnswerRescoringStore {
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoRecompositionStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<RecompositionJobDocument> findJob(String companyId) {
+        return Optional.ofNullable(mongoTemplate.findById(companyId, RecompositionJobDocument.class));
+    }
+
+    @Override
+    public void saveJob(RecompositionJobDocument job) {
+        mongoTemplate.save(job);
+    }
+
+    @Override
+    public Optional<AnswerKeyRescoringJobDocument> findAnswerKeyJob(String surveyId) {
+        return Optional.ofNullable(mongoTemplate.findById(surveyId, AnswerKeyRescoringJobDocument.class));
+    }
+
+    @Override
+    public void saveAnswerKeyJob(AnswerKeyRescoringJobDocument job) {
+        mongoTemplate.save(job);
+    }
+
+    @Override
+    public long countScoredApplications(String companyId) {
+        return mongoTemplate.count(scoredApplications(companyId), ApplicationDocument.class);
+    }
+
+    @Override
+    public Stream<ApplicationDocument> streamScoredApplications(String companyId, String afterApplicationId) {
+        Query query = scoredApplications(companyId);
+        if (afterApplicationId != null) {
+            query.addCriteria(Criteria.where("_id").gt(afterApplicationId));
+        }
+        query.with(Sort.by("_id"));
+        query.fields().include("questionScores", "cvScore", "applicationOverallScore", "scores");
+        return mongoTemplate.stream(query, ApplicationDocument.class);
+    }
+
+    @Override
+    public Set<String> writeScores(Collection<RecomposedScores> results) {
+        if (results.isEmpty()) {
+            return Set.of();
+        }
+        Instant now = Instant.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ApplicationDocument.class);
+        for (RecomposedScores result : results) {
+            ScoresDocument scores = result.scores();
+            Update update = new Update()
+                    .set("scores.values", scores.getValues())
+                    .set("scores.culture", scores.getCulture())
+                    .set("scores.mindset", scores.getMindset())
+                    .set("scores.growthMindset", scores.getGrowthMindset())
+                    .set("scores.workLife", scores.getWorkLife())
+                    .set("scores.customPillarScores", scores.getCustomPillarScores())
+                    .set("scores.weightings", scores.getWeightings())
+                    .set("scores.pillars", scores.getPillars())
+                    .set("applicationOverallScore", result.applicationOverallScore())
+                    .set("cvScore", result.cvScore());
+            if (result.questionScores() != null) {
+                update.set("questionScores", result.questionScores());
+            }
+            if (result.changed()) {
+                update.set("atsPush", AtsPushState.pending(now));
+            }
+            bulk.updateOne(asRead(result), update);
+        }
+        int matched = bulk.execute().getMatchedCount();
+        return matched == results.size() ? Set.of() : notWritten(results);
+    }
+
+    @Override
+    public Stream<SurveyResponseDocument> streamSurveyResponses(String surveyId, long answerKeyFingerprint,
+                                                                String afterResponseId) {
+        Query query = Query.query(Criteria.where("surveyId").is(surveyId)
+                .and("answerKeyFingerprint").ne(answerKeyFingerprint));
+        if (afterResponseId != null) {
+            query.addCriteria(Criteria.where("_id").gt(afterResponseId));
+        }
+        query.with(Sort.by("_id"));
+        query.fields().include("applicationId", "answerMap");
+        return mongoTemplate.stream(query, SurveyResponseDocument.class);
+    }
+
+    @Override
+    public List<ApplicationDocument> findScoredApplications(Collection<String> applicationIds) {
+        Query query = Query.query(Criteria.where("_id").in(applicationIds).and("questionScores").ne(null));
+        query.fields().include("questionScores", "cvScore", "applicationOverallScore", "scores");
+        return mongoTemplate.find(query, ApplicationDocument.class);
+    }
+
+    @Override
+    public void writeAnswerScores(Map<String, Map<String, Double>> answerScores, long answerKeyFingerprint) {
+        if (answerScores.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SurveyResponseDocument.class);
+        answerScores.forEach((responseId, scores) -> {
+            Update update = new Update().set("answerKeyFingerprint", answerKeyFingerprint);
+            scores.forEach((answerKey, score) -> update.set("answerMap." + answerKey + ".questionScore", score));
+            bulk.updateOne(Query.query(Criteria.where("_id").is(responseId)), update);
+        });
+        bulk.execute();
+    }
+
+    /**
+     * The application in the state its new scores were computed from. The question ids and scores arrays are
+     * compared rather than the questionScores sub-document, whose field order is not part of the match.
+     */
+    private static Query asRead(RecomposedScores result) {
+        QuestionScores read = result.readQuestionScores();
+        return Query.query(Criteria.where("_id").is(result.applicationId())
+                .and("applicationOverallScore").is(result.readOverallScore())
+                .and("questionScores.questionIds").is(Arrays.asList(read.getQuestionIds()))
+                .and("questionScores.scores").is(Arrays.stream(read.getScores()).boxed().toList()));
+    }
+
+    /**
+     * Applications of a partly matched bulk write that do not hold their new scores, i.e. were written by
+     * someone else after they were read (or deleted).
+     */
+    private Set<String> notWritten(Collection<RecomposedScores> results) {
+        List<String> applicationIds = results.stream().map(RecomposedScores::applicationId).toList();
+        Query query = Query.query(Criteria.where("_id").in(applicationIds));
+        query.fields().include("applicationOverallScore", "questionScores");
+        Map<String, ApplicationDocument> stored = new HashMap<>();
+        for (ApplicationDocument document : mongoTemplate.find(query, ApplicationDocument.class)) {
+            stored.put(document.getId(), document);
+        }
+        Set<String> missed = new HashSet<>();
+        for (RecomposedScores result : results) {
+            if (!holds(stored.get(result.applicationId()), result)) {
+                missed.add(result.applicationId());
+            }
+        }
+        return missed;
+    }
+
+    private static boolean holds(ApplicationDocument document, RecomposedScores result) {
+        if (document == null || document.getQuestionScores() == null
+                || Double.compare(document.getApplicationOverallScore(), result.applicationOverallScore()) != 0) {
+            return false;
+        }
+        QuestionScores written = result.questionScores() != null ? result.questionScores()
+                : result.readQuestionScores();
+        return Arrays.equals(document.getQuestionScores().getQuestionIds(), written.getQuestionIds())
+                && Arrays.equals(document.getQuestionScores().getScores(), written.getScores());
+    }
+
+    private static Query scoredApplications(String companyId) {
+        return Query.query(Criteria.where("companyId").is(companyId).and("questionScores").ne(null));
+    }
+}
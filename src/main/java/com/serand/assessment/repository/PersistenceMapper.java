@@ -0,0 +1,150 @@
+package com.serand.assessment.repository;
+
+import com.serand.assessment.model.*;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+
+/**
+ * Converts between the in-memory model graph and the persisted documents.
+ * References between aggregates are stored as ids, which also breaks the
+ * Application -> SurveyResponse -> Application cycle of the model.
+ */
+public final class PersistenceMapper {
+
+    private PersistenceMapper() {
+    }
+
+    public static ApplicationDocument toDocument(Application application) {
+        ApplicationDocument document = new ApplicationDocument();
+        document.setId(application.getId());
+        document.setCandidateId(idOf(application.getCandidate()));
+        document.setSurveyId(application.getSurvey() != null ? application.getSurvey().getId() : null);
+        document.setCompanyId(application.getCompany() != null ? application.getCompany().getId() : null);
+        document.setComplete(application.isComplete());
+        document.setApplicationOverallScore(application.getApplicationOverallScore());
+        document.setCvScore(application.getCvScore());
+        document.setScores(application.getScores() != null ? toDocument(application.getScores()) : null);
+        if (application.isAtsPushPending()) {
+            document.setAtsPush(AtsPushState.pending(Instant.now()));
+        }
+        SurveyResponse response = application.getCandidateResponse();
+        if (response != null) {
+            document.setSurveyResponseId(response.getId());
+            if (response.getAnswerMap() != null) {
+                document.setQuestionScores(QuestionScores.from(response.getAnswerMap()));
+            }
+        }
+        return document;
+    }
+
+    public static ScoresDocument toDocument(Scores scores) {
+        ScoresDocument document = new ScoresDocument();
+        document.setValues(scores.getValues());
+        document.setCulture(scores.getCulture());
+        document.setMindset(scores.getMindset());
+        document.setGrowthMindset(scores.getGrowthMindset());
+        document.setWorkLife(scores.getWorkLife());
+        // Copies: the Scores getters are views that follow later changes to the scores
+        document.setCustomPillarScores(new LinkedHashMap<>(scores.getCustomPillarScores()));
+        document.setCustomPillarAnswers(new LinkedHashMap<>(scores.getCustomPillarAnswers()));
+        document.setWeightings(scores.getWeightings());
+        document.setPillars(scores.getPillars());
+        return document;
+    }
+
+    public static SurveyResponseDocument toDocument(SurveyResponse response) {
+        SurveyResponseDocument document = new SurveyResponseDocument();
+        document.setId(response.getId());
+        document.setSurveyId(response.getSurvey() != null ? response.getSurvey().getId() : null);
+        document.setCandidateId(idOf(response.getCandidate()));
+        document.setApplicationId(response.getApplication() != null ? response.getApplication().getId() : null);
+        document.setAnswerMap(response.getAnswerMap());
+        document.setAnswerKeyFingerprint(response.getAnswerKeyFingerprint());
+        return document;
+    }
+
+    public static CandidateDocument toDocument(Candidate candidate) {
+        CandidateDocument document = new CandidateDocument();
+        document.setId(candidate.getId());
+        document.setEmail(candidate.getEmail());
+        document.setFirstName(candidate.getFirstName());
+        document.setLastName(candidate.getLastName());
+        document.setCvScoreMap(candidate.getCvScoreMap());
+        document.setSurveyScore(candidate.getSurveyScore());
+        document.setOverallScoreMap(candidate.getOverallScoreMap());
+        document.setOverallScore(candidate.getOverallScore());
+        return document;
+    }
+
+    public static Candidate toModel(CandidateDocument document) {
+        Candidate candidate = new Candidate();
+        candidate.setId(document.getId());
+        candidate.setEmail(document.getEmail());
+        candidate.setFirstName(document.getFirstName());
+        candidate.setLastName(document.getLastName());
+        candidate.setCvScoreMap(document.getCvScoreMap());
+        candidate.setSurveyScore(document.getSurveyScore());
+        candidate.setOverallScoreMap(document.getOverallScoreMap());
+        candidate.setOverallScore(document.getOverallScore());
+        return candidate;
+    }
+
+    public static Scores toModel(ScoresDocument document) {
+        Scores scores = new Scores();
+        scores.setValues(document.getValues());
+        scores.setCulture(document.getCulture());
+        scores.setMindset(document.getMindset());
+        scores.setGrowthMindset(document.getGrowthMindset());
+        scores.setWorkLife(document.getWorkLife());
+        scores.setCustomPillarScores(document.getCustomPillarScores());
+        scores.setCustomPillarAnswers(document.getCustomPillarAnswers());
+        scores.setWeightings(document.getWeightings());
+        scores.setPillars(document.getPillars());
+        return scores;
+    }
+
+    /**
+     * The CV score the application was scored with. Applications saved before it was stored have no
+     * cvScore, so it is recovered from the stored scores: applicationOverallScore averages the pillar
+     * overall score with a positive CV score and equals it otherwise. Needs applicationOverallScore and
+     * the stored scores (including weightings and pillars) to be loaded.
+     */
+    public static double cvScoreOf(ApplicationDocument document) {
+        if (document.getCvScore() != null) {
+            return document.getCvScore();
+        }
+        if (document.getScores() == null) {
+            return 0;
+        }
+        double surveyScore = toModel(document.getScores()).getOverallScore();
+        double cvScore = 2 * document.getApplicationOverallScore() - surveyScore;
+        return Math.abs(document.getApplicationOverallScore() - surveyScore) > 1e-9 && cvScore > 0 ? cvScore : 0;
+    }
+
+    public static Company toModel(CompanyDocument document) {
+        Company company = new Company();
+        company.setId(document.getId());
+        company.setValuesAnswers(document.getValuesAnswers());
+        company.setCulture(document.getCulture());
+        company.setWorkLifeBenefitsImpact(document.getWorkLifeBenefitsImpact());
+        company.setWeightings(document.getWeightings());
+        company.setPillars(document.getPillars());
+        return company;
+    }
+
+    public static Survey toModel(SurveyDocument document, Company company) {
+        Survey survey = new Survey();
+        survey.setId(document.getId());
+        survey.setName(document.getName());
+        survey.setVersion(document.getVersion());
+        survey.setQuestions(document.getQuestions());
+        survey.setPersonalityProfile(document.getPersonalityProfile());
+        survey.setCompany(company);
+        return survey;
+    }
+
+    private static String idOf(Candidate candidate) {
+        return candidate != null ? candidate.getId() : null;
+    }
+}
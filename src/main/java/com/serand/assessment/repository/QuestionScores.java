@@ -0,0 +1,85 @@
+package com.serand.assessment.repository;
+
+import com.serand.assessment.model.SurveyResponseAnswer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-question scores of one application stored as parallel arrays
+ * (one BSON array each instead of one sub-document per answer).
+ */
+public class QuestionScores {
+    private String[] questionIds;
+    private String[] references;
+    private double[] scores;
+
+    public QuestionScores() {
+    }
+
+    public QuestionScores(String[] questionIds, String[] references, double[] scores) {
+        this.questionIds = questionIds;
+        this.references = references;
+        this.scores = scores;
+    }
+
+    /**
+     * Capture the scored answers of a response, skipping personal info and non-question entries.
+     */
+    public static QuestionScores from(Map<String, SurveyResponseAnswer> answersMap) {
+        int count = 0;
+        for (Map.Entry<String, SurveyResponseAnswer> entry : answersMap.entrySet()) {
+            if (isScoredAnswer(entry)) {
+                count++;
+            }
+        }
+        String[] questionIds = new String[count];
+        String[] references = new String[count];
+        double[] scores = new double[count];
+        int i = 0;
+        for (Map.Entry<String, SurveyResponseAnswer> entry : answersMap.entrySet()) {
+            if (isScoredAnswer(entry)) {
+                SurveyResponseAnswer answer = entry.getValue();
+                questionIds[i] = answer.getQuestionId();
+                references[i] = answer.getReference();
+                scores[i] = answer.getQuestionScore();
+                i++;
+            }
+        }
+        return new QuestionScores(questionIds, references, scores);
+    }
+
+    /**
+     * Rebuild the scored answers with just the fields pillar aggregation reads (question id, reference, score).
+     */
+    public Map<String, SurveyResponseAnswer> toAnswerMap() {
+        Map<String, SurveyResponseAnswer> answersMap = new LinkedHashMap<>();
+        for (int i = 0; i < size(); i++) {
+            SurveyResponseAnswer answer = new SurveyResponseAnswer();
+            answer.setQuestionId(questionIds[i]);
+            answer.setReference(references[i]);
+            answer.setQuestionScore(scores[i]);
+            answersMap.put(questionIds[i], answer);
+        }
+        return answersMap;
+    }
+
+    private static boolean isScoredAnswer(Map.Entry<String, SurveyResponseAnswer> entry) {
+        String questionId = entry.getValue().getQuestionId();
+        return questionId != null && !questionId.isEmpty() && !entry.getKey().equals("personalInfo");
+    }
+
+    public int size() {
+        return questionIds != null ? questionIds.length : 0;
+    }
+
+    // Getters and setters
+    public String[] getQuestionIds() { return questionIds; }
+    public void setQuestionIds(String[] questionIds) { this.questionIds = questionIds; }
+
+    public String[] getReferences() { return references; }
+    public void setReferences(String[] references) { this.references = references; }
+
+    public double[] getScores() { return scores; }
+    public void setScores(double[] scores) { this.scores = scores; }
+}
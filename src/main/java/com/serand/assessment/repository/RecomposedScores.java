@@ -0,0 +1,16 @@
+package com.serand.assessment.repository;
+
+/**
+ * New pillar scores and application score of one application, computed from its stored question scores.
+ *
+ * @param readQuestionScores the question scores as read, before any re-scoring
+ * @param readOverallScore the applicationOverallScore as read; with readQuestionScores the state the new
+ *                         scores were computed from, so they are only written while the application still has it
+ * @param questionScores the application's question scores if any of them were re-scored, otherwise null
+ * @param cvScore the CV score the application score was computed with, stored for applications without one
+ * @param changed whether applicationOverallScore differs from the stored one, i.e. the ATS must be told
+ */
+public record RecomposedScores(String applicationId, QuestionScores readQuestionScores, double readOverallScore,
+                               QuestionScores questionScores, ScoresDocument scores,
+                               double applicationOverallScore, double cvScore, boolean changed) {
+}
@@ -0,0 +1,81 @@
+package com.serand.assessment.repository;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Progress and checkpoint of re-composing a company's application scores after its weightings or pillars
+ * changed. One job per company (the id is the company id). Applications are processed in _id order and
+ * lastApplicationId is the last one written, so an interrupted job resumes right after it. Applications scored
+ * or re-scored while the job read them are not written and are counted as skipped; a restarted job covers them.
+ */
+@Document("recomposition_jobs")
+public class RecompositionJobDocument {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        /** Stopped on an error; starting the job again resumes from the checkpoint. */
+        FAILED
+    }
+
+    @Id
+    private String id;
+    private Status status;
+    private long total;
+    private long processed;
+    private long changed;
+    private long skipped;
+    private String lastApplicationId;
+    private Instant startedAt;
+    private Instant updatedAt;
+    private String lastError;
+
+    public RecompositionJobDocument copy() {
+        RecompositionJobDocument copy = new RecompositionJobDocument();
+        copy.id = id;
+        copy.status = status;
+        copy.total = total;
+        copy.processed = processed;
+        copy.changed = changed;
+        copy.skipped = skipped;
+        copy.lastApplicationId = lastApplicationId;
+        copy.startedAt = startedAt;
+        copy.updatedAt = updatedAt;
+        copy.lastError = lastError;
+        return copy;
+    }
+
+    // Getters and setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public long getProcessed() { return processed; }
+    public void setProcessed(long processed) { this.processed = processed; }
+
+    public long getChanged() { return changed; }
+    public void setChanged(long changed) { this.changed = changed; }
+
+    public long getSkipped() { return skipped; }
+    public void setSkipped(long skipped) { this.skipped = skipped; }
+
+    public String getLastApplicationId() { return lastApplicationId; }
+    public void setLastApplicationId(String lastApplicationId) { this.lastApplicationId = lastApplicationId; }
+
+    public Instant getStartedAt() { return startedAt; }
+    public void setStartedAt(Instant startedAt) { this.startedAt = startedAt; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+}
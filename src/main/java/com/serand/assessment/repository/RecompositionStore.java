@@ -0,0 +1,36 @@
+package com.serand.assessment.repository;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Reads stored question scores and writes re-composed scores for the ScoreRecompositionService,
+ * and keeps each company's job checkpoint.
+ */
+public interface RecompositionStore {
+
+    Optional<RecompositionJobDocument> findJob(String companyId);
+
+    void saveJob(RecompositionJobDocument job);
+
+    long countScoredApplications(String companyId);
+
+    /**
+     * Scored applications of a company in _id order, after the given id (or from the start when null),
+     * with only _id, questionScores, cvScore, applicationOverallScore and scores loaded.
+     * The stream is backed by a cursor and must be closed.
+     */
+    Stream<ApplicationDocument> streamScoredApplications(String companyId, String afterApplicationId);
+
+    /**
+     * Write the scores of many applications in one bulk operation. Applications whose score changed
+     * get a pending ATS push. An application is only written while its applicationOverallScore and question
+     * scores are still the ones its new scores were computed from; one scored or re-scored in the meantime
+     * keeps the newer scores.
+     *
+     * @return the ids of the applications that were not written
+     */
+    Set<String> writeScores(Collection<RecomposedScores> results);
+}
@@ -0,0 +1,51 @@
+package com.serand.assessment.repository;
+
+import com.serand.assessment.model.Pillars;
+import com.serand.assessment.model.Weightings;
+import com.serand.assessment.model.WorkLife;
+
+import java.util.Map;
+
+/**
+ * Persisted shape of Scores, embedded in an application. Field names match what applications have always
+ * stored, so documents written before Scores moved to a score vector read back unchanged.
+ */
+public class ScoresDocument {
+    private double values;
+    private double culture;
+    private double mindset;
+    private double growthMindset;
+    private WorkLife workLife;
+    private Map<String, Double> customPillarScores;
+    private Map<String, String[]> customPillarAnswers;
+    private Weightings weightings;
+    private Pillars pillars;
+
+    // Getters and setters
+    public double getValues() { return values; }
+    public void setValues(double values) { this.values = values; }
+
+    public double getCulture() { return culture; }
+    public void setCulture(double culture) { this.culture = culture; }
+
+    public double getMindset() { return mindset; }
+    public void setMindset(double mindset) { this.mindset = mindset; }
+
+    public double getGrowthMindset() { return growthMindset; }
+    public void setGrowthMindset(double growthMindset) { this.growthMindset = growthMindset; }
+
+    public WorkLife getWorkLife() { return workLife; }
+    public void setWorkLife(WorkLife workLife) { this.workLife = workLife; }
+
+    public Map<String, Double> getCustomPillarScores() { return customPillarScores; }
+    public void setCustomPillarScores(Map<String, Double> customPillarScores) { this.customPillarScores = customPillarScores; }
+
+    public Map<String, String[]> getCustomPillarAnswers() { return customPillarAnswers; }
+    public void setCustomPillarAnswers(Map<String, String[]> customPillarAnswers) { this.customPillarAnswers = customPillarAnswers; }
+
+    public Weightings getWeightings() { return weightings; }
+    public void setWeightings(Weightings weightings) { this.weightings = weightings; }
+
+    public Pillars getPillars() { return pillars; }
+    public void setPillars(Pillars pillars) { this.pillars = pillars; }
+}
@@ -0,0 +1,41 @@
+package com.serand.assessment.repository;
+
+import com.serand.assessment.model.PersonalityProfile;
+import com.serand.assessment.model.Question;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.List;
+
+/**
+ * Persisted shape of a Survey, with the company stored by id.
+ */
+@Document("surveys")
+public class SurveyDocument {
+    @Id
+    private String id;
+    private String name;
+    private long version;
+    private String companyId;
+    private List<Question> questions;
+    private PersonalityProfile personalityProfile;
+
+    // Getters and setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    public String getCompanyId() { return companyId; }
+    public void setCompanyId(String companyId) { this.companyId = companyId; }
+
+    public List<Question> getQuestions() { return questions; }
+    public void setQuestions(List<Question> questions) { this.questions = questions; }
+
+    public PersonalityProfile getPersonalityProfile() { return personalityProfile; }
+    public void setPersonalityProfile(PersonalityProfile personalityProfile) { this.personalityProfile = personalityProfile; }
+}
@@ -0,0 +1,22 @@
+package com.serand.assessment.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SurveyRepository extends MongoRepository<SurveyDocument, String> {
+
+    /**
+     * Load only the fields needed to score a response against the survey.
+     */
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'name': 1, 'version': 1, 'companyId': 1, 'questions': 1 }")
+    Optional<SurveyDocument> findScoringViewById(String id);
+
+    /**
+     * Scoring view of every survey, used to warm the scoring configuration registry.
+     */
+    @Query(value = "{}", fields = "{ 'name': 1, 'version': 1, 'companyId': 1, 'questions': 1 }")
+    List<SurveyDocument> findAllScoringViews();
+}
@@ -0,0 +1,45 @@
+package com.serand.assessment.repository;
+
+import com.serand.assessment.model.SurveyResponseAnswer;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Map;
+
+/**
+ * Persisted shape of a SurveyResponse: the raw answers, with survey, candidate and application by id.
+ * answerKeyFingerprint identifies the MCQ answer keys the stored answer scores were computed with.
+ */
+@Document("survey_responses")
+@CompoundIndex(name = "survey_id", def = "{'surveyId': 1, '_id': 1}")
+public class SurveyResponseDocument {
+    @Id
+    private String id;
+    @Indexed
+    private String surveyId;
+    private String candidateId;
+    private String applicationId;
+    private Map<String, SurveyResponseAnswer> answerMap;
+    private Long answerKeyFingerprint;
+
+    // Getters and setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getSurveyId() { return surveyId; }
+    public void setSurveyId(String surveyId) { this.surveyId = surveyId; }
+
+    public String getCandidateId() { return candidateId; }
+    public void setCandidateId(String candidateId) { this.candidateId = candidateId; }
+
+    public String getApplicationId() { return applicationId; }
+    public void setApplicationId(String applicationId) { this.applicationId = applicationId; }
+
+    public Map<String, SurveyResponseAnswer> getAnswerMap() { return answerMap; }
+    public void setAnswerMap(Map<String, SurveyResponseAnswer> answerMap) { this.answerMap = answerMap; }
+
+    public Long getAnswerKeyFingerprint() { return answerKeyFingerprint; }
+    public void setAnswerKeyFingerprint(Long answerKeyFingerprint) { this.answerKeyFingerprint = answerKeyFingerprint; }
+}
@@ -0,0 +1,306 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Application;
+import com.serand.assessment.model.Company;
+import com.serand.assessment.model.Scores;
+import com.serand.assessment.model.Survey;
+import com.serand.assessment.model.SurveyResponse;
+import com.serand.assessment.model.SurveyResponseAnswer;
+import com.serand.assessment.repository.AnswerKeyRescoringJobDocument;
+import com.serand.assessment.repository.AnswerRescoringStore;
+import com.serand.assessment.repository.ApplicationDocument;
+import com.serand.assessment.repository.PersistenceMapper;
+import com.serand.assessment.repository.QuestionScores;
+import com.serand.assessment.repository.RecomposedScores;
+import com.serand.assessment.repository.SurveyResponseDocument;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Brings stored scores in line with corrected MCQ answer keys without a full reprocess. Every scored survey
+ * response stores the fingerprint of the answer keys it was scored against; reloading a survey through this
+ * service re-scores only the responses whose fingerprint differs from the reloaded plan's, so keys corrected
+ * before a restart, a plain reload or a failed run are still picked up. Only MCQ/coding answers are
+ * re-scored, text answers keep their stored LLM scores, and only applications with a changed answer score
+ * are re-composed and written. Responses are streamed in chunks, each chunk is re-scored in parallel slices
+ * and written back with bulk updates, and the job's checkpoint is saved after every chunk.
+ */
+@Service
+public class AnswerKeyRescoringService {
+
+    private final ScoringConfigRegistry configRegistry;
+    private final CentralScoringEngine centralScoringEngine;
+    private final ScoreCompositionService scoreCompositionService;
+    private final AnswerRescoringStore store;
+    private final ExecutorService recompositionExecutor;
+    private final Executor jobRunner;
+    private final int chunkSize;
+    private final int parallelism;
+
+    // Survey id -> progress of the job this instance is running
+    private final Map<String, AnswerKeyRescoringJobDocument> running = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AnswerKeyRescoringService(ScoringConfigRegistry configRegistry,
+                                     CentralScoringEngine centralScoringEngine,
+                                     ScoreCompositionService scoreCompositionService,
+                                     AnswerRescoringStore store,
+                                     @Qualifier("recompositionExecutor") ExecutorService recompositionExecutor,
+                                     @Value("${scoring.recomposition.chunk-size:500}") int chunkSize,
+                                     @Value("${scoring.recomposition.threads:4}") int parallelism) {
+        this(configRegistry, centralScoringEngine, scoreCompositionService, store, recompositionExecutor,
+                Executors.newSingleThreadExecutor(new CustomizableThreadFactory("answer-key-rescoring-")),
+                chunkSize, parallelism);
+    }
+
+    AnswerKeyRescoringService(ScoringConfigRegistry configRegistry, CentralScoringEngine centralScoringEngine,
+                              ScoreCompositionService scoreCompositionService, AnswerRescoringStore store,
+                              ExecutorService recompositionExecutor, Executor jobRunner,
+                              int chunkSize, int parallelism) {
+        this.configRegistry = configRegistry;
+        this.centralScoringEngine = centralScoringEngine;
+        this.scoreCompositionService = scoreCompositionService;
+        this.store = store;
+        this.recompositionExecutor = recompositionExecutor;
+        this.jobRunner = jobRunner;
+        this.chunkSize = chunkSize;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Reload a survey into the ScoringConfigRegistry and re-score the answers that were scored against other
+     * answer keys than the reloaded ones. Use instead of a plain reload after correcting answer keys. An
+     * unfinished job for the same answer keys resumes from its checkpoint; a job already running here is
+     * left alone.
+     *
+     * @return the job's progress, or empty if the survey does not exist
+     */
+    public synchronized Optional<AnswerKeyRescoringJobDocument> reloadAndRescore(String surveyId) {
+        AnswerKeyRescoringJobDocument active = running.get(surveyId);
+        if (active != null) {
+            return Optional.of(active.copy());
+        }
+        Optional<ScoringConfigSnapshot> reloaded = configRegistry.reloadSurvey(surveyId);
+        if (reloaded.isEmpty()) {
+            return Optional.empty();
+        }
+        ScoringConfigSnapshot snapshot = reloaded.get();
+        long answerKeyFingerprint = snapshot.getPlan().getAnswerKeyFingerprint();
+        AnswerKeyRescoringJobDocument job = store.findAnswerKeyJob(surveyId)
+                .filter(previous -> previous.getStatus() != AnswerKeyRescoringJobDocument.Status.COMPLETED
+                        && previous.getAnswerKeyFingerprint() == answerKeyFingerprint)
+                .orElseGet(() -> newJob(surveyId, answerKeyFingerprint));
+        job.setSurveyVersion(snapshot.getSurveyVersion());
+        job.setUpdatedAt(Instant.now());
+        if (snapshot.getCompany() == null) {
+            job.setStatus(AnswerKeyRescoringJobDocument.Status.FAILED);
+            job.setLastError("Survey " + surveyId + " has no company");
+            store.saveAnswerKeyJob(job);
+            return Optional.of(job);
+        }
+        job.setStatus(AnswerKeyRescoringJobDocument.Status.RUNNING);
+        job.setLastError(null);
+        running.put(surveyId, job.copy());
+        store.saveAnswerKeyJob(job);
+        jobRunner.execute(() -> run(job, snapshot));
+        return Optional.of(job.copy());
+    }
+
+    /**
+     * Progress of the survey's current or last job.
+     */
+    public Optional<AnswerKeyRescoringJobDocument> progress(String surveyId) {
+        AnswerKeyRescoringJobDocument active = running.get(surveyId);
+        return active != null ? Optional.of(active.copy()) : store.findAnswerKeyJob(surveyId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Interrupted jobs stop after their current chunk and resume from the checkpoint on the next reload
+        if (jobRunner instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    void run(AnswerKeyRescoringJobDocument job, ScoringConfigSnapshot snapshot) {
+        String surveyId = job.getId();
+        try (Stream<SurveyResponseDocument> responses = store.streamSurveyResponses(surveyId,
+                job.getAnswerKeyFingerprint(), job.getLastResponseId())) {
+            Iterator<SurveyResponseDocument> cursor = responses.iterator();
+            List<SurveyResponseDocument> chunk = new ArrayList<>(chunkSize);
+            while (cursor.hasNext()) {
+                chunk.add(cursor.next());
+                if (chunk.size() == chunkSize || !cursor.hasNext()) {
+                    rescoreChunk(job, chunk, snapshot);
+                    chunk = new ArrayList<>(chunkSize);
+                    if (Thread.currentThread().isInterrupted()) {
+                        System.out.println("Answer-key re-scoring of survey " + surveyId + " interrupted after "
+                                + job.getLastResponseId() + "; it resumes from there when reloaded again");
+                        return;
+                    }
+                }
+            }
+            job.setStatus(AnswerKeyRescoringJobDocument.Status.COMPLETED);
+            job.setUpdatedAt(Instant.now());
+            store.saveAnswerKeyJob(job);
+            System.out.println("Answer-key re-scoring of survey " + surveyId + " completed: "
+                    + job.getAnswersChanged() + " answers in " + job.getApplicationsRecomposed()
+                    + " applications changed");
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            System.err.println("Answer-key re-scoring of survey " + surveyId + " failed after "
+                    + job.getLastResponseId() + ": " + cause.getMessage());
+            job.setStatus(AnswerKeyRescoringJobDocument.Status.FAILED);
+            job.setLastError(cause.getMessage());
+            job.setUpdatedAt(Instant.now());
+            store.saveAnswerKeyJob(job);
+        } finally {
+            running.remove(surveyId);
+        }
+    }
+
+    private void rescoreChunk(AnswerKeyRescoringJobDocument job, List<SurveyResponseDocument> chunk,
+                              ScoringConfigSnapshot snapshot) {
+        List<String> applicationIds = chunk.stream().map(SurveyResponseDocument::getApplicationId)
+                .filter(Objects::nonNull).toList();
+        Map<String, ApplicationDocument> applications = store.findScoredApplications(applicationIds).stream()
+                .collect(Collectors.toMap(ApplicationDocument::getId, Function.identity()));
+
+        int sliceSize = (chunk.size() + parallelism - 1) / parallelism;
+        List<CompletableFuture<List<RescoredResponse>>> slices = new ArrayList<>(parallelism);
+        for (int from = 0; from < chunk.size(); from += sliceSize) {
+            List<SurveyResponseDocument> slice = chunk.subList(from, Math.min(from + sliceSize, chunk.size()));
+            slices.add(CompletableFuture.supplyAsync(() -> rescore(slice, applications, snapshot),
+                    recompositionExecutor));
+        }
+        List<RescoredResponse> rescoredResponses = new ArrayList<>(chunk.size());
+        List<RecomposedScores> recomposed = new ArrayList<>();
+        for (CompletableFuture<List<RescoredResponse>> slice : slices) {
+            for (RescoredResponse rescored : slice.join()) {
+                rescoredResponses.add(rescored);
+                if (rescored.recomposed() != null) {
+                    recomposed.add(rescored.recomposed());
+                }
+            }
+        }
+        // Applications first: a response is only stamped as done once its application is written, and not at
+        // all when its application was scored in the meantime (it is picked up by the next reload if need be)
+        Set<String> skipped = store.writeScores(recomposed);
+        Map<String, Map<String, Double>> answerScores = new HashMap<>();
+        for (RescoredResponse rescored : rescoredResponses) {
+            if (rescored.recomposed() == null || !skipped.contains(rescored.recomposed().applicationId())) {
+                answerScores.put(rescored.responseId(), rescored.answerScores());
+            }
+        }
+        store.writeAnswerScores(answerScores, job.getAnswerKeyFingerprint());
+
+        job.setResponsesScanned(job.getResponsesScanned() + chunk.size());
+        job.setAnswersChanged(job.getAnswersChanged() + answerScores.values().stream().mapToInt(Map::size).sum());
+        job.setApplicationsRecomposed(job.getApplicationsRecomposed() + recomposed.size() - skipped.size());
+        job.setResponsesSkipped(job.getResponsesSkipped() + rescoredResponses.size() - answerScores.size());
+        job.setLastResponseId(chunk.get(chunk.size() - 1).getId());
+        job.setUpdatedAt(Instant.now());
+        store.saveAnswerKeyJob(job);
+        running.put(job.getId(), job.copy());
+        System.out.println("Answer-key re-scoring of survey " + job.getId() + ": "
+                + job.getResponsesScanned() + " responses, " + job.getAnswersChanged() + " answers changed, "
+                + job.getResponsesSkipped() + " skipped");
+    }
+
+    private List<RescoredResponse> rescore(List<SurveyResponseDocument> slice,
+                                           Map<String, ApplicationDocument> applications,
+                                           ScoringConfigSnapshot snapshot) {
+        Survey survey = snapshot.getSurvey();
+        Company company = snapshot.getCompany();
+        List<RescoredResponse> results = new ArrayList<>();
+        for (SurveyResponseDocument document : slice) {
+            Map<String, SurveyResponseAnswer> answersMap = document.getAnswerMap();
+            if (answersMap == null) {
+                results.add(new RescoredResponse(document.getId(), Map.of(), null));
+                continue;
+            }
+            Map<String, Double> storedScores = new HashMap<>();
+            answersMap.forEach((key, answer) -> storedScores.put(key, answer.getQuestionScore()));
+
+            SurveyResponse response = new SurveyResponse();
+            response.setAnswerMap(answersMap);
+            Map<String, Double> rescored = centralScoringEngine.rescoreMcqAnswers(response, survey, company,
+                    snapshot.getPlan().getQuestionIds());
+
+            Map<String, Double> changedAnswers = new LinkedHashMap<>();
+            Map<String, Double> changedQuestions = new HashMap<>();
+            answersMap.forEach((key, answer) -> {
+                if (rescored.containsKey(answer.getQuestionId())
+                        && Double.compare(answer.getQuestionScore(), storedScores.get(key)) != 0) {
+                    changedAnswers.put(key, answer.getQuestionScore());
+                    changedQuestions.put(answer.getQuestionId(), answer.getQuestionScore());
+                }
+            });
+            // Responses without a changed answer are still written, to record the answer keys they match
+            ApplicationDocument application = applications.get(document.getApplicationId());
+            RecomposedScores recomposed = application != null && !changedAnswers.isEmpty()
+                    ? recompose(application, changedQuestions, company)
+                    : null;
+            results.add(new RescoredResponse(document.getId(), changedAnswers, recomposed));
+        }
+        return results;
+    }
+
+    private RecomposedScores recompose(ApplicationDocument document, Map<String, Double> changedQuestions,
+                                       Company company) {
+        QuestionScores read = document.getQuestionScores();
+        String[] questionIds = read.getQuestionIds();
+        double[] scores = read.getScores().clone();
+        for (int i = 0; i < questionIds.length; i++) {
+            Double rescored = changedQuestions.get(questionIds[i]);
+            if (rescored != null) {
+                scores[i] = rescored;
+            }
+        }
+        QuestionScores questionScores = new QuestionScores(questionIds, read.getReferences(), scores);
+        Scores pillarScores = scoreCompositionService.aggregatePillarScores(questionScores.toAnswerMap(), company,
+                company.getPillars());
+        double cvScore = PersistenceMapper.cvScoreOf(document);
+        Application application = scoreCompositionService.updateApplicationScores(new Application(), pillarScores,
+                cvScore);
+        double applicationScore = application.getApplicationOverallScore();
+        return new RecomposedScores(document.getId(), read, document.getApplicationOverallScore(), questionScores,
+                PersistenceMapper.toDocument(pillarScores), applicationScore, cvScore,
+                Double.compare(applicationScore, document.getApplicationOverallScore()) != 0);
+    }
+
+    private record RescoredResponse(String responseId, Map<String, Double> answerScores, RecomposedScores recomposed) {
+    }
+
+    private static AnswerKeyRescoringJobDocument newJob(String surveyId, long answerKeyFingerprint) {
+        AnswerKeyRescoringJobDocument job = new AnswerKeyRescoringJobDocument();
+        job.setId(surveyId);
+        job.setAnswerKeyFingerprint(answerKeyFingerprint);
+        job.setStartedAt(Instant.now());
+        return job;
+    }
+}
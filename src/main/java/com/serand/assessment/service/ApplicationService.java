@@ -1,13 +1,70 @@
 package com.serand.assessment.service;
 
 import com.serand.assessment.model.Application;
+import com.serand.assessment.model.SurveyResponse;
+import com.serand.assessment.repository.ApplicationDocument;
+import com.serand.assessment.repository.ApplicationRepository;
+import com.serand.assessment.repository.ApplicationScoreView;
+import com.serand.assessment.repository.PersistenceMapper;
+import com.serand.assessment.repository.SurveyResponseRepository;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Service
 public class ApplicationService {
-    
+
+    private final ApplicationRepository applicationRepository;
+    private final SurveyResponseRepository surveyResponseRepository;
+
+    public ApplicationService(ApplicationRepository applicationRepository,
+                              SurveyResponseRepository surveyResponseRepository) {
+        this.applicationRepository = applicationRepository;
+        this.surveyResponseRepository = surveyResponseRepository;
+    }
+
+    /**
+     * Save the application and its survey response. Per-question scores are embedded in the
+     * application as compact arrays; the full answers go to survey_responses. The application is
+     * written field by field so its ATS outbox state is only touched when the push becomes pending.
+     */
     public void saveApplication(Application application) {
-        // Mock save
-        System.out.println("Saving application: " + application.getId());
+        ApplicationDocument document = PersistenceMapper.toDocument(application);
+        if (document.getId() == null) {
+            document.setId(new ObjectId().toHexString());
+        }
+        applicationRepository.upsertFields(document);
+        application.setId(document.getId());
+        SurveyResponse response = application.getCandidateResponse();
+        if (response != null) {
+            response.setId(surveyResponseRepository.save(PersistenceMapper.toDocument(response)).getId());
+        }
+    }
+
+    /**
+     * Highest application scores for a survey, answered from the (surveyId, applicationOverallScore) index.
+     */
+    public List<ApplicationScoreView> findTopScores(String surveyId, int limit) {
+        return applicationRepository.findTopScoresBySurveyId(surveyId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Columnar snapshot of the stored pillar and CV scores of every scored application of a survey,
+     * read through a cursor that projects only the score fields.
+     */
+    public SurveyScoreColumns loadScoreColumns(String surveyId) {
+        SurveyScoreColumns.Builder columns = SurveyScoreColumns.builder(surveyId);
+        try (Stream<ApplicationDocument> documents = applicationRepository.streamScoresBySurveyId(surveyId)) {
+            documents.forEach(document -> columns.add(document.getId(),
+                    PersistenceMapper.toModel(document.getScores()), PersistenceMapper.cvScoreOf(document)));
+        }
+        return columns.build();
+    }
+
+    public long countApplications(String companyId, boolean complete) {
+        return applicationRepository.countByCompanyIdAndComplete(companyId, complete);
     }
-} 
\ No newline at end of file
+}
@@ -1,13 +1,91 @@
 package com.serand.assessment.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.serand.assessment.dto.AtsScorePush;
 import com.serand.assessment.model.Application;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
 @Service
 public class ApplicationTrackingService {
-    
+
+    private final String endpoint;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Without an endpoint pushes are only logged
+    public ApplicationTrackingService() {
+        this("", Duration.ofSeconds(5));
+    }
+
+    @Autowired
+    public ApplicationTrackingService(@Value("${scoring.ats.endpoint:}") String endpoint,
+                                      @Value("${scoring.ats.timeout:PT5S}") Duration timeout) {
+        this.endpoint = endpoint;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
     public void pushingScoreToAts(Application application) {
-        // Mock implementation
-        System.out.println("Pushing scores to ATS for application: " + application.getId());
+        pushScores(List.of(AtsScorePush.from(application)));
+    }
+
+    /**
+     * Push a batch of score updates to the ATS as one JSON array POST.
+     *
+     * @throws AtsDeliveryException if the ATS is unreachable or does not accept the batch
+     */
+    public void pushScores(List<AtsScorePush> pushes) {
+        if (endpoint == null || endpoint.isBlank()) {
+            // Mock implementation
+            pushes.forEach(push -> System.out.println("Pushing scores to ATS for application: " + push.getApplicationId()));
+            return;
+        }
+        HttpResponse<Void> response;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint))
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(pushes)))
+                    .build();
+            response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (JsonProcessingException e) {
+            throw new AtsDeliveryException("Could not serialize ATS push", e);
+        } catch (IOException e) {
+            throw new AtsDeliveryException("ATS unreachable: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AtsDeliveryException("Interrupted while pushing to ATS", e);
+        }
+
+        int status = response.statusCode();
+        if (status / 100 == 2) {
+            return;
+        }
+        boolean throttled = status == 429 || status == 503;
+        Duration retryAfter = response.headers().firstValue("Retry-After")
+                .map(ApplicationTrackingService::parseRetryAfter)
+                .orElse(null);
+        throw new AtsDeliveryException("ATS responded with HTTP " + status, throttled, retryAfter);
+    }
+
+    private static Duration parseRetryAfter(String value) {
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            // HTTP-date form is not used by our ATS; fall back to our own backoff
+            return null;
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.serand.assessment.service;
+
+import java.time.Duration;
+
+/**
+ * A batch of score pushes was not accepted by the ATS. Throttled failures (HTTP 429/503) signal
+ * that the ATS wants us to slow down, optionally with a Retry-After hint.
+ */
+public class AtsDeliveryException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean throttled;
+    private final Duration retryAfter;
+
+    public AtsDeliveryException(String message, boolean throttled, Duration retryAfter) {
+        super(message);
+        this.throttled = throttled;
+        this.retryAfter = retryAfter;
+    }
+
+    public AtsDeliveryException(String message, Throwable cause) {
+        super(message, cause);
+        this.throttled = false;
+        this.retryAfter = null;
+    }
+
+    public boolean isThrottled() { return throttled; }
+    public Duration getRetryAfter() { return retryAfter; }
+}
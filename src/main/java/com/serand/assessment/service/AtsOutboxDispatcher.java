@@ -0,0 +1,160 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.dto.AtsScorePush;
+import com.serand.assessment.repository.AtsOutbox;
+import com.serand.assessment.repository.AtsOutboxEntry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drains the ATS outbox in the background so ATS latency and outages never reach the scoring path.
+ * Due pushes are sent in batches of up to batchSize, one batch in flight at a time. A failed batch is
+ * retried with exponential backoff (initialBackoff doubling up to maxBackoff) and given up after
+ * maxAttempts. When the ATS throttles (HTTP 429/503) the whole dispatcher pauses for its Retry-After
+ * or the current backoff, so pending pushes wait in the outbox instead of piling onto the ATS.
+ */
+@Component
+@ConditionalOnProperty(name = "scoring.ats.outbox.enabled", havingValue = "true")
+public class AtsOutboxDispatcher {
+
+    private final AtsOutbox outbox;
+    private final ApplicationTrackingService applicationTrackingService;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final ExponentialBackoff backoff;
+    private final Clock clock;
+    private final ScheduledExecutorService dispatcher;
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean();
+
+    private Instant pausedUntil = Instant.MIN;
+    private int consecutiveThrottles;
+
+    @Autowired
+    public AtsOutboxDispatcher(AtsOutbox outbox,
+                               ApplicationTrackingService applicationTrackingService,
+                               @Value("${scoring.ats.outbox.batch-size:50}") int batchSize,
+                               @Value("${scoring.ats.outbox.max-attempts:10}") int maxAttempts,
+                               @Value("${scoring.ats.outbox.initial-backoff:PT1S}") Duration initialBackoff,
+                               @Value("${scoring.ats.outbox.max-backoff:PT10M}") Duration maxBackoff,
+                               @Value("${scoring.ats.outbox.poll-interval:PT1S}") Duration pollInterval) {
+        this(outbox, applicationTrackingService, batchSize, maxAttempts, initialBackoff, maxBackoff, pollInterval,
+                Clock.systemUTC());
+    }
+
+    AtsOutboxDispatcher(AtsOutbox outbox, ApplicationTrackingService applicationTrackingService, int batchSize,
+                        int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration pollInterval,
+                        Clock clock) {
+        this.outbox = outbox;
+        this.applicationTrackingService = applicationTrackingService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = new ExponentialBackoff(initialBackoff, maxBackoff);
+        this.clock = clock;
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("ats-outbox-"));
+        long intervalMillis = Math.max(1, pollInterval.toMillis());
+        dispatcher.scheduleWithFixedDelay(this::dispatch, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Ask for a dispatch round soon, e.g. right after new pushes were recorded. Requests made while
+     * one is already queued are coalesced.
+     */
+    public void wakeUp() {
+        if (wakeUpScheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> {
+                wakeUpScheduled.set(false);
+                dispatch();
+            });
+        }
+    }
+
+    /**
+     * Deliver due pushes until the outbox has no full batch left or a batch fails.
+     * Runs on the dispatcher thread; safe to call directly.
+     *
+     * @return the number of pushes delivered
+     */
+    public synchronized int dispatch() {
+        int delivered = 0;
+        try {
+            while (!clock.instant().isBefore(pausedUntil)) {
+                List<AtsOutboxEntry> due = outbox.findDue(clock.instant(), batchSize);
+                if (due.isEmpty()) {
+                    break;
+                }
+                if (!deliver(due)) {
+                    break;
+                }
+                delivered += due.size();
+                if (due.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Outbox store unavailable; the next poll retries
+            System.err.println("ATS outbox dispatch failed: " + e.getMessage());
+        }
+        return delivered;
+    }
+
+    private boolean deliver(List<AtsOutboxEntry> batch) {
+        List<AtsScorePush> pushes = new ArrayList<>(batch.size());
+        batch.forEach(entry -> pushes.add(entry.push()));
+        try {
+            applicationTrackingService.pushScores(pushes);
+        } catch (AtsDeliveryException e) {
+            handleFailure(batch, e);
+            return false;
+        }
+        consecutiveThrottles = 0;
+        outbox.markDelivered(batch);
+        return true;
+    }
+
+    private void handleFailure(List<AtsOutboxEntry> batch, AtsDeliveryException failure) {
+        Instant now = clock.instant();
+        String error = failure.getMessage();
+        for (AtsOutboxEntry entry : batch) {
+            int attempts = entry.attempts() + 1;
+            if (attempts >= maxAttempts) {
+                outbox.markFailed(entry, error);
+            } else {
+                outbox.scheduleRetry(entry, now.plus(backoff(attempts)), error);
+            }
+        }
+        if (failure.isThrottled()) {
+            consecutiveThrottles++;
+            Duration pause = backoff(consecutiveThrottles);
+            if (failure.getRetryAfter() != null && failure.getRetryAfter().compareTo(pause) > 0) {
+                pause = failure.getRetryAfter();
+            }
+            pausedUntil = now.plus(pause);
+        }
+    }
+
+    /**
+     * Delay before the given attempt number is retried.
+     */
+    Duration backoff(int attempt) {
+        return backoff.delay(attempt);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+    }
+}
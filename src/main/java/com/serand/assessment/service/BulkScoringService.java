@@ -0,0 +1,145 @@
+package com.serand.assessment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.serand.assessment.dto.SurveyProcessingResponse;
+import com.serand.assessment.model.SurveyResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Scores a stream of newline-delimited SurveyResponse JSON through SurveyResponseService.
+ * Input is read one line at a time and at most maxInFlight responses are being scored at once;
+ * reading blocks while that many are outstanding, so the batch is never held in memory and a fast
+ * client is slowed to the scoring rate. Each SurveyProcessingResponse is written as one JSON line
+ * as soon as it completes, so output order follows completion order, not input order.
+ * Lines are admitted as BULK work, behind interactive submissions; a line that is not admitted
+ * produces a result with rejected=true and can be resubmitted.
+ */
+@Service
+public class BulkScoringService {
+
+    private final SurveyResponseService surveyResponseService;
+    private final ObjectMapper objectMapper;
+    private final int maxInFlight;
+
+    public BulkScoringService(SurveyResponseService surveyResponseService,
+                              ObjectMapper objectMapper,
+                              @Value("${scoring.bulk.max-in-flight:32}") int maxInFlight) {
+        this.surveyResponseService = surveyResponseService;
+        this.objectMapper = objectMapper;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Score every line of the input and write one result line per non-blank input line.
+     * Lines that are not valid SurveyResponse JSON produce an error line and do not stop the stream.
+     *
+     * @return the number of input lines processed
+     */
+    public long scoreNdjson(InputStream input, OutputStream output) throws IOException {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ResultWriter writer = new ResultWriter(output);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+        long processed = 0;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null && !writer.isBroken()) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                processed++;
+                SurveyResponse surveyResponse;
+                try {
+                    surveyResponse = objectMapper.readValue(line, SurveyResponse.class);
+                } catch (JsonProcessingException e) {
+                    writer.write(SurveyProcessingResponse.error("Failed: invalid SurveyResponse JSON at line "
+                            + lineNumber + ": " + e.getOriginalMessage()));
+                    continue;
+                }
+                if (surveyResponse == null) {
+                    // A literal "null" line parses without error but is not a SurveyResponse
+                    writer.write(SurveyProcessingResponse.error("Failed: invalid SurveyResponse JSON at line "
+                            + lineNumber + ": null"));
+                    continue;
+                }
+                inFlight.acquire();
+                score(surveyResponse).whenComplete((result, failure) -> {
+                    try {
+                        SurveyProcessingResponse response = failure == null ? result
+                                : SurveyProcessingResponse.error("Failed: " + failure.getMessage());
+                        response.setSurveyResponseId(surveyResponse.getId());
+                        writer.write(response);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            // Wait for the responses still being scored
+            inFlight.acquire(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while scoring bulk input", e);
+        }
+        writer.rethrowIfBroken();
+        return processed;
+    }
+
+    private CompletableFuture<SurveyProcessingResponse> score(SurveyResponse surveyResponse) {
+        try {
+            return surveyResponseService.processSurveyResponse(surveyResponse, null, ScoringPriority.BULK);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Serializes result lines from the completing threads; remembers the first write failure
+     * (e.g. the client went away) so reading stops.
+     */
+    private final class ResultWriter {
+        private final OutputStream output;
+        private volatile IOException failure;
+
+        private ResultWriter(OutputStream output) {
+            this.output = output;
+        }
+
+        void write(SurveyProcessingResponse result) {
+            if (failure != null) {
+                return;
+            }
+            try {
+                byte[] json = objectMapper.writeValueAsBytes(result);
+                synchronized (this) {
+                    output.write(json);
+                    output.write('\n');
+                    output.flush();
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        boolean isBroken() {
+            return failure != null;
+        }
+
+        void rethrowIfBroken() throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -1,13 +1,30 @@
 package com.serand.assessment.service;
 
 import com.serand.assessment.model.Candidate;
+import com.serand.assessment.repository.CandidateRepository;
+import com.serand.assessment.repository.PersistenceMapper;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 @Service
 public class CandidateService {
-    
+
+    private final CandidateRepository candidateRepository;
+
+    public CandidateService(CandidateRepository candidateRepository) {
+        this.candidateRepository = candidateRepository;
+    }
+
     public void saveCandidate(Candidate candidate) {
-        // Mock save
-        System.out.println("Saving candidate: " + candidate.getId());
+        candidate.setId(candidateRepository.save(PersistenceMapper.toDocument(candidate)).getId());
+    }
+
+    public List<Candidate> findCandidates(Collection<String> candidateIds) {
+        List<Candidate> candidates = new ArrayList<>(candidateIds.size());
+        candidateRepository.findAllById(candidateIds).forEach(document -> candidates.add(PersistenceMapper.toModel(document)));
+        return candidates;
     }
-} 
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.serand.assessment.service;
 import com.serand.assessment.model.*;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * CentralScoringEngine is responsible for calculating individual question scores.
@@ -30,6 +31,37 @@ public interface CentralScoringEngine {
      * @param company The company context
      * @return Map of question ID to calculated score
      */
+    default Map<String, Double> calculateAllQuestionScores(SurveyResponse response, 
+                                                          Survey survey, Company company) {
+        return calculateAllQuestionScores(response, survey, company, new ScoringContext());
+    }
+    
+    /**
+     * Calculate scores for all questions in a survey response, recording per-response
+     * state such as score explanations in the given context. The response is stamped with
+     * the fingerprint of the answer keys it was scored against.
+     * 
+     * @param response The complete survey response
+     * @param survey The survey containing the questions
+     * @param company The company context
+     * @param context Scoring state for this response only
+     * @return Map of question ID to calculated score
+     */
     Map<String, Double> calculateAllQuestionScores(SurveyResponse response, 
-                                                  Survey survey, Company company);
-} 
\ No newline at end of file
+                                                  Survey survey, Company company,
+                                                  ScoringContext context);
+
+    /**
+     * Re-score only the MCQ/coding answers to the given questions against the survey's current answer keys,
+     * e.g. after an answer key was corrected. Other answers keep their recorded score and nothing is sent
+     * to the LLM.
+     * 
+     * @param response The survey response holding the candidate's answers
+     * @param survey The survey with the current answer keys
+     * @param company The company context
+     * @param questionIds The questions whose answers are re-scored
+     * @return Map of question ID to recalculated score, for the answers that were re-scored
+     */
+    Map<String, Double> rescoreMcqAnswers(SurveyResponse response, Survey survey, Company company,
+                                          Set<String> questionIds);
+}
@@ -1,28 +1,72 @@
 package com.serand.assessment.service;
 
+import com.serand.assessment.dto.RelevanceScoreRequest;
 import com.serand.assessment.model.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Implementation of CentralScoringEngine that handles all individual question scoring logic.
  * This service extracts the scoring algorithms from the original SurveyResponseService.
+ * It is stateless: per-response state lives in a {@link ScoringContext}, so one instance can be
+ * shared by any number of concurrent scoring threads.
  */
 @Service
 public class CentralScoringEngineImpl implements CentralScoringEngine {
 
+    static final int DEFAULT_MAX_BATCH_SIZE = 10;
+    static final int DEFAULT_MAX_BATCH_TOKENS = 8000;
+
     private final GeminiService geminiService;
-    
-    // Internal state for score explanations (moved from original service)
-    private Map<String, String> scoreExplain = new HashMap<>();
+    private final SurveyScoringPlanCache scoringPlanCache;
+    private final RelevanceScoreCache relevanceScoreCache;
+    private final Executor textScoringExecutor;
+    private final int maxBatchSize;
+    private final int maxBatchTokens;
 
-    @Autowired
     public CentralScoringEngineImpl(GeminiService geminiService) {
+        this(geminiService, new SurveyScoringPlanCache());
+    }
+
+    // Text answers are scored on the calling thread
+    public CentralScoringEngineImpl(GeminiService geminiService, SurveyScoringPlanCache scoringPlanCache) {
+        this(geminiService, scoringPlanCache, Runnable::run);
+    }
+
+    public CentralScoringEngineImpl(GeminiService geminiService, SurveyScoringPlanCache scoringPlanCache,
+                                    Executor textScoringExecutor) {
+        this(geminiService, scoringPlanCache, textScoringExecutor, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_TOKENS);
+    }
+
+    public CentralScoringEngineImpl(GeminiService geminiService, SurveyScoringPlanCache scoringPlanCache,
+                                    Executor textScoringExecutor, int maxBatchSize, int maxBatchTokens) {
+        this(geminiService, scoringPlanCache, new RelevanceScoreCache(), textScoringExecutor, maxBatchSize, maxBatchTokens);
+    }
+
+    @Autowired
+    public CentralScoringEngineImpl(GeminiService geminiService, SurveyScoringPlanCache scoringPlanCache,
+                                    RelevanceScoreCache relevanceScoreCache,
+                                    @Qualifier("textScoringExecutor") Executor textScoringExecutor,
+                                    @Value("${scoring.text.batch-size:" + DEFAULT_MAX_BATCH_SIZE + "}") int maxBatchSize,
+                                    @Value("${scoring.text.batch-max-tokens:" + DEFAULT_MAX_BATCH_TOKENS + "}") int maxBatchTokens) {
         this.geminiService = geminiService;
+        this.scoringPlanCache = scoringPlanCache;
+        this.relevanceScoreCache = relevanceScoreCache;
+        this.textScoringExecutor = textScoringExecutor;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxBatchTokens = Math.max(1, maxBatchTokens);
     }
 
     @Override
@@ -31,40 +75,22 @@ public class CentralScoringEngineImpl implements CentralScoringEngine {
         if (answer == null || question == null) {
             return 0.0;
         }
-
-        double currentQuestionScore = 0.0;
-
-        // Handle different question types
-        if (answer.getType().equals("multipleChoice") || answer.getType().equals("coding")) {
-            if (isTypeOneQuestion(question.getCorrectAnswers())) {
-                currentQuestionScore = getFixedMcqQuestionScore(answer.getArrayAnswer(), question.getCorrectAnswers());
-            } else {
-                currentQuestionScore = getVariableMcqQuestionScore(answer.getArrayAnswer(), question.getCorrectAnswers(), question.getReference(), company);
-            }
-        } else { // Text-based answers
-            String scoreExplanationAndScore = geminiService.getSurveyAnswerRelevanceScore(answer.getStringAnswer(), question.getQuestion(), surveyName);
-            currentQuestionScore = Double.parseDouble(scoreExplanationAndScore.split("-")[0]);
-            if (question.isGemini()) {
-                scoreExplain.put(question.getId(), scoreExplanationAndScore.split("-")[1]);
-            }
-            currentQuestionScore *= 100; // Convert 0-1 to 0-100
-        }
-
-        // Set score explanation if available
-        if (scoreExplain.containsKey(question.getId())) {
-            answer.setScoreExplanation(scoreExplain.get(question.getId()));
-        }
-        
-        answer.setQuestionScore(currentQuestionScore);
-        return currentQuestionScore;
+        return calculateQuestionScore(answer, SurveyScoringPlan.compileQuestion(question), company, surveyName,
+                new ScoringContext());
     }
 
     @Override
     public Map<String, Double> calculateAllQuestionScores(SurveyResponse response, 
-                                                         Survey survey, Company company) {
+                                                         Survey survey, Company company,
+                                                         ScoringContext context) {
         Map<String, Double> questionScores = new HashMap<>();
         Map<String, SurveyResponseAnswer> answersMap = response.getAnswerMap();
+        SurveyScoringPlan plan = scoringPlanCache.getPlan(survey);
         String surveyName = survey.getName();
+        response.setAnswerKeyFingerprint(plan.getAnswerKeyFingerprint());
+
+        List<ScoredAnswer> mcqAnswers = new ArrayList<>();
+        List<ScoredAnswer> textAnswers = new ArrayList<>();
 
         for (Map.Entry<String, SurveyResponseAnswer> entry : answersMap.entrySet()) {
             SurveyResponseAnswer answer = entry.getValue();
@@ -75,82 +101,248 @@ public class CentralScoringEngineImpl implements CentralScoringEngine {
                 continue;
             }
 
-            // Find the corresponding question
-            Question question = survey.getQuestions().stream()
-                    .filter(q -> q.getId().equals(questionId))
-                    .findFirst()
-                    .orElse(null);
+            // O(1) lookup of the pre-compiled question
+            SurveyScoringPlan.CompiledQuestion compiled = plan.getQuestion(questionId);
+            if (compiled != null) {
+                (isMcqAnswer(answer) ? mcqAnswers : textAnswers).add(new ScoredAnswer(answer, compiled));
+            }
+        }
+
+        // Serve text answers from the relevance cache or an identical in-flight call where possible
+        List<CompletableFuture<String>> textResults = new ArrayList<>(textAnswers.size());
+        List<OwnedTextAnswer> toScore = new ArrayList<>();
+        for (ScoredAnswer textAnswer : textAnswers) {
+            String key = relevanceScoreCache.key(textAnswer.answer().getStringAnswer(),
+                    textAnswer.compiled().getQuestion().getQuestion(), surveyName);
+            RelevanceScoreCache.Claim claim = relevanceScoreCache.claim(key);
+            textResults.add(claim.result());
+            if (claim.owner()) {
+                toScore.add(new OwnedTextAnswer(textAnswer, key));
+            }
+        }
 
-            if (question != null) {
-                double score = calculateQuestionScore(answer, question, company, surveyName);
-                questionScores.put(questionId, score);
+        // Fan out batched cache misses to the LLM first, score MCQs while those calls are in flight
+        for (List<OwnedTextAnswer> batch : partitionTextAnswers(toScore)) {
+            try {
+                CompletableFuture.supplyAsync(() -> requestRelevanceScores(batch, surveyName), textScoringExecutor)
+                        .whenComplete((results, failure) -> resolveClaims(batch, results, failure));
+            } catch (RuntimeException e) {
+                // Rejected by the executor: release the claims so this and later requests do not wait on them
+                resolveClaims(batch, null, e);
             }
         }
 
+        for (ScoredAnswer mcq : mcqAnswers) {
+            String questionId = mcq.compiled().getQuestion().getId();
+            questionScores.put(questionId, calculateQuestionScore(mcq.answer(), mcq.compiled(), company, surveyName, context));
+        }
+
+        for (int i = 0; i < textAnswers.size(); i++) {
+            ScoredAnswer textAnswer = textAnswers.get(i);
+            Question question = textAnswer.compiled().getQuestion();
+            String relevance = joinRelevance(textResults.get(i));
+            questionScores.put(question.getId(), applyTextScore(textAnswer.answer(), question, relevance, context));
+        }
+
+        return questionScores;
+    }
+
+    @Override
+    public Map<String, Double> rescoreMcqAnswers(SurveyResponse response, Survey survey, Company company,
+                                                 Set<String> questionIds) {
+        Map<String, Double> questionScores = new HashMap<>();
+        SurveyScoringPlan plan = scoringPlanCache.getPlan(survey);
+        ScoringContext context = new ScoringContext();
+        for (Map.Entry<String, SurveyResponseAnswer> entry : response.getAnswerMap().entrySet()) {
+            SurveyResponseAnswer answer = entry.getValue();
+            String questionId = answer.getQuestionId();
+            if (questionId == null || !questionIds.contains(questionId) || entry.getKey().equals("personalInfo")
+                    || !isMcqAnswer(answer)) {
+                continue;
+            }
+            SurveyScoringPlan.CompiledQuestion compiled = plan.getQuestion(questionId);
+            if (compiled != null) {
+                questionScores.put(questionId, calculateQuestionScore(answer, compiled, company, survey.getName(), context));
+            }
+        }
         return questionScores;
     }
 
     /**
-     * Calculate score for fixed MCQ questions (Always/Often/Sometimes pattern).
-     * Extracted from original SurveyResponseService.getFixedMcqQuestionScore()
+     * Publish a batch's results (or failure) to the relevance cache, waking every waiter on those keys.
      */
-    private double getFixedMcqQuestionScore(String[] candidateAnswer, String[] correctAnswers) {
-        if (candidateAnswer == null || correctAnswers == null || correctAnswers.length == 0) {
-            return 0.0;
+    private void resolveClaims(List<OwnedTextAnswer> batch, List<String> results, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        for (int j = 0; j < batch.size(); j++) {
+            if (cause != null) {
+                relevanceScoreCache.fail(batch.get(j).cacheKey(), cause);
+            } else {
+                relevanceScoreCache.complete(batch.get(j).cacheKey(), results.get(j));
+            }
+        }
+    }
+
+    /**
+     * Group text answers into batches bounded by both answer count and estimated prompt tokens.
+     * An answer that exceeds the token budget on its own is sent as a batch of one.
+     */
+    private List<List<OwnedTextAnswer>> partitionTextAnswers(List<OwnedTextAnswer> textAnswers) {
+        List<List<OwnedTextAnswer>> batches = new ArrayList<>();
+        List<OwnedTextAnswer> current = new ArrayList<>();
+        int currentTokens = 0;
+        for (OwnedTextAnswer textAnswer : textAnswers) {
+            int tokens = toRelevanceRequest(textAnswer.scored()).estimateTokens();
+            if (!current.isEmpty() && (current.size() >= maxBatchSize || currentTokens + tokens > maxBatchTokens)) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(textAnswer);
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    /**
+     * Score one batch of text answers. Single answers use the one-shot API. Safe to call from any thread.
+     */
+    private List<String> requestRelevanceScores(List<OwnedTextAnswer> batch, String surveyName) {
+        if (batch.size() == 1) {
+            ScoredAnswer only = batch.get(0).scored();
+            return List.of(requestRelevanceScore(only.answer(), only.compiled().getQuestion(), surveyName));
+        }
+        List<RelevanceScoreRequest> requests = new ArrayList<>(batch.size());
+        for (OwnedTextAnswer textAnswer : batch) {
+            requests.add(toRelevanceRequest(textAnswer.scored()));
+        }
+        List<String> results = geminiService.getSurveyAnswerRelevanceScores(requests, surveyName);
+        if (results == null || results.size() != batch.size()) {
+            throw new IllegalStateException("Expected " + batch.size() + " relevance scores but got "
+                    + (results == null ? 0 : results.size()));
         }
+        return results;
+    }
+
+    private RelevanceScoreRequest toRelevanceRequest(ScoredAnswer textAnswer) {
+        return new RelevanceScoreRequest(textAnswer.answer().getStringAnswer(),
+                textAnswer.compiled().getQuestion().getQuestion());
+    }
+
+    /**
+     * Score a single answer against a pre-compiled question.
+     */
+    private double calculateQuestionScore(SurveyResponseAnswer answer, SurveyScoringPlan.CompiledQuestion compiled,
+                                          Company company, String surveyName, ScoringContext context) {
+        if (!isMcqAnswer(answer)) { // Text-based answers
+            Question question = compiled.getQuestion();
+            return applyTextScore(answer, question, cachedRelevanceScore(answer, question, surveyName), context);
+        }
+
+        double currentQuestionScore;
+        if (compiled.getMcqKind() == SurveyScoringPlan.McqKind.FIXED) {
+            currentQuestionScore = getFixedMcqQuestionScore(answer.getArrayAnswer(), compiled);
+        } else {
+            currentQuestionScore = getVariableMcqQuestionScore(answer.getArrayAnswer(), compiled, company);
+        }
+        return recordScore(answer, compiled.getQuestion(), currentQuestionScore, context);
+    }
+
+    private boolean isMcqAnswer(SurveyResponseAnswer answer) {
+        return answer.getType().equals("multipleChoice") || answer.getType().equals("coding");
+    }
 
-        double scorePoints = 0;
-        for (String ans : candidateAnswer) {
-            if ("always".equalsIgnoreCase(ans)) {
-                scorePoints += 1.0;
-            } else if ("often".equalsIgnoreCase(ans)) {
-                scorePoints += 0.75;
-            } else if ("sometimes".equalsIgnoreCase(ans)) {
-                scorePoints += 0.5;
+    /**
+     * Ask the LLM for a "score-explanation" relevance string. Safe to call from any thread.
+     */
+    private String requestRelevanceScore(SurveyResponseAnswer answer, Question question, String surveyName) {
+        return geminiService.getSurveyAnswerRelevanceScore(answer.getStringAnswer(), question.getQuestion(), surveyName);
+    }
+
+    /**
+     * Fetch a relevance string through the relevance cache, calling the LLM only on a miss.
+     */
+    private String cachedRelevanceScore(SurveyResponseAnswer answer, Question question, String surveyName) {
+        String key = relevanceScoreCache.key(answer.getStringAnswer(), question.getQuestion(), surveyName);
+        RelevanceScoreCache.Claim claim = relevanceScoreCache.claim(key);
+        if (claim.owner()) {
+            try {
+                relevanceScoreCache.complete(key, requestRelevanceScore(answer, question, surveyName));
+            } catch (RuntimeException e) {
+                relevanceScoreCache.fail(key, e);
+                throw e;
             }
         }
-        return (scorePoints / correctAnswers.length) * 100;
+        return joinRelevance(claim.result());
     }
 
     /**
-     * Calculate score for variable MCQ questions (company-specific answers).
-     * Extracted from original SurveyResponseService.getVariableMcqQuestionScore()
+     * Parse an LLM relevance string and record the resulting 0-100 score on the answer.
      */
-    private double getVariableMcqQuestionScore(String[] candidateAnswer, String[] correctAnswers, 
-                                             String questionReference, Company company) {
-        if (candidateAnswer == null || correctAnswers == null || correctAnswers.length == 0) {
-            return 0.0;
+    private double applyTextScore(SurveyResponseAnswer answer, Question question, String scoreExplanationAndScore,
+                                  ScoringContext context) {
+        double currentQuestionScore = Double.parseDouble(scoreExplanationAndScore.split("-")[0]);
+        if (question.isGemini()) {
+            context.recordScoreExplanation(question.getId(), scoreExplanationAndScore.split("-")[1]);
         }
+        currentQuestionScore *= 100; // Convert 0-1 to 0-100
+        return recordScore(answer, question, currentQuestionScore, context);
+    }
 
-        long matches = Arrays.stream(candidateAnswer)
-                .filter(ca -> Arrays.stream(correctAnswers).anyMatch(cca -> ca.equalsIgnoreCase(cca)))
-                .count();
-        return (double) matches / correctAnswers.length * 100;
+    private double recordScore(SurveyResponseAnswer answer, Question question, double currentQuestionScore,
+                               ScoringContext context) {
+        // Set score explanation if available
+        String explanation = context.getScoreExplanation(question.getId());
+        if (explanation != null) {
+            answer.setScoreExplanation(explanation);
+        }
+        
+        answer.setQuestionScore(currentQuestionScore);
+        return currentQuestionScore;
     }
 
     /**
-     * Determine if a question is a Type One question (Always/Often pattern).
-     * Extracted from original SurveyResponseService.isTypeOneQuestion()
+     * Wait for an LLM call, rethrowing its original runtime failure rather than the CompletionException wrapper.
+     * The wait is bounded by the relevance cache's in-flight timeout.
      */
-    private boolean isTypeOneQuestion(String[] correctAnswers) {
-        if (correctAnswers == null) {
-            return false;
+    private String joinRelevance(CompletableFuture<String> relevance) {
+        try {
+            return relevance.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof TimeoutException) {
+                throw new IllegalStateException("Timed out waiting for a relevance score", e.getCause());
+            }
+            throw e;
         }
-        return Arrays.stream(correctAnswers).anyMatch(ans -> 
-            "always".equalsIgnoreCase(ans) || "often".equalsIgnoreCase(ans));
+    }
+
+    private record ScoredAnswer(SurveyResponseAnswer answer, SurveyScoringPlan.CompiledQuestion compiled) {
+    }
+
+    private record OwnedTextAnswer(ScoredAnswer scored, String cacheKey) {
     }
 
     /**
-     * Clear the score explanations map (useful for testing).
+     * Calculate score for fixed MCQ questions (Always/Often/Sometimes pattern).
+     * Extracted from original SurveyResponseService.getFixedMcqQuestionScore()
      */
-    public void clearScoreExplanations() {
-        scoreExplain.clear();
+    private double getFixedMcqQuestionScore(String[] candidateAnswer, SurveyScoringPlan.CompiledQuestion compiled) {
+        return compiled.getAnswerKey().scoreFixed(candidateAnswer);
     }
 
     /**
-     * Get the score explanations map (useful for testing).
+     * Calculate score for variable MCQ questions (company-specific answers).
+     * Extracted from original SurveyResponseService.getVariableMcqQuestionScore()
      */
-    public Map<String, String> getScoreExplanations() {
-        return new HashMap<>(scoreExplain);
+    private double getVariableMcqQuestionScore(String[] candidateAnswer, SurveyScoringPlan.CompiledQuestion compiled,
+                                             Company company) {
+        return compiled.getAnswerKey().scoreVariable(candidateAnswer);
     }
-} 
\ No newline at end of file
+}
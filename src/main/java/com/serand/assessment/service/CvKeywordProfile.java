@@ -0,0 +1,108 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Company;
+import com.serand.assessment.model.ValuesAnswer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A company's values and culture keywords compiled for matching against a stream of résumé words.
+ * Each keyword phrase becomes a set of vocabulary indices; it matches once every word of the phrase
+ * has been seen anywhere in the résumé. Matching state is one bit per vocabulary word, so memory is
+ * bounded by the keyword list, not by the résumé.
+ */
+final class CvKeywordProfile {
+
+    private final Map<String, Integer> vocabulary = new HashMap<>();
+    private final List<int[]> valuesKeywords = new ArrayList<>();
+    private final List<int[]> cultureKeywords = new ArrayList<>();
+
+    private CvKeywordProfile() {
+    }
+
+    static CvKeywordProfile compile(Company company) {
+        CvKeywordProfile profile = new CvKeywordProfile();
+        if (company.getValuesAnswers() != null) {
+            for (ValuesAnswer value : company.getValuesAnswers()) {
+                if (value != null) {
+                    profile.add(value.getValue(), profile.valuesKeywords);
+                }
+            }
+        }
+        if (company.getCulture() != null) {
+            for (String culture : company.getCulture()) {
+                profile.add(culture, profile.cultureKeywords);
+            }
+        }
+        return profile;
+    }
+
+    private void add(String phrase, List<int[]> group) {
+        if (phrase == null) {
+            return;
+        }
+        List<Integer> indices = new ArrayList<>();
+        CvTextExtractor.extractWords(phrase, word -> indices.add(vocabulary.computeIfAbsent(word, w -> vocabulary.size())));
+        if (!indices.isEmpty()) {
+            group.add(indices.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    boolean isEmpty() {
+        return valuesKeywords.isEmpty() && cultureKeywords.isEmpty();
+    }
+
+    Matcher matcher() {
+        return new Matcher();
+    }
+
+    /**
+     * Per-résumé matching state.
+     */
+    final class Matcher {
+        private final BitSet seen = new BitSet(vocabulary.size());
+
+        void accept(String word) {
+            Integer index = vocabulary.get(word);
+            if (index != null) {
+                seen.set(index);
+            }
+        }
+
+        /**
+         * Mean of the values and culture keyword coverage (0-100), over the groups the company defines.
+         */
+        double score() {
+            double total = 0;
+            int groups = 0;
+            for (List<int[]> group : List.of(valuesKeywords, cultureKeywords)) {
+                if (!group.isEmpty()) {
+                    total += coverage(group);
+                    groups++;
+                }
+            }
+            return groups > 0 ? total / groups : 0.0;
+        }
+
+        private double coverage(List<int[]> keywords) {
+            int matched = 0;
+            for (int[] keyword : keywords) {
+                boolean all = true;
+                for (int index : keyword) {
+                    if (!seen.get(index)) {
+                        all = false;
+                        break;
+                    }
+                }
+                if (all) {
+                    matched++;
+                }
+            }
+            return (double) matched / keywords.size() * 100;
+        }
+    }
+}
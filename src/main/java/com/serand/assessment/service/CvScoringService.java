@@ -0,0 +1,60 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Company;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Scores a résumé locally against the company's values and culture keywords.
+ * The résumé is consumed as a stream; only the keyword match state is kept in memory.
+ */
+@Service
+public class CvScoringService {
+
+    private final Executor cvScoringExecutor;
+
+    // Without an executor résumés are scored on the calling thread
+    public CvScoringService() {
+        this(Runnable::run);
+    }
+
+    @Autowired
+    public CvScoringService(@Qualifier("cvScoringExecutor") Executor cvScoringExecutor) {
+        this.cvScoringExecutor = cvScoringExecutor;
+    }
+
+    /**
+     * Keyword coverage of the résumé (0-100), or NaN when the company defines no values or culture
+     * keywords to score against or the résumé is not DOCX or plain text, so that the existing CV score
+     * is kept. Reads the stream to its end but does not close it.
+     */
+    public double scoreCv(InputStream resume, Company company) {
+        CvKeywordProfile profile = CvKeywordProfile.compile(company);
+        if (profile.isEmpty()) {
+            return Double.NaN;
+        }
+        CvKeywordProfile.Matcher matcher = profile.matcher();
+        try {
+            if (!CvTextExtractor.extractWords(resume, matcher::accept)) {
+                return Double.NaN;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read résumé", e);
+        }
+        return matcher.score();
+    }
+
+    /**
+     * Score the résumé on the CV scoring executor, e.g. while the survey questions are being scored.
+     */
+    public CompletableFuture<Double> scoreCvAsync(InputStream resume, Company company) {
+        return CompletableFuture.supplyAsync(() -> scoreCv(resume, company), cvScoringExecutor);
+    }
+}
@@ -0,0 +1,150 @@
+package com.serand.assessment.service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Streams the words of a résumé to a consumer without buffering the document.
+ * DOCX files (zip archives) are read entry by entry and the markup of word/document.xml is skipped;
+ * plain text is decoded as UTF-8. PDFs, other archives and binary content are not extractable:
+ * decoding them would only yield stray runs of letters and a near-zero score.
+ * Words are lower-cased letter/digit runs of at least two characters.
+ */
+final class CvTextExtractor {
+
+    private static final int MAX_WORD_LENGTH = 64;
+    private static final String DOCX_BODY = "word/document.xml";
+    // Bytes sniffed to tell text from binary content
+    private static final int SNIFF_LENGTH = 512;
+    // Share of control bytes in the sniffed prefix above which the input is treated as binary
+    private static final double MAX_CONTROL_SHARE = 0.1;
+
+    private CvTextExtractor() {
+    }
+
+    /**
+     * Read the stream to its end, emitting each word. The stream is not closed.
+     *
+     * @return false when the résumé is not DOCX or plain text (e.g. a PDF), in which case no words are emitted
+     */
+    static boolean extractWords(InputStream resume, Consumer<String> words) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(resume);
+        in.mark(SNIFF_LENGTH);
+        byte[] head = in.readNBytes(SNIFF_LENGTH);
+        in.reset();
+        if (startsWith(head, "PK\3\4")) {
+            return extractDocx(in, words);
+        }
+        if (startsWith(head, "%PDF") || isBinary(head)) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return false;
+        }
+        tokenize(reader(in), false, words);
+        return true;
+    }
+
+    /**
+     * Split a short text (e.g. a keyword phrase) into words, the same way résumé text is split.
+     */
+    static void extractWords(String text, Consumer<String> words) {
+        try {
+            tokenize(new StringReader(text), false, words);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean extractDocx(InputStream in, Consumer<String> words) throws IOException {
+        boolean docx = false;
+        ZipInputStream entries = new ZipInputStream(in);
+        ZipEntry entry;
+        while ((entry = entries.getNextEntry()) != null) {
+            if (DOCX_BODY.equals(entry.getName())) {
+                tokenize(reader(entries), true, words);
+                docx = true;
+            }
+        }
+        in.transferTo(OutputStream.nullOutputStream());
+        return docx;
+    }
+
+    private static boolean startsWith(byte[] head, String magic) {
+        if (head.length < magic.length()) {
+            return false;
+        }
+        for (int i = 0; i < magic.length(); i++) {
+            if (head[i] != magic.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBinary(byte[] head) {
+        int control = 0;
+        for (byte b : head) {
+            if (b == 0) {
+                return true;
+            }
+            if (b < 0x20 && b != '\t' && b != '\n' && b != '\r' && b != '\f') {
+                control++;
+            }
+        }
+        return control > head.length * MAX_CONTROL_SHARE;
+    }
+
+    private static Reader reader(InputStream in) {
+        return new InputStreamReader(in, StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE));
+    }
+
+    private static void tokenize(Reader reader, boolean skipMarkup, Consumer<String> words) throws IOException {
+        char[] buffer = new char[4096];
+        StringBuilder word = new StringBuilder(MAX_WORD_LENGTH);
+        boolean inTag = false;
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                char c = buffer[i];
+                if (skipMarkup) {
+                    if (inTag) {
+                        inTag = c != '>';
+                        continue;
+                    }
+                    if (c == '<') {
+                        inTag = true;
+                        emit(word, words);
+                        continue;
+                    }
+                }
+                if (Character.isLetterOrDigit(c)) {
+                    if (word.length() < MAX_WORD_LENGTH) {
+                        word.append(Character.toLowerCase(c));
+                    }
+                } else {
+                    emit(word, words);
+                }
+            }
+        }
+        emit(word, words);
+    }
+
+    private static void emit(StringBuilder word, Consumer<String> words) {
+        if (word.length() >= 2) {
+            words.accept(word.toString());
+        }
+        word.setLength(0);
+    }
+}
@@ -0,0 +1,23 @@
+package com.serand.assessment.service;
+
+import java.time.Duration;
+
+/**
+ * Retry delay that doubles per attempt: initial * 2^(attempt - 1), capped at max.
+ */
+final class ExponentialBackoff {
+
+    private final Duration initial;
+    private final Duration max;
+
+    ExponentialBackoff(Duration initial, Duration max) {
+        this.initial = initial;
+        this.max = max;
+    }
+
+    Duration delay(int attempt) {
+        int doublings = Math.min(Math.max(attempt - 1, 0), 30);
+        Duration delay = initial.multipliedBy(1L << doublings);
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+}
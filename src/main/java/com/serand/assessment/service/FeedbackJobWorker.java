@@ -0,0 +1,189 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Candidate;
+import com.serand.assessment.model.Survey;
+import com.serand.assessment.repository.FeedbackJob;
+import com.serand.assessment.repository.FeedbackJobStore;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Generates candidate feedback from the persistent FeedbackJobStore instead of inline with scoring.
+ * Jobs are claimed in batches of up to batchSize and the candidates of each survey in a batch share one
+ * generation call. At most maxConcurrency batches run at a time on the dedicated feedbackExecutor, so
+ * feedback never competes with live scoring for threads or LLM quota. Failed batches are retried with
+ * exponential backoff and given up after maxAttempts.
+ */
+@Component
+@ConditionalOnProperty(name = "scoring.feedback.queue.enabled", havingValue = "true")
+public class FeedbackJobWorker {
+
+    private final FeedbackJobStore store;
+    private final GeminiService geminiService;
+    private final CandidateService candidateService;
+    private final SurveyService surveyService;
+    private final Executor feedbackExecutor;
+    private final Semaphore permits;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final ExponentialBackoff backoff;
+    private final Duration leaseDuration;
+    private final Clock clock;
+    private final ScheduledExecutorService poller;
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean();
+
+    @Autowired
+    public FeedbackJobWorker(FeedbackJobStore store,
+                             GeminiService geminiService,
+                             CandidateService candidateService,
+                             SurveyService surveyService,
+                             @Qualifier("feedbackExecutor") Executor feedbackExecutor,
+                             @Value("${scoring.feedback.max-concurrency:2}") int maxConcurrency,
+                             @Value("${scoring.feedback.batch-size:10}") int batchSize,
+                             @Value("${scoring.feedback.max-attempts:5}") int maxAttempts,
+                             @Value("${scoring.feedback.initial-backoff:PT30S}") Duration initialBackoff,
+                             @Value("${scoring.feedback.max-backoff:PT1H}") Duration maxBackoff,
+                             @Value("${scoring.feedback.lease:PT10M}") Duration leaseDuration,
+                             @Value("${scoring.feedback.poll-interval:PT5S}") Duration pollInterval) {
+        this(store, geminiService, candidateService, surveyService, feedbackExecutor, maxConcurrency, batchSize,
+                maxAttempts, initialBackoff, maxBackoff, leaseDuration, pollInterval,
+                Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("feedback-poller-")),
+                Clock.systemUTC());
+    }
+
+    // The poller runs scheduled polls and wake-ups; tests pass one that never runs them
+    FeedbackJobWorker(FeedbackJobStore store, GeminiService geminiService, CandidateService candidateService,
+                      SurveyService surveyService, Executor feedbackExecutor, int maxConcurrency, int batchSize,
+                      int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration leaseDuration,
+                      Duration pollInterval, ScheduledExecutorService poller, Clock clock) {
+        this.store = store;
+        this.geminiService = geminiService;
+        this.candidateService = candidateService;
+        this.surveyService = surveyService;
+        this.feedbackExecutor = feedbackExecutor;
+        this.permits = new Semaphore(maxConcurrency);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = new ExponentialBackoff(initialBackoff, maxBackoff);
+        this.leaseDuration = leaseDuration;
+        this.clock = clock;
+        this.poller = poller;
+        long intervalMillis = Math.max(1, pollInterval.toMillis());
+        poller.scheduleWithFixedDelay(this::poll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue feedback generation for a candidate's survey submission. Repeat requests for the same
+     * candidate and survey are merged while the first one is still pending.
+     */
+    public void request(Candidate candidate, Survey survey, FeedbackPriority priority) {
+        store.enqueue(candidate.getId(), survey.getId(), priority.getWeight(), clock.instant());
+        wakeUp();
+    }
+
+    /**
+     * Ask for a poll soon. Requests made while one is already queued are coalesced.
+     */
+    public void wakeUp() {
+        if (wakeUpScheduled.compareAndSet(false, true)) {
+            poller.execute(() -> {
+                wakeUpScheduled.set(false);
+                poll();
+            });
+        }
+    }
+
+    /**
+     * Claim and start as many batches as the concurrency budget allows.
+     * Runs on the poller thread; safe to call directly.
+     *
+     * @return the number of jobs claimed
+     */
+    public synchronized int poll() {
+        int claimed = 0;
+        while (permits.tryAcquire()) {
+            List<FeedbackJob> jobs;
+            try {
+                jobs = store.claim(batchSize, clock.instant(), leaseDuration);
+            } catch (RuntimeException e) {
+                permits.release();
+                // Job store unavailable; the next poll retries
+                System.err.println("Feedback job poll failed: " + e.getMessage());
+                break;
+            }
+            if (jobs.isEmpty()) {
+                permits.release();
+                break;
+            }
+            claimed += jobs.size();
+            feedbackExecutor.execute(() -> {
+                try {
+                    process(jobs);
+                } finally {
+                    permits.release();
+                }
+                if (jobs.size() == batchSize) {
+                    // More may be waiting; don't idle until the next poll
+                    wakeUp();
+                }
+            });
+        }
+        return claimed;
+    }
+
+    private void process(List<FeedbackJob> jobs) {
+        Map<String, List<FeedbackJob>> jobsBySurvey = new LinkedHashMap<>();
+        for (FeedbackJob job : jobs) {
+            jobsBySurvey.computeIfAbsent(job.surveyId(), id -> new ArrayList<>()).add(job);
+        }
+        jobsBySurvey.forEach((surveyId, surveyJobs) -> {
+            try {
+                Survey survey = surveyService.findSurvey(surveyId)
+                        .orElseThrow(() -> new IllegalStateException("Survey not found: " + surveyId));
+                List<Candidate> candidates = candidateService.findCandidates(
+                        surveyJobs.stream().map(FeedbackJob::candidateId).toList());
+                geminiService.generateCandidateFeedbackBatch(candidates, survey);
+                store.complete(surveyJobs);
+            } catch (RuntimeException e) {
+                retryOrFail(surveyJobs, e);
+            }
+        });
+    }
+
+    private void retryOrFail(List<FeedbackJob> jobs, RuntimeException failure) {
+        Instant now = clock.instant();
+        String error = failure.getMessage();
+        for (FeedbackJob job : jobs) {
+            int attempts = job.attempts() + 1;
+            if (attempts >= maxAttempts) {
+                store.markFailed(job, error);
+            } else {
+                store.scheduleRetry(job, now.plus(backoff.delay(attempts)), error);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdown();
+    }
+}
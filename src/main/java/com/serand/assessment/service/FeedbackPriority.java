@@ -0,0 +1,23 @@
+package com.serand.assessment.service;
+
+/**
+ * Priority of a queued candidate feedback job; higher weights are generated first.
+ */
+public enum FeedbackPriority {
+    /** Re-generation for existing submissions. */
+    LOW(0),
+    /** Feedback for a new submission. */
+    NORMAL(10),
+    /** Someone is waiting to read the feedback. */
+    HIGH(20);
+
+    private final int weight;
+
+    FeedbackPriority(int weight) {
+        this.weight = weight;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+}
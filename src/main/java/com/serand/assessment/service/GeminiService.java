@@ -1,9 +1,13 @@
 package com.serand.assessment.service;
 
+import com.serand.assessment.dto.RelevanceScoreRequest;
 import com.serand.assessment.model.Candidate;
 import com.serand.assessment.model.Survey;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class GeminiService {
     
@@ -13,8 +17,33 @@ public class GeminiService {
         return score + "-AI generated explanation for the score";
     }
     
+    /**
+     * Score several answers from the same survey in a single call.
+     * Results are returned in request order, each in the same "score-explanation" format
+     * as getSurveyAnswerRelevanceScore.
+     */
+    public List<String> getSurveyAnswerRelevanceScores(List<RelevanceScoreRequest> requests, String surveyName) {
+        // Mock implementation - one score and explanation per request
+        List<String> results = new ArrayList<>(requests.size());
+        for (RelevanceScoreRequest request : requests) {
+            double score = Math.random(); // 0-1
+            results.add(score + "-AI generated explanation for the score");
+        }
+        return results;
+    }
+    
     public void generateCandidateFeedback(Candidate candidate, Survey survey) {
         // Mock implementation
         System.out.println("Generating AI feedback for candidate: " + candidate.getId());
     }
+    
+    /**
+     * Generate feedback for several candidates of the same survey in a single call.
+     */
+    public void generateCandidateFeedbackBatch(List<Candidate> candidates, Survey survey) {
+        // Mock implementation
+        for (Candidate candidate : candidates) {
+            System.out.println("Generating AI feedback for candidate: " + candidate.getId());
+        }
+    }
 } 
\ No newline at end of file
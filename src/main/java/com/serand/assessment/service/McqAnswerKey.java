@@ -0,0 +1,154 @@
+package com.serand.assessment.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Ordinal-encoded answer key for one MCQ/coding question, built at survey-compile time.
+ * Every answer the question can score (available answers, correct answers and the fixed
+ * Always/Often/Sometimes scale) is assigned a dense ordinal; correct answers become a bitset
+ * and fixed-scale points a lookup table, so scoring a candidate answer allocates nothing.
+ */
+final class McqAnswerKey {
+
+    private static final String[] FIXED_SCALE = {"always", "often", "sometimes"};
+    private static final double[] FIXED_SCALE_POINTS = {1.0, 0.75, 0.5};
+
+    // Exact-spelling lookup; covers the original and lower/capitalized forms of every answer
+    private final Map<String, Integer> exactOrdinals;
+    // Ordinal -> lower-cased answer, used for the case-insensitive fallback
+    private final String[] canonicalAnswers;
+    private final long[] correctMask;
+    private final double[] fixedPoints;
+    private final int correctAnswerCount;
+
+    private McqAnswerKey(Map<String, Integer> exactOrdinals, String[] canonicalAnswers, long[] correctMask,
+                         double[] fixedPoints, int correctAnswerCount) {
+        this.exactOrdinals = exactOrdinals;
+        this.canonicalAnswers = canonicalAnswers;
+        this.correctMask = correctMask;
+        this.fixedPoints = fixedPoints;
+        this.correctAnswerCount = correctAnswerCount;
+    }
+
+    static McqAnswerKey compile(String[] availableAnswers, String[] correctAnswers) {
+        Map<String, Integer> canonicalOrdinals = new LinkedHashMap<>();
+        Map<String, Integer> exactOrdinals = new HashMap<>();
+        for (String scale : FIXED_SCALE) {
+            register(scale, canonicalOrdinals, exactOrdinals);
+        }
+        if (availableAnswers != null) {
+            for (String available : availableAnswers) {
+                register(available, canonicalOrdinals, exactOrdinals);
+            }
+        }
+        if (correctAnswers != null) {
+            for (String correct : correctAnswers) {
+                register(correct, canonicalOrdinals, exactOrdinals);
+            }
+        }
+
+        String[] canonicalAnswers = canonicalOrdinals.keySet().toArray(new String[0]);
+        long[] correctMask = new long[(canonicalAnswers.length + 63) >>> 6];
+        if (correctAnswers != null) {
+            for (String correct : correctAnswers) {
+                if (correct != null) {
+                    int ordinal = canonicalOrdinals.get(SurveyScoringPlan.normalize(correct));
+                    correctMask[ordinal >>> 6] |= 1L << ordinal;
+                }
+            }
+        }
+        double[] fixedPoints = new double[canonicalAnswers.length];
+        for (int i = 0; i < FIXED_SCALE.length; i++) {
+            fixedPoints[canonicalOrdinals.get(FIXED_SCALE[i])] = FIXED_SCALE_POINTS[i];
+        }
+        int correctAnswerCount = correctAnswers != null ? correctAnswers.length : 0;
+        return new McqAnswerKey(exactOrdinals, canonicalAnswers, correctMask, fixedPoints, correctAnswerCount);
+    }
+
+    private static void register(String answer, Map<String, Integer> canonicalOrdinals,
+                                 Map<String, Integer> exactOrdinals) {
+        if (answer == null) {
+            return;
+        }
+        String canonical = SurveyScoringPlan.normalize(answer);
+        Integer ordinal = canonicalOrdinals.computeIfAbsent(canonical, c -> canonicalOrdinals.size());
+        exactOrdinals.putIfAbsent(answer, ordinal);
+        exactOrdinals.putIfAbsent(canonical, ordinal);
+        if (!canonical.isEmpty()) {
+            exactOrdinals.putIfAbsent(Character.toUpperCase(canonical.charAt(0)) + canonical.substring(1), ordinal);
+        }
+    }
+
+    /**
+     * Resolve a candidate answer to its ordinal, or -1 if the question cannot score it.
+     */
+    int ordinalOf(String answer) {
+        if (answer == null) {
+            return -1;
+        }
+        Integer ordinal = exactOrdinals.get(answer);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        for (int i = 0; i < canonicalAnswers.length; i++) {
+            if (canonicalAnswers[i].equalsIgnoreCase(answer)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    boolean isCorrect(int ordinal) {
+        return ordinal >= 0 && (correctMask[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Type One questions have Always/Often among their correct answers.
+     */
+    boolean isFixedScale() {
+        return isCorrect(0) || isCorrect(1);
+    }
+
+    /**
+     * Sum of Always/Often/Sometimes points over the candidate's answers, divided by the key size.
+     */
+    double scoreFixed(String[] candidateAnswer) {
+        if (candidateAnswer == null || correctAnswerCount == 0) {
+            return 0.0;
+        }
+        double scorePoints = 0;
+        for (String ans : candidateAnswer) {
+            int ordinal = ordinalOf(ans);
+            if (ordinal >= 0) {
+                scorePoints += fixedPoints[ordinal];
+            }
+        }
+        return (scorePoints / correctAnswerCount) * 100;
+    }
+
+    /**
+     * Share of the key matched by the candidate's answers (case-insensitive).
+     */
+    double scoreVariable(String[] candidateAnswer) {
+        if (candidateAnswer == null || correctAnswerCount == 0) {
+            return 0.0;
+        }
+        int matches = 0;
+        for (String ans : candidateAnswer) {
+            if (isCorrect(ordinalOf(ans))) {
+                matches++;
+            }
+        }
+        return (double) matches / correctAnswerCount * 100;
+    }
+
+    int getCorrectAnswerCount() {
+        return correctAnswerCount;
+    }
+
+    int size() {
+        return canonicalAnswers.length;
+    }
+}
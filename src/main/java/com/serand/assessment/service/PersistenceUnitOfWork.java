@@ -0,0 +1,62 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Application;
+import com.serand.assessment.model.Candidate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects the Application and Candidate entities modified while processing one survey response
+ * and writes each of them exactly once on commit.
+ * Writes go through the shared WriteBehindBuffer when one is configured, otherwise directly
+ * to ApplicationService/CandidateService. Not thread-safe; one instance per request.
+ */
+public class PersistenceUnitOfWork {
+
+    private final ApplicationService applicationService;
+    private final CandidateService candidateService;
+    private final WriteBehindBuffer writeBehindBuffer;
+
+    private final Set<Application> dirtyApplications = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Candidate> dirtyCandidates = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public PersistenceUnitOfWork(ApplicationService applicationService, CandidateService candidateService,
+                                 WriteBehindBuffer writeBehindBuffer) {
+        this.applicationService = applicationService;
+        this.candidateService = candidateService;
+        this.writeBehindBuffer = writeBehindBuffer;
+    }
+
+    public void registerDirty(Application application) {
+        dirtyApplications.add(application);
+    }
+
+    public void registerDirty(Candidate candidate) {
+        dirtyCandidates.add(candidate);
+    }
+
+    /**
+     * Flush every dirty entity once. The returned future completes when the writes are durable.
+     */
+    public CompletableFuture<Void> commit() {
+        try {
+            if (writeBehindBuffer == null) {
+                dirtyApplications.forEach(applicationService::saveApplication);
+                dirtyCandidates.forEach(candidateService::saveCandidate);
+                return CompletableFuture.completedFuture(null);
+            }
+            List<CompletableFuture<Void>> writes = new ArrayList<>();
+            dirtyApplications.forEach(application -> writes.add(writeBehindBuffer.enqueue(application)));
+            dirtyCandidates.forEach(candidate -> writes.add(writeBehindBuffer.enqueue(candidate)));
+            return CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0]));
+        } finally {
+            dirtyApplications.clear();
+            dirtyCandidates.clear();
+        }
+    }
+}
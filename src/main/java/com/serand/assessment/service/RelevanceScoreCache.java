@@ -0,0 +1,184 @@
+package com.serand.assessment.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Content-addressed cache of LLM relevance scores keyed by a hash of (survey, question, normalized answer).
+ * Entries are evicted least-recently-used once maxSize is reached and expire after the configured TTL.
+ * Concurrent lookups of the same key while a call is in flight share one future (single-flight).
+ * An in-flight call that is not resolved within inFlightTimeout fails with a TimeoutException, and a
+ * failed in-flight entry is dropped, so a lost owner never blocks later lookups of the same key.
+ */
+@Component
+public class RelevanceScoreCache {
+
+    static final int DEFAULT_MAX_SIZE = 10_000;
+    static final Duration DEFAULT_TTL = Duration.ofHours(24);
+    static final Duration DEFAULT_IN_FLIGHT_TIMEOUT = Duration.ofMinutes(2);
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long inFlightTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Entry> entries;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public RelevanceScoreCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TTL);
+    }
+
+    public RelevanceScoreCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, DEFAULT_IN_FLIGHT_TIMEOUT);
+    }
+
+    @Autowired
+    public RelevanceScoreCache(@Value("${scoring.relevance-cache.max-size:10000}") int maxSize,
+                               @Value("${scoring.relevance-cache.ttl:PT24H}") Duration ttl,
+                               @Value("${scoring.relevance-cache.in-flight-timeout:PT2M}") Duration inFlightTimeout) {
+        this(maxSize, ttl, inFlightTimeout, System::nanoTime);
+    }
+
+    RelevanceScoreCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+        this(maxSize, ttl, DEFAULT_IN_FLIGHT_TIMEOUT, nanoClock);
+    }
+
+    RelevanceScoreCache(int maxSize, Duration ttl, Duration inFlightTimeout, LongSupplier nanoClock) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.inFlightTimeoutNanos = inFlightTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > RelevanceScoreCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Build the cache key for an answer. Answers are trimmed, lower-cased and whitespace-collapsed
+     * so trivially different submissions ("N/A", " n/a ") share a key.
+     */
+    public String key(String answer, String question, String surveyName) {
+        String material = nullToEmpty(surveyName) + '\u0000' + nullToEmpty(question).trim() + '\u0000' + normalizeAnswer(answer);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(material.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Claim a key. Returns a completed future on a cache hit, the shared in-flight future when another
+     * caller is already scoring the same key, or a new future owned by this caller. The owner must
+     * resolve it with {@link #complete} or {@link #fail}; an owned future left unresolved times out.
+     */
+    public Claim claim(String key) {
+        String cached = getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return new Claim(CompletableFuture.completedFuture(cached), false);
+        }
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return new Claim(existing, false);
+        }
+        // Another owner may have completed between the cache check and registering this claim
+        String completedMeanwhile = getIfPresent(key);
+        if (completedMeanwhile != null) {
+            complete(key, completedMeanwhile);
+            hits.increment();
+            return new Claim(created, false);
+        }
+        misses.increment();
+        created.orTimeout(inFlightTimeoutNanos, TimeUnit.NANOSECONDS)
+                .whenComplete((relevanceScore, failure) -> {
+                    if (failure != null) {
+                        inFlight.remove(key, created);
+                    }
+                });
+        return new Claim(created, true);
+    }
+
+    public void complete(String key, String relevanceScore) {
+        synchronized (entries) {
+            entries.put(key, new Entry(relevanceScore, nanoClock.getAsLong() + ttlNanos));
+        }
+        CompletableFuture<String> future = inFlight.remove(key);
+        if (future != null) {
+            future.complete(relevanceScore);
+        }
+    }
+
+    public void fail(String key, Throwable failure) {
+        CompletableFuture<String> future = inFlight.remove(key);
+        if (future != null) {
+            future.completeExceptionally(failure);
+        }
+    }
+
+    String getIfPresent(String key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (nanoClock.getAsLong() - entry.expiresAtNanos() >= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() { return hits.sum(); }
+    public long getMissCount() { return misses.sum(); }
+    public long getCoalescedCount() { return coalesced.sum(); }
+
+    static String normalizeAnswer(String answer) {
+        return nullToEmpty(answer).trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * Result of {@link #claim}: the future to wait on and whether the caller must produce the value.
+     */
+    public record Claim(CompletableFuture<String> result, boolean owner) {
+    }
+
+    private record Entry(String value, long expiresAtNanos) {
+    }
+}
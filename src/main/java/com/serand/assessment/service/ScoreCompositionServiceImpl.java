@@ -4,8 +4,8 @@ import com.serand.assessment.model.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of ScoreCompositionService that handles all pillar aggregation and final score calculation logic.
@@ -16,6 +16,9 @@ public class ScoreCompositionServiceImpl implements ScoreCompositionService {
 
     private final SurveyService surveyService;
 
+    // Company ID -> custom pillar layout, re-resolved when the company's pillar names change
+    private final Map<String, PillarLayout> pillarLayouts = new ConcurrentHashMap<>();
+
     @Autowired
     public ScoreCompositionServiceImpl(SurveyService surveyService) {
         this.surveyService = surveyService;
@@ -32,7 +35,7 @@ public class ScoreCompositionServiceImpl implements ScoreCompositionService {
             aggregateStandardPillars(answersMap, scores);
         } else {
             // Dynamic Pillars Aggregation
-            aggregateDynamicPillars(answersMap, scores, pillars);
+            aggregateDynamicPillars(answersMap, scores, pillarLayoutFor(company, pillars));
         }
 
         return scores;
@@ -52,6 +55,7 @@ public class ScoreCompositionServiceImpl implements ScoreCompositionService {
                                              double cvScore) {
         scores.recalculateOverallScore();
         application.setScores(scores);
+        application.setCvScore(cvScore);
         
         double finalScore = calculateOverallScore(scores, cvScore);
         application.setApplicationOverallScore(finalScore);
@@ -64,29 +68,15 @@ public class ScoreCompositionServiceImpl implements ScoreCompositionService {
      * Extracted from original SurveyResponseService pillar aggregation logic.
      */
     private void aggregateStandardPillars(Map<String, SurveyResponseAnswer> answersMap, Scores scores) {
-        double valuesScore = 0, cultureScore = 0, workLifeScore = 0;
-        int valuesCount = 0, cultureCount = 0, workLifeCount = 0;
-
-        for (SurveyResponseAnswer answer : answersMap.values()) {
-            if (answer.getReference().equals("values")) {
-                valuesScore += answer.getQuestionScore();
-                valuesCount++;
-            }
-            if (answer.getReference().equals("culture")) {
-                cultureScore += answer.getQuestionScore();
-                cultureCount++;
-            }
-            if (answer.getReference().equals("workplace")) {
-                workLifeScore += answer.getQuestionScore();
-                workLifeCount++;
-            }
-        }
+        double[] sums = new double[PillarLayout.STANDARD.size()];
+        int[] counts = new int[PillarLayout.STANDARD.size()];
+        accumulate(answersMap, PillarLayout.STANDARD, sums, counts);
 
-        scores.setValues(valuesCount > 0 ? valuesScore / valuesCount : 0);
-        scores.setCulture(cultureCount > 0 ? cultureScore / cultureCount : 0);
+        scores.setValues(average(sums, counts, PillarLayout.VALUES));
+        scores.setCulture(average(sums, counts, PillarLayout.CULTURE));
         
         WorkLife workLifeObj = new WorkLife();
-        workLifeObj.setWorkLife(workLifeCount > 0 ? workLifeScore / workLifeCount : 0);
+        workLifeObj.setWorkLife(average(sums, counts, PillarLayout.WORKPLACE));
         scores.setWorkLife(workLifeObj);
 
         // Simplified mindset logic (moved from original service)
@@ -100,32 +90,50 @@ public class ScoreCompositionServiceImpl implements ScoreCompositionService {
      * Extracted from original SurveyResponseService dynamic pillar aggregation logic.
      */
     private void aggregateDynamicPillars(Map<String, SurveyResponseAnswer> answersMap, 
-                                        Scores scores, Pillars pillars) {
-        Map<String, Double> customPillarScores = new HashMap<>();
-        Map<String, Integer> pillarCounts = new HashMap<>();
-
-        // Initialize pillar tracking
-        for (String pillarName : pillars.getPillars().keySet()) {
-            customPillarScores.put(pillarName, 0.0);
-            pillarCounts.put(pillarName, 0);
+                                        Scores scores, PillarLayout layout) {
+        double[] sums = new double[layout.size()];
+        int[] counts = new int[layout.size()];
+        accumulate(answersMap, layout, sums, counts);
+
+        // Calculate average scores for each pillar, straight into the score vector slots of the shared layout
+        scores.useCustomPillarLayout(layout);
+        for (int ordinal = 0; ordinal < layout.size(); ordinal++) {
+            scores.setCustomPillarScore(ordinal, average(sums, counts, ordinal));
         }
+    }
 
-        // Aggregate scores by pillar
+    /**
+     * Single pass over the answers, summing scores and counts per pillar ordinal.
+     */
+    private void accumulate(Map<String, SurveyResponseAnswer> answersMap, PillarLayout layout,
+                            double[] sums, int[] counts) {
         for (SurveyResponseAnswer answer : answersMap.values()) {
-            String pillarName = answer.getReference();
-            if (pillars.getPillars().containsKey(pillarName)) {
-                customPillarScores.put(pillarName, customPillarScores.get(pillarName) + answer.getQuestionScore());
-                pillarCounts.put(pillarName, pillarCounts.get(pillarName) + 1);
+            int ordinal = layout.ordinalOf(answer.getReference());
+            if (ordinal >= 0) {
+                sums[ordinal] += answer.getQuestionScore();
+                counts[ordinal]++;
             }
         }
+    }
+
+    private double average(double[] sums, int[] counts, int ordinal) {
+        return counts[ordinal] > 0 ? sums[ordinal] / counts[ordinal] : 0.0;
+    }
 
-        // Calculate average scores for each pillar
-        for (String pillarName : pillars.getPillars().keySet()) {
-            double score = (pillarCounts.get(pillarName) > 0) 
-                ? customPillarScores.get(pillarName) / pillarCounts.get(pillarName) 
-                : 0.0;
-            scores.addCustomPillarScore(pillarName, score);
+    /**
+     * Resolve (or reuse) the dense pillar ordinals for a company's custom pillar configuration.
+     */
+    private PillarLayout pillarLayoutFor(Company company, Pillars pillars) {
+        Map<String, Double> pillarWeights = pillars.getPillars();
+        if (company.getId() == null) {
+            return PillarLayout.of(pillarWeights.keySet());
+        }
+        PillarLayout layout = pillarLayouts.get(company.getId());
+        if (layout == null || !layout.hasSameNames(pillarWeights)) {
+            layout = PillarLayout.of(pillarWeights.keySet());
+            pillarLayouts.put(company.getId(), layout);
         }
+        return layout;
     }
 
     /**
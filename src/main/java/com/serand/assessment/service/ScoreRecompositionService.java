@@ -0,0 +1,212 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Application;
+import com.serand.assessment.model.Company;
+import com.serand.assessment.model.Scores;
+import com.serand.assessment.repository.ApplicationDocument;
+import com.serand.assessment.repository.PersistenceMapper;
+import com.serand.assessment.repository.RecomposedScores;
+import com.serand.assessment.repository.RecompositionJobDocument;
+import com.serand.assessment.repository.RecompositionStore;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Re-composes a company's application scores after its weightings or pillars changed, without scoring any
+ * answer again: stored per-question scores are streamed from MongoDB in chunks, each chunk is aggregated
+ * in parallel slices through the ScoreCompositionService and written back as one bulk update, and the
+ * job's checkpoint is saved after every chunk. A job interrupted by a failure or shutdown resumes after
+ * its last written application when started again. Applications scored live while the job runs keep their
+ * newer scores (see RecompositionStore.writeScores). Jobs run one at a time on a dedicated thread.
+ * Applications scored before the CV score was stored get it recovered from their stored scores
+ * (see PersistenceMapper.cvScoreOf) and written back.
+ */
+@Service
+public class ScoreRecompositionService {
+
+    private final SurveyService surveyService;
+    private final ScoreCompositionService scoreCompositionService;
+    private final RecompositionStore store;
+    private final ExecutorService recompositionExecutor;
+    private final Executor jobRunner;
+    private final int chunkSize;
+    private final int parallelism;
+
+    // Company id -> progress of the job this instance is running
+    private final Map<String, RecompositionJobDocument> running = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ScoreRecompositionService(SurveyService surveyService,
+                                     ScoreCompositionService scoreCompositionService,
+                                     RecompositionStore store,
+                                     @Qualifier("recompositionExecutor") ExecutorService recompositionExecutor,
+                                     @Value("${scoring.recomposition.chunk-size:500}") int chunkSize,
+                                     @Value("${scoring.recomposition.threads:4}") int parallelism) {
+        this(surveyService, scoreCompositionService, store, recompositionExecutor,
+                Executors.newSingleThreadExecutor(new CustomizableThreadFactory("recomposition-job-")),
+                chunkSize, parallelism);
+    }
+
+    ScoreRecompositionService(SurveyService surveyService, ScoreCompositionService scoreCompositionService,
+                              RecompositionStore store, ExecutorService recompositionExecutor, Executor jobRunner,
+                              int chunkSize, int parallelism) {
+        this.surveyService = surveyService;
+        this.scoreCompositionService = scoreCompositionService;
+        this.store = store;
+        this.recompositionExecutor = recompositionExecutor;
+        this.jobRunner = jobRunner;
+        this.chunkSize = chunkSize;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Start re-composing a company's applications with its current configuration. An unfinished job is
+     * resumed from its checkpoint unless restart is set; a job already running here is left alone.
+     *
+     * @return the job's progress, or empty if the company does not exist
+     */
+    public Optional<RecompositionJobDocument> start(String companyId, boolean restart) {
+        RecompositionJobDocument active = running.get(companyId);
+        if (active != null) {
+            return Optional.of(active.copy());
+        }
+        Optional<Company> company = surveyService.findCompanyForScoring(companyId);
+        if (company.isEmpty()) {
+            return Optional.empty();
+        }
+        RecompositionJobDocument job = store.findJob(companyId)
+                .filter(previous -> !restart && previous.getStatus() != RecompositionJobDocument.Status.COMPLETED)
+                .orElseGet(() -> newJob(companyId));
+        job.setStatus(RecompositionJobDocument.Status.RUNNING);
+        job.setLastError(null);
+        job.setTotal(store.countScoredApplications(companyId));
+        job.setUpdatedAt(Instant.now());
+        RecompositionJobDocument concurrent = running.putIfAbsent(companyId, job.copy());
+        if (concurrent != null) {
+            return Optional.of(concurrent.copy());
+        }
+        store.saveJob(job);
+        jobRunner.execute(() -> run(job, company.get()));
+        return Optional.of(job.copy());
+    }
+
+    /**
+     * Progress of the company's current or last job.
+     */
+    public Optional<RecompositionJobDocument> progress(String companyId) {
+        RecompositionJobDocument active = running.get(companyId);
+        return active != null ? Optional.of(active.copy()) : store.findJob(companyId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Interrupted jobs stop after their current chunk and resume from the checkpoint on the next start
+        if (jobRunner instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    void run(RecompositionJobDocument job, Company company) {
+        String companyId = job.getId();
+        try (Stream<ApplicationDocument> applications =
+                     store.streamScoredApplications(companyId, job.getLastApplicationId())) {
+            Iterator<ApplicationDocument> cursor = applications.iterator();
+            List<ApplicationDocument> chunk = new ArrayList<>(chunkSize);
+            while (cursor.hasNext()) {
+                chunk.add(cursor.next());
+                if (chunk.size() == chunkSize || !cursor.hasNext()) {
+                    recomposeChunk(job, company, chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                    if (Thread.currentThread().isInterrupted()) {
+                        System.out.println("Recomposition for company " + companyId + " interrupted after "
+                                + job.getLastApplicationId() + "; it resumes from there when started again");
+                        return;
+                    }
+                }
+            }
+            job.setStatus(RecompositionJobDocument.Status.COMPLETED);
+            job.setUpdatedAt(Instant.now());
+            store.saveJob(job);
+            System.out.println("Recomposition for company " + companyId + " completed: " + job.getProcessed()
+                    + " applications, " + job.getChanged() + " changed, " + job.getSkipped()
+                    + " skipped");
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            System.err.println("Recomposition for company " + companyId + " failed after "
+                    + job.getLastApplicationId() + ": " + cause.getMessage());
+            job.setStatus(RecompositionJobDocument.Status.FAILED);
+            job.setLastError(cause.getMessage());
+            job.setUpdatedAt(Instant.now());
+            store.saveJob(job);
+        } finally {
+            running.remove(companyId);
+        }
+    }
+
+    private void recomposeChunk(RecompositionJobDocument job, Company company, List<ApplicationDocument> chunk) {
+        int sliceSize = (chunk.size() + parallelism - 1) / parallelism;
+        List<CompletableFuture<List<RecomposedScores>>> slices = new ArrayList<>(parallelism);
+        for (int from = 0; from < chunk.size(); from += sliceSize) {
+            List<ApplicationDocument> slice = chunk.subList(from, Math.min(from + sliceSize, chunk.size()));
+            slices.add(CompletableFuture.supplyAsync(() -> recompose(slice, company), recompositionExecutor));
+        }
+        List<RecomposedScores> results = new ArrayList<>(chunk.size());
+        slices.forEach(slice -> results.addAll(slice.join()));
+        Set<String> skipped = store.writeScores(results);
+
+        job.setProcessed(job.getProcessed() + results.size());
+        job.setChanged(job.getChanged() + results.stream()
+                .filter(result -> result.changed() && !skipped.contains(result.applicationId())).count());
+        job.setSkipped(job.getSkipped() + skipped.size());
+        job.setLastApplicationId(chunk.get(chunk.size() - 1).getId());
+        job.setUpdatedAt(Instant.now());
+        store.saveJob(job);
+        running.put(job.getId(), job.copy());
+        System.out.println("Recomposition for company " + job.getId() + ": " + job.getProcessed() + "/"
+                + job.getTotal() + " applications, " + job.getChanged() + " changed, " + job.getSkipped()
+                + " skipped");
+    }
+
+    private List<RecomposedScores> recompose(List<ApplicationDocument> slice, Company company) {
+        List<RecomposedScores> results = new ArrayList<>(slice.size());
+        for (ApplicationDocument document : slice) {
+            Scores scores = scoreCompositionService.aggregatePillarScores(
+                    document.getQuestionScores().toAnswerMap(), company, company.getPillars());
+            double cvScore = PersistenceMapper.cvScoreOf(document);
+            Application application = scoreCompositionService.updateApplicationScores(
+                    new Application(), scores, cvScore);
+            double applicationScore = application.getApplicationOverallScore();
+            results.add(new RecomposedScores(document.getId(), document.getQuestionScores(),
+                    document.getApplicationOverallScore(), null, PersistenceMapper.toDocument(scores),
+                    applicationScore, cvScore,
+                    Double.compare(applicationScore, document.getApplicationOverallScore()) != 0));
+        }
+        return results;
+    }
+
+    private static RecompositionJobDocument newJob(String companyId) {
+        RecompositionJobDocument job = new RecompositionJobDocument();
+        job.setId(companyId);
+        job.setStartedAt(Instant.now());
+        return job;
+    }
+}
@@ -0,0 +1,306 @@
+package com.serand.assessment.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Admission control for scoring work. At most maxConcurrent requests are scored at once; the rest wait
+ * in a bounded queue per priority class, split into one FIFO per company. Companies within a class are
+ * served round-robin, so one company's bulk import cannot hold back another company's submissions, and
+ * the classes are served by smooth weighted round-robin (interactive weight vs. bulk weight of 1).
+ * A request is rejected with a ScoringRejectedException when its class queue or its company's share of
+ * it is full, or when it waits longer than maxQueueWait for a slot; a periodic sweep expires waiting
+ * requests even while every slot stays busy.
+ */
+@Component
+public class ScoringAdmissionController {
+
+    static final String UNKNOWN_COMPANY = "";
+
+    private final int maxConcurrent;
+    private final int maxQueuedPerCompany;
+    private final long maxQueueWaitNanos;
+    private final LongSupplier nanoClock;
+    private final Map<ScoringPriority, PriorityClass> classes = new EnumMap<>(ScoringPriority.class);
+
+    private final Object lock = new Object();
+    private int running;
+    private int queued;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    // Null when the owner expires queued requests itself (tests, convenience constructors)
+    private ScheduledExecutorService sweeper;
+
+    /**
+     * Unbounded admission for callers that schedule their own work (tests, convenience constructors).
+     */
+    public ScoringAdmissionController() {
+        this(Integer.MAX_VALUE, Integer.MAX_VALUE, 1, Integer.MAX_VALUE, 1, Integer.MAX_VALUE,
+                Duration.ofDays(1), System::nanoTime);
+    }
+
+    @Autowired
+    public ScoringAdmissionController(@Value("${scoring.admission.max-concurrent:64}") int maxConcurrent,
+                                      @Value("${scoring.admission.interactive.queue-capacity:1000}") int interactiveCapacity,
+                                      @Value("${scoring.admission.interactive.weight:4}") int interactiveWeight,
+                                      @Value("${scoring.admission.bulk.queue-capacity:5000}") int bulkCapacity,
+                                      @Value("${scoring.admission.max-queued-per-company:500}") int maxQueuedPerCompany,
+                                      @Value("${scoring.admission.max-queue-wait:PT30S}") Duration maxQueueWait,
+                                      @Value("${scoring.admission.queue-sweep-interval:PT1S}") Duration sweepInterval) {
+        this(maxConcurrent, interactiveCapacity, interactiveWeight, bulkCapacity, 1, maxQueuedPerCompany,
+                maxQueueWait, System::nanoTime);
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("admission-sweep-"));
+        long intervalMillis = Math.max(1, sweepInterval.toMillis());
+        sweeper.scheduleWithFixedDelay(this::expireOverdue, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    ScoringAdmissionController(int maxConcurrent, int interactiveCapacity, int interactiveWeight, int bulkCapacity,
+                               int bulkWeight, int maxQueuedPerCompany, Duration maxQueueWait, LongSupplier nanoClock) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueuedPerCompany = maxQueuedPerCompany;
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+        this.nanoClock = nanoClock;
+        classes.put(ScoringPriority.INTERACTIVE, new PriorityClass(interactiveCapacity, interactiveWeight));
+        classes.put(ScoringPriority.BULK, new PriorityClass(bulkCapacity, bulkWeight));
+    }
+
+    /**
+     * Run the work now if a slot is free and nothing is waiting, otherwise queue it behind the
+     * company's earlier requests of the same priority. The returned future completes with the work's
+     * result, or exceptionally with a ScoringRejectedException if it was not admitted.
+     */
+    public <T> CompletableFuture<T> submit(String companyId, ScoringPriority priority,
+                                           Supplier<CompletableFuture<T>> work) {
+        String company = companyId != null ? companyId : UNKNOWN_COMPANY;
+        Task<T> task = new Task<>(company, priority, work, nanoClock.getAsLong());
+        synchronized (lock) {
+            if (queued == 0 && running < maxConcurrent) {
+                running++;
+            } else {
+                PriorityClass queue = classes.get(priority);
+                String rejection = queue.size >= queue.capacity
+                        ? "scoring queue for " + priority + " requests is full"
+                        : queue.sizeOf(company) >= maxQueuedPerCompany
+                        ? "company " + company + " has too many " + priority + " requests queued"
+                        : null;
+                if (rejection != null) {
+                    rejected.increment();
+                    return CompletableFuture.failedFuture(new ScoringRejectedException(rejection, company, priority));
+                }
+                queue.add(task);
+                queued++;
+                return task.result;
+            }
+        }
+        run(task);
+        return task.result;
+    }
+
+    /**
+     * Start tasks until one completes asynchronously; its completion continues the loop. Work that
+     * completes synchronously does not grow the stack.
+     */
+    private void run(Task<?> first) {
+        Task<?> task = first;
+        while (task != null) {
+            admitted.increment();
+            CompletableFuture<?> running = task.start();
+            if (!running.isDone()) {
+                running.whenComplete((result, failure) -> run(releaseAndPollNext()));
+                return;
+            }
+            task = releaseAndPollNext();
+        }
+    }
+
+    private Task<?> releaseAndPollNext() {
+        while (true) {
+            Task<?> next;
+            synchronized (lock) {
+                next = pollNext();
+                if (next == null) {
+                    running--;
+                    return null;
+                }
+                queued--;
+            }
+            if (nanoClock.getAsLong() - next.enqueuedAtNanos <= maxQueueWaitNanos) {
+                return next;
+            }
+            // Waited too long to be useful to its caller; keep the slot for the next one
+            expire(next);
+        }
+    }
+
+    /**
+     * Reject every queued request that has waited longer than maxQueueWait. Runs on the sweep thread;
+     * safe to call directly.
+     */
+    void expireOverdue() {
+        List<Task<?>> overdue = new ArrayList<>();
+        synchronized (lock) {
+            long cutoff = nanoClock.getAsLong() - maxQueueWaitNanos;
+            for (PriorityClass queue : classes.values()) {
+                queue.pollEnqueuedBefore(cutoff, overdue);
+            }
+            queued -= overdue.size();
+        }
+        overdue.forEach(this::expire);
+    }
+
+    private void expire(Task<?> task) {
+        rejected.increment();
+        task.result.completeExceptionally(new ScoringRejectedException(
+                "request waited longer than the admission queue allows", task.companyId, task.priority));
+    }
+
+    // Smooth weighted round-robin over the non-empty priority classes
+    private Task<?> pollNext() {
+        PriorityClass selected = null;
+        int totalWeight = 0;
+        for (PriorityClass candidate : classes.values()) {
+            if (candidate.size == 0) {
+                continue;
+            }
+            candidate.credit += candidate.weight;
+            totalWeight += candidate.weight;
+            if (selected == null || candidate.credit > selected.credit) {
+                selected = candidate;
+            }
+        }
+        if (selected == null) {
+            return null;
+        }
+        selected.credit -= totalWeight;
+        return selected.poll();
+    }
+
+    public int getRunningCount() {
+        synchronized (lock) {
+            return running;
+        }
+    }
+
+    public int getQueuedCount() {
+        synchronized (lock) {
+            return queued;
+        }
+    }
+
+    public long getAdmittedCount() { return admitted.sum(); }
+    public long getRejectedCount() { return rejected.sum(); }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdown();
+        }
+    }
+
+    /**
+     * Queued tasks of one priority, one FIFO per company, companies served in rotation.
+     */
+    private static final class PriorityClass {
+        private final int capacity;
+        private final int weight;
+        private final LinkedHashMap<String, ArrayDeque<Task<?>>> byCompany = new LinkedHashMap<>();
+        private int size;
+        private int credit;
+
+        private PriorityClass(int capacity, int weight) {
+            this.capacity = capacity;
+            this.weight = weight;
+        }
+
+        int sizeOf(String companyId) {
+            ArrayDeque<Task<?>> tasks = byCompany.get(companyId);
+            return tasks != null ? tasks.size() : 0;
+        }
+
+        void add(Task<?> task) {
+            byCompany.computeIfAbsent(task.companyId, id -> new ArrayDeque<>()).addLast(task);
+            size++;
+        }
+
+        Task<?> poll() {
+            Iterator<Map.Entry<String, ArrayDeque<Task<?>>>> companies = byCompany.entrySet().iterator();
+            Map.Entry<String, ArrayDeque<Task<?>>> head = companies.next();
+            Task<?> task = head.getValue().pollFirst();
+            // Move the company to the back of the rotation, or drop it once its queue is empty
+            companies.remove();
+            if (!head.getValue().isEmpty()) {
+                byCompany.put(head.getKey(), head.getValue());
+            }
+            size--;
+            return task;
+        }
+
+        // Each company's FIFO is in arrival order, so only its head can be overdue before its tail
+        void pollEnqueuedBefore(long cutoffNanos, List<Task<?>> into) {
+            Iterator<ArrayDeque<Task<?>>> companies = byCompany.values().iterator();
+            while (companies.hasNext()) {
+                ArrayDeque<Task<?>> tasks = companies.next();
+                while (!tasks.isEmpty() && tasks.peekFirst().enqueuedAtNanos - cutoffNanos < 0) {
+                    into.add(tasks.pollFirst());
+                    size--;
+                }
+                if (tasks.isEmpty()) {
+                    companies.remove();
+                }
+            }
+        }
+    }
+
+    private static final class Task<T> {
+        private final String companyId;
+        private final ScoringPriority priority;
+        private final Supplier<CompletableFuture<T>> work;
+        private final long enqueuedAtNanos;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private Task(String companyId, ScoringPriority priority, Supplier<CompletableFuture<T>> work,
+                     long enqueuedAtNanos) {
+            this.companyId = companyId;
+            this.priority = priority;
+            this.work = work;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+
+        CompletableFuture<T> start() {
+            CompletableFuture<T> running;
+            try {
+                running = work.get();
+            } catch (RuntimeException e) {
+                running = CompletableFuture.failedFuture(e);
+            }
+            return running.whenComplete((value, failure) -> {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(value);
+                }
+            });
+        }
+    }
+}
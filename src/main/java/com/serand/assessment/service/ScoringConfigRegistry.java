@@ -0,0 +1,232 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Company;
+import com.serand.assessment.model.Survey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory registry of compiled ScoringConfigSnapshots by survey id. Readers get the current snapshot
+ * with a single volatile read and no locking; writers build a new snapshot and publish a copy of the
+ * whole map (copy-on-write), so a reader sees either the old or the new configuration, never a mix.
+ * All surveys and companies are loaded and compiled in parallel when the application is ready, and a
+ * survey or company can be reloaded after it was edited.
+ */
+@Component
+public class ScoringConfigRegistry {
+
+    private final SurveyService surveyService;
+    private final SurveyScoringPlanCache scoringPlanCache;
+    private final boolean warmOnStartup;
+    private final int warmUpThreads;
+    private final boolean overrideUnversioned;
+
+    private volatile Map<String, ScoringConfigSnapshot> snapshots = Map.of();
+    // Serializes writers; readers never take it
+    private final Object writeLock = new Object();
+    private long version;
+
+    // Empty registry that is only filled by publish (tests, convenience constructors)
+    public ScoringConfigRegistry(SurveyService surveyService) {
+        this(surveyService, new SurveyScoringPlanCache(), false, 1, true);
+    }
+
+    @Autowired
+    public ScoringConfigRegistry(SurveyService surveyService, SurveyScoringPlanCache scoringPlanCache,
+                                 @Value("${scoring.config.warm-on-startup:true}") boolean warmOnStartup,
+                                 @Value("${scoring.config.warm-up-threads:4}") int warmUpThreads,
+                                 @Value("${scoring.config.override-unversioned-requests:true}")
+                                 boolean overrideUnversioned) {
+        this.surveyService = surveyService;
+        this.scoringPlanCache = scoringPlanCache;
+        this.warmOnStartup = warmOnStartup;
+        this.warmUpThreads = Math.max(1, warmUpThreads);
+        this.overrideUnversioned = overrideUnversioned;
+    }
+
+    /**
+     * Current snapshot for a survey, or null if the survey is not registered. Lock-free.
+     */
+    public ScoringConfigSnapshot get(String surveyId) {
+        return surveyId != null ? snapshots.get(surveyId) : null;
+    }
+
+    /**
+     * The snapshot a response to the given survey graph is scored against instead of that graph, or null to
+     * score against the graph itself. The registered configuration overrides a request that names a survey
+     * version no newer than the registered one. A request without a survey version (0) cannot be ordered
+     * against the registry: it is overridden only while scoring.config.override-unversioned-requests is set
+     * (the default), in which case edits its graph carries are ignored. Clients that send edited
+     * configurations must send a newer version or turn that property off.
+     */
+    public ScoringConfigSnapshot snapshotFor(Survey requested) {
+        ScoringConfigSnapshot snapshot = requested != null ? get(requested.getId()) : null;
+        if (snapshot == null) {
+            return null;
+        }
+        if (requested.getVersion() == 0) {
+            return overrideUnversioned ? snapshot : null;
+        }
+        return snapshot.getSurveyVersion() >= requested.getVersion() ? snapshot : null;
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    /**
+     * Highest registry version published so far.
+     */
+    public long getVersion() {
+        synchronized (writeLock) {
+            return version;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!warmOnStartup) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            int loaded = warmUp();
+            System.out.println("Loaded " + loaded + " scoring configurations in "
+                    + (System.currentTimeMillis() - start) + " ms");
+        } catch (RuntimeException e) {
+            // Scoring still works from the request's own survey graph; configurations can be reloaded later
+            System.err.println("Could not warm scoring configurations: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Load every survey and company, compile them in parallel and publish them in one swap.
+     *
+     * @return the number of surveys published
+     */
+    public int warmUp() {
+        ExecutorService pool = Executors.newFixedThreadPool(warmUpThreads, new CustomizableThreadFactory("config-warm-up-"));
+        try {
+            // Both collections are read concurrently; surveys are linked to their company once companies are in
+            CompletableFuture<Map<String, Company>> companies = CompletableFuture
+                    .supplyAsync(surveyService::findAllCompaniesForScoring, pool)
+                    .thenApply(all -> all.stream().filter(company -> company.getId() != null)
+                            .collect(Collectors.toMap(Company::getId, Function.identity(), (first, second) -> first)));
+            List<Survey> surveys = CompletableFuture
+                    .supplyAsync(() -> surveyService.findAllSurveysForScoring(id -> companies.join().get(id)), pool)
+                    .join();
+            return publishAll(surveys, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Compile and publish a survey (with its company), replacing its current snapshot.
+     */
+    public ScoringConfigSnapshot publish(Survey survey) {
+        synchronized (writeLock) {
+            ScoringConfigSnapshot snapshot = ScoringConfigSnapshot.compile(survey, ++version);
+            swap(List.of(snapshot), List.of());
+            return snapshot;
+        }
+    }
+
+    /**
+     * Re-read a survey from the database and publish it; drops the snapshot if the survey is gone.
+     */
+    public Optional<ScoringConfigSnapshot> reloadSurvey(String surveyId) {
+        Optional<Survey> survey = surveyService.findSurveyForScoring(surveyId);
+        if (survey.isEmpty()) {
+            evict(surveyId);
+            return Optional.empty();
+        }
+        return Optional.of(publish(survey.get()));
+    }
+
+    /**
+     * Re-read a company from the database and republish every registered survey of that company.
+     *
+     * @return the number of snapshots republished
+     */
+    public int reloadCompany(String companyId) {
+        Optional<Company> company = surveyService.findCompanyForScoring(companyId);
+        if (company.isEmpty()) {
+            return 0;
+        }
+        synchronized (writeLock) {
+            long next = ++version;
+            List<ScoringConfigSnapshot> changed = new ArrayList<>();
+            for (ScoringConfigSnapshot snapshot : snapshots.values()) {
+                if (companyId.equals(snapshot.getCompanyId())) {
+                    changed.add(snapshot.withCompany(company.get(), next));
+                }
+            }
+            swap(changed, List.of());
+            return changed.size();
+        }
+    }
+
+    public void evict(String surveyId) {
+        synchronized (writeLock) {
+            if (snapshots.containsKey(surveyId)) {
+                swap(List.of(), List.of(surveyId));
+                scoringPlanCache.evict(surveyId);
+            }
+        }
+    }
+
+    private int publishAll(List<Survey> surveys, ExecutorService pool) {
+        long reserved;
+        synchronized (writeLock) {
+            reserved = ++version;
+        }
+        // Compile outside the write lock; a publish that happens meanwhile gets a higher version and wins
+        List<CompletableFuture<ScoringConfigSnapshot>> compiling = new ArrayList<>(surveys.size());
+        for (Survey survey : surveys) {
+            if (survey.getId() != null) {
+                compiling.add(CompletableFuture.supplyAsync(() -> ScoringConfigSnapshot.compile(survey, reserved), pool));
+            }
+        }
+        List<ScoringConfigSnapshot> compiled = compiling.stream().map(CompletableFuture::join).toList();
+        synchronized (writeLock) {
+            swap(compiled, List.of());
+        }
+        return compiled.size();
+    }
+
+    // Caller holds writeLock
+    private void swap(Collection<ScoringConfigSnapshot> published, Collection<String> removed) {
+        if (published.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        Map<String, ScoringConfigSnapshot> next = new HashMap<>(snapshots);
+        for (ScoringConfigSnapshot snapshot : published) {
+            ScoringConfigSnapshot current = next.get(snapshot.getSurveyId());
+            if (current == null || current.getVersion() < snapshot.getVersion()) {
+                next.put(snapshot.getSurveyId(), snapshot);
+                scoringPlanCache.prime(snapshot.getPlan());
+            }
+            version = Math.max(version, snapshot.getVersion());
+        }
+        removed.forEach(next::remove);
+        snapshots = Collections.unmodifiableMap(next);
+    }
+}
@@ -0,0 +1,143 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Company;
+import com.serand.assessment.model.PillarLayout;
+import com.serand.assessment.model.Pillars;
+import com.serand.assessment.model.Question;
+import com.serand.assessment.model.Scores;
+import com.serand.assessment.model.Survey;
+import com.serand.assessment.model.Weightings;
+import com.serand.assessment.model.WorkLifeBenefitsImpactDTO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable, compiled scoring configuration of one survey and its company at one registry version:
+ * the survey questions with their compiled answer keys (SurveyScoringPlan), the company's weightings,
+ * pillars and custom pillar layout. The Survey and Company graphs are private copies with unmodifiable
+ * collections, so a snapshot never changes after it is published; a configuration change publishes a
+ * new snapshot instead. Question objects are shared with the source survey and must not be edited.
+ * The graphs are still mutable beans shared by every request scoring against the snapshot, so only scoring
+ * code in this package reads them (getSurvey, getCompany) and they are never installed into a request;
+ * Scores computed from them are detached before they are handed out.
+ */
+public final class ScoringConfigSnapshot {
+
+    private final long version;
+    private final Survey survey;
+    private final Company company;
+    private final SurveyScoringPlan plan;
+    private final PillarLayout customPillarLayout;
+
+    private ScoringConfigSnapshot(long version, Survey survey, Company company, SurveyScoringPlan plan,
+                                  PillarLayout customPillarLayout) {
+        this.version = version;
+        this.survey = survey;
+        this.company = company;
+        this.plan = plan;
+        this.customPillarLayout = customPillarLayout;
+    }
+
+    /**
+     * Copy and compile a survey (with its company) into a snapshot stamped with the given registry version.
+     */
+    public static ScoringConfigSnapshot compile(Survey source, long version) {
+        Company company = source.getCompany() != null ? copyOf(source.getCompany()) : null;
+        Survey survey = new Survey();
+        survey.setId(source.getId());
+        survey.setName(source.getName());
+        survey.setVersion(source.getVersion());
+        survey.setPersonalityProfile(source.getPersonalityProfile());
+        survey.setQuestions(source.getQuestions() != null
+                ? Collections.unmodifiableList(new ArrayList<>(source.getQuestions()))
+                : Collections.<Question>emptyList());
+        survey.setCompany(company);
+
+        PillarLayout layout = company != null && company.getPillars() != null
+                && !company.getPillars().getPillars().isEmpty()
+                ? PillarLayout.of(company.getPillars().getPillars().keySet())
+                : null;
+        return new ScoringConfigSnapshot(version, survey, company, SurveyScoringPlan.compile(survey), layout);
+    }
+
+    /**
+     * Snapshot of the same survey with a changed company configuration; questions and plan are reused.
+     */
+    ScoringConfigSnapshot withCompany(Company source, long version) {
+        Survey changed = new Survey();
+        changed.setId(survey.getId());
+        changed.setName(survey.getName());
+        changed.setVersion(survey.getVersion());
+        changed.setPersonalityProfile(survey.getPersonalityProfile());
+        changed.setQuestions(survey.getQuestions());
+        changed.setCompany(source);
+        ScoringConfigSnapshot recompiled = compile(changed, version);
+        return new ScoringConfigSnapshot(version, recompiled.survey, recompiled.company, plan,
+                recompiled.customPillarLayout);
+    }
+
+    private static Company copyOf(Company source) {
+        Company company = new Company();
+        company.setId(source.getId());
+        company.setValuesAnswers(source.getValuesAnswers() != null
+                ? Collections.unmodifiableList(new ArrayList<>(source.getValuesAnswers()))
+                : null);
+        company.setCulture(source.getCulture() != null ? source.getCulture().clone() : null);
+        company.setWorkLifeBenefitsImpact(copyOf(source.getWorkLifeBenefitsImpact()));
+        company.setWeightings(source.getWeightings() != null ? copyOf(source.getWeightings()) : new Weightings());
+        if (source.getPillars() != null) {
+            Pillars pillars = new Pillars();
+            // Keep the configured order, it defines the custom pillar ordinals
+            Map<String, Double> weights = source.getPillars().getPillars();
+            pillars.setPillars(Collections.unmodifiableMap(weights != null ? new LinkedHashMap<>(weights) : Map.of()));
+            company.setPillars(pillars);
+        }
+        return company;
+    }
+
+    /**
+     * Point Scores composed from a snapshot's company at a copy of its Weightings, so whoever receives the
+     * Scores cannot change the shared configuration through them.
+     */
+    static void detach(Scores scores) {
+        if (scores.getWeightings() != null) {
+            scores.setWeightings(copyOf(scores.getWeightings()));
+        }
+    }
+
+    private static Weightings copyOf(Weightings source) {
+        Weightings weightings = new Weightings();
+        weightings.setValues(source.getValues());
+        weightings.setCulture(source.getCulture());
+        weightings.setMindset(source.getMindset());
+        weightings.setWorkLife(source.getWorkLife());
+        return weightings;
+    }
+
+    private static WorkLifeBenefitsImpactDTO copyOf(WorkLifeBenefitsImpactDTO source) {
+        if (source == null) {
+            return null;
+        }
+        WorkLifeBenefitsImpactDTO copy = new WorkLifeBenefitsImpactDTO();
+        copy.setImpact(source.getImpact() != null ? source.getImpact().clone() : null);
+        copy.setWorkplace(source.getWorkplace() != null ? source.getWorkplace().clone() : null);
+        copy.setBenefits(source.getBenefits() != null ? source.getBenefits().clone() : null);
+        return copy;
+    }
+
+    /** Registry version this snapshot was published at; increases with every change. */
+    public long getVersion() { return version; }
+    public String getSurveyId() { return survey.getId(); }
+    public long getSurveyVersion() { return survey.getVersion(); }
+    public String getCompanyId() { return company != null ? company.getId() : null; }
+    /** The shared survey graph; read-only, for scoring code in this package. */
+    Survey getSurvey() { return survey; }
+    /** The shared company graph, or null if the survey has none; read-only, for scoring code in this package. */
+    Company getCompany() { return company; }
+    public SurveyScoringPlan getPlan() { return plan; }
+    /** Ordinals of the company's custom pillars, or null when the standard pillars apply. */
+    public PillarLayout getCustomPillarLayout() { return customPillarLayout; }
+}
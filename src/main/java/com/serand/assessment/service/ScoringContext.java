@@ -0,0 +1,30 @@
+package com.serand.assessment.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Mutable state for scoring a single survey response.
+ * A new context is created per request so the CentralScoringEngine itself holds no per-candidate state;
+ * a context must not be shared between responses or threads.
+ */
+public class ScoringContext {
+
+    // Question ID -> LLM explanation for Gemini-explained questions of this response only
+    private final Map<String, String> scoreExplanations = new HashMap<>();
+
+    void recordScoreExplanation(String questionId, String explanation) {
+        scoreExplanations.put(questionId, explanation);
+    }
+
+    String getScoreExplanation(String questionId) {
+        return scoreExplanations.get(questionId);
+    }
+
+    /**
+     * Get the score explanations recorded for this response.
+     */
+    public Map<String, String> getScoreExplanations() {
+        return new HashMap<>(scoreExplanations);
+    }
+}
@@ -0,0 +1,12 @@
+package com.serand.assessment.service;
+
+/**
+ * Admission class of a scoring request. Interactive submissions are dispatched ahead of bulk
+ * re-scoring by weight, without starving bulk work entirely.
+ */
+public enum ScoringPriority {
+    /** A candidate's live submission; someone is waiting for the result. */
+    INTERACTIVE,
+    /** Bulk imports and re-scoring, where throughput matters more than latency. */
+    BULK
+}
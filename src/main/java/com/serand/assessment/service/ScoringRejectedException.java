@@ -0,0 +1,22 @@
+package com.serand.assessment.service;
+
+/**
+ * A scoring request was not admitted: its priority class or its company's queue was full, or it
+ * waited longer than the admission queue allows. The request was not scored and can be retried.
+ */
+public class ScoringRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String companyId;
+    private final ScoringPriority priority;
+
+    public ScoringRejectedException(String message, String companyId, ScoringPriority priority) {
+        super(message);
+        this.companyId = companyId;
+        this.priority = priority;
+    }
+
+    public String getCompanyId() { return companyId; }
+    public ScoringPriority getPriority() { return priority; }
+}
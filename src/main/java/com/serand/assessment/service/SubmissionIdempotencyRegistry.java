@@ -0,0 +1,144 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.dto.SurveyProcessingResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Makes survey submissions idempotent by SurveyResponse id. A duplicate that arrives while the first
+ * submission is still processing attaches to its future; a retry after it finished successfully is
+ * answered from a bounded LRU cache of finalized responses (expiring after the TTL) without re-scoring
+ * or re-persisting. Failed submissions are not cached, so a retry runs them again.
+ */
+@Component
+public class SubmissionIdempotencyRegistry {
+
+    static final int DEFAULT_MAX_SIZE = 10_000;
+    static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, CompletableFuture<SurveyProcessingResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Entry> finalized;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SubmissionIdempotencyRegistry() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TTL);
+    }
+
+    @Autowired
+    public SubmissionIdempotencyRegistry(@Value("${scoring.idempotency.max-size:10000}") int maxSize,
+                                         @Value("${scoring.idempotency.ttl:PT1H}") Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    SubmissionIdempotencyRegistry(int maxSize, Duration ttl, LongSupplier nanoClock) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.finalized = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > SubmissionIdempotencyRegistry.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Run the submission unless a submission with the same id is in flight or already finalized.
+     * Submissions without an id are always run. Each caller gets its own dependent future, so one
+     * caller cancelling does not affect the others.
+     */
+    public CompletableFuture<SurveyProcessingResponse> execute(String submissionId,
+                                                               Supplier<CompletableFuture<SurveyProcessingResponse>> submission) {
+        if (submissionId == null) {
+            return submission.get();
+        }
+        SurveyProcessingResponse cached = getIfPresent(submissionId);
+        if (cached != null) {
+            hits.increment();
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<SurveyProcessingResponse> created = new CompletableFuture<>();
+        CompletableFuture<SurveyProcessingResponse> existing = inFlight.putIfAbsent(submissionId, created);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+        // The previous owner may have finalized between the cache check and registering
+        SurveyProcessingResponse finalizedMeanwhile = getIfPresent(submissionId);
+        if (finalizedMeanwhile != null) {
+            inFlight.remove(submissionId, created);
+            created.complete(finalizedMeanwhile);
+            hits.increment();
+            return created.copy();
+        }
+        misses.increment();
+        CompletableFuture<SurveyProcessingResponse> running;
+        try {
+            running = submission.get();
+        } catch (RuntimeException e) {
+            running = CompletableFuture.failedFuture(e);
+        }
+        running.whenComplete((response, failure) -> {
+            if (failure == null && response != null && response.isSuccess()) {
+                synchronized (finalized) {
+                    finalized.put(submissionId, new Entry(response, nanoClock.getAsLong() + ttlNanos));
+                }
+            }
+            inFlight.remove(submissionId, created);
+            if (failure != null) {
+                created.completeExceptionally(failure);
+            } else {
+                created.complete(response);
+            }
+        });
+        return created.copy();
+    }
+
+    SurveyProcessingResponse getIfPresent(String submissionId) {
+        synchronized (finalized) {
+            Entry entry = finalized.get(submissionId);
+            if (entry == null) {
+                return null;
+            }
+            if (nanoClock.getAsLong() - entry.expiresAtNanos() >= 0) {
+                finalized.remove(submissionId);
+                return null;
+            }
+            return entry.response();
+        }
+    }
+
+    public int size() {
+        synchronized (finalized) {
+            return finalized.size();
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    public long getHitCount() { return hits.sum(); }
+    public long getMissCount() { return misses.sum(); }
+    public long getCoalescedCount() { return coalesced.sum(); }
+
+    private record Entry(SurveyProcessingResponse response, long expiresAtNanos) {
+    }
+}
@@ -2,9 +2,17 @@ package com.serand.assessment.service;
 
 import com.serand.assessment.dto.SurveyProcessingResponse;
 import com.serand.assessment.model.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
 
+import java.io.InputStream;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * REFACTORED VERSION: SurveyResponseService now orchestrates the scoring flow
@@ -12,6 +20,7 @@ import java.util.concurrent.CompletableFuture;
  * 
  * Original method was 184 lines, now reduced to under 100 lines.
  */
+@Service
 public class SurveyResponseService {
 
     // --- Dependencies ---
@@ -24,8 +33,27 @@ public class SurveyResponseService {
     // --- New Refactored Services ---
     private final CentralScoringEngine centralScoringEngine;
     private final ScoreCompositionService scoreCompositionService;
+    private final CvScoringService cvScoringService;
+    private final SubmissionIdempotencyRegistry idempotencyRegistry;
+    private final ScoringAdmissionController admissionController;
+    private final ScoringConfigRegistry configRegistry;
+
+    // --- Pipeline Executors ---
+    private final Executor scoringExecutor;
+    private final Executor persistenceExecutor;
+    private final Executor postProcessingExecutor;
+
+    // Shared cross-request write buffer; null writes each request's entities directly
+    private final WriteBehindBuffer writeBehindBuffer;
+
+    // Delivers ATS pushes recorded with the application write; null pushes inline during post-processing
+    private final AtsOutboxDispatcher atsOutboxDispatcher;
+
+    // Persistent feedback queue; null generates feedback inline during post-processing
+    private final FeedbackJobWorker feedbackJobWorker;
 
     // Using constructor injection to make the class runnable without a Spring context.
+    // Without executors every stage runs on the calling thread.
     public SurveyResponseService(SurveyService surveyService, 
                                 CandidateService candidateService, 
                                 ApplicationService applicationService, 
@@ -33,6 +61,46 @@ public class SurveyResponseService {
                                 ApplicationTrackingService applicationTrackingService,
                                 CentralScoringEngine centralScoringEngine,
                                 ScoreCompositionService scoreCompositionService) {
+        this(surveyService, candidateService, applicationService, geminiService, applicationTrackingService,
+                centralScoringEngine, scoreCompositionService, Runnable::run, Runnable::run, Runnable::run, null);
+    }
+
+    public SurveyResponseService(SurveyService surveyService,
+                                CandidateService candidateService,
+                                ApplicationService applicationService,
+                                GeminiService geminiService,
+                                ApplicationTrackingService applicationTrackingService,
+                                CentralScoringEngine centralScoringEngine,
+                                ScoreCompositionService scoreCompositionService,
+                                Executor scoringExecutor,
+                                Executor persistenceExecutor,
+                                Executor postProcessingExecutor,
+                                WriteBehindBuffer writeBehindBuffer) {
+        this(surveyService, candidateService, applicationService, geminiService, applicationTrackingService,
+                centralScoringEngine, scoreCompositionService, new CvScoringService(),
+                new SubmissionIdempotencyRegistry(), new ScoringAdmissionController(),
+                new ScoringConfigRegistry(surveyService), scoringExecutor, persistenceExecutor, postProcessingExecutor,
+                writeBehindBuffer, null, null);
+    }
+
+    @Autowired
+    public SurveyResponseService(SurveyService surveyService, 
+                                CandidateService candidateService, 
+                                ApplicationService applicationService, 
+                                GeminiService geminiService, 
+                                ApplicationTrackingService applicationTrackingService,
+                                CentralScoringEngine centralScoringEngine,
+                                ScoreCompositionService scoreCompositionService,
+                                CvScoringService cvScoringService,
+                                SubmissionIdempotencyRegistry idempotencyRegistry,
+                                ScoringAdmissionController admissionController,
+                                ScoringConfigRegistry configRegistry,
+                                @Qualifier("scoringPipelineExecutor") Executor scoringExecutor,
+                                @Qualifier("persistenceExecutor") Executor persistenceExecutor,
+                                @Qualifier("postProcessingExecutor") Executor postProcessingExecutor,
+                                @Autowired(required = false) WriteBehindBuffer writeBehindBuffer,
+                                @Autowired(required = false) AtsOutboxDispatcher atsOutboxDispatcher,
+                                @Autowired(required = false) FeedbackJobWorker feedbackJobWorker) {
         this.surveyService = surveyService;
         this.candidateService = candidateService;
         this.applicationService = applicationService;
@@ -40,76 +108,215 @@ public class SurveyResponseService {
         this.applicationTrackingService = applicationTrackingService;
         this.centralScoringEngine = centralScoringEngine;
         this.scoreCompositionService = scoreCompositionService;
+        this.cvScoringService = cvScoringService;
+        this.idempotencyRegistry = idempotencyRegistry;
+        this.admissionController = admissionController;
+        this.configRegistry = configRegistry;
+        this.scoringExecutor = scoringExecutor;
+        this.persistenceExecutor = persistenceExecutor;
+        this.postProcessingExecutor = postProcessingExecutor;
+        this.writeBehindBuffer = writeBehindBuffer;
+        this.atsOutboxDispatcher = atsOutboxDispatcher;
+        this.feedbackJobWorker = feedbackJobWorker;
     }
 
     /**
-     * REFACTORED: Processes a complete survey response using the new scoring services.
-     * Method reduced from 184 lines to under 100 lines through clean separation of concerns.
+     * REFACTORED: Processes a complete survey response as a staged asynchronous pipeline:
+     * link/validate, score and compose on the scoring executor, persist on the persistence executor.
+     * The returned future completes once the scores are persisted; feedback generation and the
+     * ATS push continue on the post-processing executor off the critical path. With the ATS outbox
+     * enabled the push is recorded with the application write and delivered by the AtsOutboxDispatcher;
+     * with the feedback queue enabled feedback is queued for the FeedbackJobWorker instead of generated here.
+     *
+     * Submissions are idempotent by SurveyResponse id: a duplicate of an in-flight submission shares its
+     * result and a retry of a successful one returns the finalized response without re-processing.
+     *
+     * @param resume the candidate's résumé, streamed and scored in parallel with the questions into the
+     *               candidate's cvScoreMap; null keeps the existing CV score. Not closed by this method.
      */
-    public CompletableFuture<SurveyProcessingResponse> processSurveyResponse(SurveyResponse surveyResponse, byte[] resumeFile) {
-        try {
-            // Extract data from survey response
-            Survey survey = surveyResponse.getSurvey();
-            Candidate candidate = surveyResponse.getCandidate();
-            Application application = surveyResponse.getApplication();
-            Company company = survey.getCompany();
-            Map<String, SurveyResponseAnswer> answersMap = surveyResponse.getAnswerMap();
-
-            // --- Part 1: Ensure Application is Linked (KEPT - Orchestration Logic) ---
-            validateAndLinkApplication(application, surveyResponse);
-            
-            // --- Part 2: Calculate Individual Question Scores (EXTRACTED TO CentralScoringEngine) ---
-            centralScoringEngine.calculateAllQuestionScores(surveyResponse, survey, company);
-            
-            // --- Part 3: Aggregate Pillar Scores and Calculate Final Score (EXTRACTED TO ScoreCompositionService) ---
-            Pillars pillars = company.getPillars();
-            Scores scores = scoreCompositionService.aggregatePillarScores(answersMap, company, pillars);
-            
-            // --- Part 4: Calculate Overall Score and Update Application (EXTRACTED TO ScoreCompositionService) ---
-            double cvScore = candidate.getCvScoreMap().getOrDefault(survey.getId(), 0.0);
-            application = scoreCompositionService.updateApplicationScores(application, scores, cvScore);
-            
-            // --- Part 5: Data Persistence (KEPT - Orchestration Logic) ---
-            persistData(application, candidate);
-            
-            // --- Part 6: Post-Processing & External Calls (KEPT - Orchestration Logic) ---
-            performPostProcessing(candidate, survey, application);
-
-            return CompletableFuture.completedFuture(SurveyProcessingResponse.success(application.getApplicationOverallScore(), scores, "Success"));
-        } catch (Exception e) {
-            e.printStackTrace();
-            return CompletableFuture.completedFuture(SurveyProcessingResponse.error("Failed: " + e.getMessage()));
+    public CompletableFuture<SurveyProcessingResponse> processSurveyResponse(SurveyResponse surveyResponse, InputStream resume) {
+        return processSurveyResponse(surveyResponse, resume, ScoringPriority.INTERACTIVE);
+    }
+
+    /**
+     * Process a survey response in the given admission class. Work is admitted through the
+     * ScoringAdmissionController, queued fairly per company; a request that is not admitted
+     * completes with a {@link SurveyProcessingResponse#rejected} response and can be retried.
+     */
+    public CompletableFuture<SurveyProcessingResponse> processSurveyResponse(SurveyResponse surveyResponse, InputStream resume,
+                                                                             ScoringPriority priority) {
+        return idempotencyRegistry.execute(surveyResponse.getId(), () -> admissionController
+                .submit(companyIdOf(surveyResponse), priority, () -> process(surveyResponse, resume))
+                .exceptionally(failure -> {
+                    Throwable cause = unwrap(failure);
+                    if (cause instanceof ScoringRejectedException) {
+                        return SurveyProcessingResponse.rejected("Rejected: " + cause.getMessage());
+                    }
+                    return SurveyProcessingResponse.error("Failed: " + cause.getMessage());
+                }));
+    }
+
+    /**
+     * The survey graph to score against: the registered configuration when the registry overrides the request's
+     * graph (see ScoringConfigRegistry.snapshotFor), otherwise the graph the request carried. The request itself
+     * is never changed, so the shared snapshot graph does not leak into the response, application or feedback.
+     */
+    private Survey scoringSurveyOf(SurveyResponse surveyResponse) {
+        ScoringConfigSnapshot snapshot = configRegistry.snapshotFor(surveyResponse.getSurvey());
+        return snapshot != null ? snapshot.getSurvey() : surveyResponse.getSurvey();
+    }
+
+    private static String companyIdOf(SurveyResponse surveyResponse) {
+        Survey survey = surveyResponse.getSurvey();
+        if (survey != null && survey.getCompany() != null) {
+            return survey.getCompany().getId();
+        }
+        Application application = surveyResponse.getApplication();
+        return application != null && application.getCompany() != null ? application.getCompany().getId() : null;
+    }
+
+    private CompletableFuture<SurveyProcessingResponse> process(SurveyResponse surveyResponse, InputStream resume) {
+        Survey scoringSurvey = scoringSurveyOf(surveyResponse);
+        PersistenceUnitOfWork unitOfWork = new PersistenceUnitOfWork(applicationService, candidateService, writeBehindBuffer);
+        return CompletableFuture
+                // --- Part 1: Ensure Application is Linked (KEPT - Orchestration Logic) ---
+                .supplyAsync(() -> {
+                    validateAndLinkApplication(surveyResponse.getApplication(), surveyResponse, unitOfWork);
+                    return surveyResponse;
+                }, scoringExecutor)
+                // --- Parts 2-4: Score questions, aggregate pillars, update application ---
+                .thenApply(response -> scoreAndCompose(response, scoringSurvey, resume))
+                // --- Part 5: Data Persistence (KEPT - Orchestration Logic) ---
+                .thenComposeAsync(result -> persistData(result.application(), result.candidate(), unitOfWork)
+                        .thenApply(persisted -> result), persistenceExecutor)
+                // --- Part 6: Post-Processing & External Calls, off the critical path ---
+                .thenApply(result -> {
+                    schedulePostProcessing(result);
+                    return SurveyProcessingResponse.success(result.application().getApplicationOverallScore(), result.scores(), "Success");
+                })
+                .exceptionally(failure -> {
+                    Throwable cause = unwrap(failure);
+                    cause.printStackTrace();
+                    return SurveyProcessingResponse.error("Failed: " + cause.getMessage());
+                });
+    }
+
+    /**
+     * Score every question and compose the pillar and overall scores for one response against the given survey
+     * configuration. A résumé is scored on the CV executor while the questions are scored on this thread.
+     */
+    private ScoredResponse scoreAndCompose(SurveyResponse surveyResponse, Survey survey, InputStream resume) {
+        // Extract data from survey response
+        Candidate candidate = surveyResponse.getCandidate();
+        Application application = surveyResponse.getApplication();
+        Company company = survey.getCompany();
+        Map<String, SurveyResponseAnswer> answersMap = surveyResponse.getAnswerMap();
+
+        CompletableFuture<Double> cvScoring = resume != null
+                ? cvScoringService.scoreCvAsync(resume, company).exceptionally(failure -> {
+                    // Fall back to the existing CV score rather than failing the submission
+                    unwrap(failure).printStackTrace();
+                    return Double.NaN;
+                })
+                : null;
+
+        // --- Part 2: Calculate Individual Question Scores (EXTRACTED TO CentralScoringEngine) ---
+        centralScoringEngine.calculateAllQuestionScores(surveyResponse, survey, company);
+        
+        // --- Part 3: Aggregate Pillar Scores and Calculate Final Score (EXTRACTED TO ScoreCompositionService) ---
+        Pillars pillars = company.getPillars();
+        Scores scores = scoreCompositionService.aggregatePillarScores(answersMap, company, pillars);
+        
+        // --- Part 4: Calculate Overall Score and Update Application (EXTRACTED TO ScoreCompositionService) ---
+        if (cvScoring != null) {
+            double resumeScore = cvScoring.join();
+            if (!Double.isNaN(resumeScore)) {
+                candidate.getCvScoreMap().put(survey.getId(), resumeScore);
+            }
+        }
+        double cvScore = candidate.getCvScoreMap().getOrDefault(survey.getId(), 0.0);
+        if (survey != surveyResponse.getSurvey()) {
+            ScoringConfigSnapshot.detach(scores);
+        }
+        application = scoreCompositionService.updateApplicationScores(application, scores, cvScore);
+
+        return new ScoredResponse(surveyResponse.getSurvey(), candidate, application, scores);
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
         }
+        return cause;
     }
 
     /**
      * Validate and link application to survey response.
      * Extracted from original method for better organization.
      */
-    private void validateAndLinkApplication(Application application, SurveyResponse surveyResponse) {
+    private void validateAndLinkApplication(Application application, SurveyResponse surveyResponse,
+                                            PersistenceUnitOfWork unitOfWork) {
         if (application == null) {
             throw new IllegalStateException("Application must not be null.");
         }
         application.setComplete(true);
         application.setCandidateResponse(surveyResponse);
-        applicationService.saveApplication(application);
+        unitOfWork.registerDirty(application);
     }
 
     /**
-     * Persist application and candidate data.
+     * Persist application and candidate data, writing each dirty entity once.
      * Extracted from original method for better organization.
      */
-    private void persistData(Application application, Candidate candidate) {
-        applicationService.saveApplication(application);
-        candidateService.saveCandidate(candidate);
+    private CompletableFuture<Void> persistData(Application application, Candidate candidate,
+                                                PersistenceUnitOfWork unitOfWork) {
+        if (atsOutboxDispatcher != null) {
+            application.setAtsPushPending(true);
+        }
+        unitOfWork.registerDirty(application);
+        unitOfWork.registerDirty(candidate);
+        return unitOfWork.commit();
     }
 
     /**
      * Perform post-processing tasks including AI feedback and ATS integration.
      * Extracted from original method for better organization.
      */
+    /**
+     * Hand feedback and the ATS push to the post-processing executor. A saturated executor rejects the work
+     * instead of running it on this (persistence) thread; it is logged and skipped, except that with the ATS
+     * outbox the push was already recorded with the application and is delivered by the dispatcher's poll.
+     */
+    private void schedulePostProcessing(ScoredResponse result) {
+        try {
+            CompletableFuture.runAsync(
+                    () -> performPostProcessing(result.candidate(), result.survey(), result.application()),
+                    postProcessingExecutor)
+                    .exceptionally(failure -> {
+                        failure.printStackTrace();
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            System.err.println("Post-processing saturated: skipped feedback"
+                    + (atsOutboxDispatcher == null ? " and ATS push" : "") + " for candidate "
+                    + result.candidate().getId() + " and survey " + result.survey().getId());
+        }
+    }
+
     private void performPostProcessing(Candidate candidate, Survey survey, Application application) {
-        geminiService.generateCandidateFeedback(candidate, survey);
-        applicationTrackingService.pushingScoreToAts(application);
+        if (feedbackJobWorker != null) {
+            feedbackJobWorker.request(candidate, survey, FeedbackPriority.NORMAL);
+        } else {
+            geminiService.generateCandidateFeedback(candidate, survey);
+        }
+        if (atsOutboxDispatcher != null) {
+            atsOutboxDispatcher.wakeUp();
+        } else {
+            applicationTrackingService.pushingScoreToAts(application);
+        }
+    }
+
+    private record ScoredResponse(Survey survey, Candidate candidate, Application application, Scores scores) {
     }
-} 
\ No newline at end of file
+}
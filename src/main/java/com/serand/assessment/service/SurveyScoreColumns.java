@@ -0,0 +1,203 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.PillarLayout;
+import com.serand.assessment.model.Pillars;
+import com.serand.assessment.model.Scores;
+import com.serand.assessment.model.Weightings;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented snapshot of the pillar scores of every scored application of one survey:
+ * one primitive array per pillar instead of one Scores object per application.
+ * Overall and CV-blended scores for the whole survey are recomputed by straight loops over
+ * these columns, which the JIT unrolls and auto-vectorizes, with the same arithmetic as
+ * Scores.getOverallScore and ScoreCompositionService.calculateOverallScore.
+ * A snapshot is immutable; rescored applications show up in the next snapshot built.
+ */
+public final class SurveyScoreColumns {
+
+    private final String surveyId;
+    private final int size;
+    private final String[] applicationIds;
+    private final double[] values;
+    private final double[] culture;
+    private final double[] mindset;
+    // 0 where an application has no WorkLife, as in Scores.getOverallScore
+    private final double[] workLife;
+    private final PillarLayout customPillarLayout;
+    // Indexed by custom pillar ordinal; NaN where an application has no score for that pillar
+    private final double[][] customPillars;
+    private final double[] cvScores;
+
+    private SurveyScoreColumns(String surveyId, int size, String[] applicationIds, double[] values,
+                               double[] culture, double[] mindset, double[] workLife,
+                               PillarLayout customPillarLayout, double[][] customPillars, double[] cvScores) {
+        this.surveyId = surveyId;
+        this.size = size;
+        this.applicationIds = applicationIds;
+        this.values = values;
+        this.culture = culture;
+        this.mindset = mindset;
+        this.workLife = workLife;
+        this.customPillarLayout = customPillarLayout;
+        this.customPillars = customPillars;
+        this.cvScores = cvScores;
+    }
+
+    public static Builder builder(String surveyId) {
+        return new Builder(surveyId);
+    }
+
+    /**
+     * Survey scores (before the CV blend) of every application under the given configuration:
+     * custom pillars when pillars are configured, the standard weightings otherwise.
+     */
+    public double[] overallScores(Weightings weightings, Pillars pillars) {
+        double[] overall = new double[size];
+        if (pillars != null && !pillars.getPillars().isEmpty()) {
+            customPillarScores(pillars.getPillars(), overall);
+        } else if (weightings != null) {
+            standardPillarScores(weightings, overall);
+        }
+        return overall;
+    }
+
+    /**
+     * Final application scores under the given configuration, i.e. overallScores blended with each CV score.
+     */
+    public double[] applicationScores(Weightings weightings, Pillars pillars) {
+        double[] scores = overallScores(weightings, pillars);
+        for (int i = 0; i < size; i++) {
+            double cvScore = cvScores[i];
+            scores[i] = cvScore > 0 ? (scores[i] + cvScore) / 2 : scores[i];
+        }
+        return scores;
+    }
+
+    private void standardPillarScores(Weightings weightings, double[] out) {
+        double valuesWeight = weightings.getValues();
+        double cultureWeight = weightings.getCulture();
+        double mindsetWeight = weightings.getMindset();
+        double workLifeWeight = weightings.getWorkLife();
+        double totalWeight = valuesWeight + cultureWeight + mindsetWeight + workLifeWeight;
+        for (int i = 0; i < size; i++) {
+            out[i] = (values[i] * valuesWeight + culture[i] * cultureWeight
+                    + mindset[i] * mindsetWeight + workLife[i] * workLifeWeight) / totalWeight;
+        }
+    }
+
+    private void customPillarScores(Map<String, Double> pillarWeights, double[] out) {
+        double[] totalWeights = new double[size];
+        // Pillars are accumulated one column at a time, in the configuration's iteration order
+        for (Map.Entry<String, Double> pillar : pillarWeights.entrySet()) {
+            int ordinal = customPillarLayout.ordinalOf(pillar.getKey());
+            if (ordinal < 0) {
+                // No application has a score for this pillar
+                continue;
+            }
+            double[] column = customPillars[ordinal];
+            double weight = pillar.getValue();
+            for (int i = 0; i < size; i++) {
+                double score = column[i];
+                boolean present = score == score;
+                out[i] += present ? score * weight : 0;
+                totalWeights[i] += present ? weight : 0;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            out[i] = totalWeights[i] > 0 ? out[i] / totalWeights[i] : 0;
+        }
+    }
+
+    public String getSurveyId() { return surveyId; }
+    public int size() { return size; }
+    public String getApplicationId(int row) { return applicationIds[row]; }
+    public double getCvScore(int row) { return cvScores[row]; }
+    public PillarLayout customPillarLayout() { return customPillarLayout; }
+
+    /**
+     * Appends applications row by row, growing every column together.
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final String surveyId;
+        private int size;
+        private String[] applicationIds = new String[INITIAL_CAPACITY];
+        private double[] values = new double[INITIAL_CAPACITY];
+        private double[] culture = new double[INITIAL_CAPACITY];
+        private double[] mindset = new double[INITIAL_CAPACITY];
+        private double[] workLife = new double[INITIAL_CAPACITY];
+        private double[] cvScores = new double[INITIAL_CAPACITY];
+        private PillarLayout customPillarLayout = PillarLayout.of(List.of());
+        private double[][] customPillars = new double[0][];
+
+        private Builder(String surveyId) {
+            this.surveyId = surveyId;
+        }
+
+        public Builder add(String applicationId, Scores scores, double cvScore) {
+            if (size == applicationIds.length) {
+                grow(Math.max(INITIAL_CAPACITY, size * 2));
+            }
+            double[] vector = scores.scoreVector();
+            applicationIds[size] = applicationId;
+            values[size] = vector[Scores.VALUES];
+            culture[size] = vector[Scores.CULTURE];
+            mindset[size] = vector[Scores.MINDSET];
+            workLife[size] = Double.isNaN(vector[Scores.WORK_LIFE]) ? 0 : vector[Scores.WORK_LIFE];
+            cvScores[size] = cvScore;
+            PillarLayout layout = scores.customPillarLayout();
+            for (int ordinal = 0; ordinal < layout.size(); ordinal++) {
+                double score = vector[Scores.STANDARD_SLOTS + ordinal];
+                if (!Double.isNaN(score)) {
+                    customPillarColumn(layout.nameAt(ordinal))[size] = score;
+                }
+            }
+            size++;
+            return this;
+        }
+
+        public SurveyScoreColumns build() {
+            grow(size);
+            return new SurveyScoreColumns(surveyId, size, applicationIds, values, culture, mindset, workLife,
+                    customPillarLayout, customPillars.clone(), cvScores);
+        }
+
+        private double[] customPillarColumn(String pillarName) {
+            int ordinal = customPillarLayout.ordinalOf(pillarName);
+            if (ordinal < 0) {
+                customPillarLayout = customPillarLayout.with(pillarName);
+                ordinal = customPillarLayout.size() - 1;
+                customPillars = Arrays.copyOf(customPillars, customPillarLayout.size());
+                customPillars[ordinal] = absentColumn(applicationIds.length);
+            }
+            return customPillars[ordinal];
+        }
+
+        private void grow(int capacity) {
+            applicationIds = Arrays.copyOf(applicationIds, capacity);
+            values = Arrays.copyOf(values, capacity);
+            culture = Arrays.copyOf(culture, capacity);
+            mindset = Arrays.copyOf(mindset, capacity);
+            workLife = Arrays.copyOf(workLife, capacity);
+            cvScores = Arrays.copyOf(cvScores, capacity);
+            for (int ordinal = 0; ordinal < customPillars.length; ordinal++) {
+                double[] grown = Arrays.copyOf(customPillars[ordinal], capacity);
+                if (capacity > size) {
+                    Arrays.fill(grown, size, capacity, Double.NaN);
+                }
+                customPillars[ordinal] = grown;
+            }
+        }
+
+        private static double[] absentColumn(int capacity) {
+            double[] column = new double[capacity];
+            Arrays.fill(column, Double.NaN);
+            return column;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Pillars;
+import com.serand.assessment.model.Weightings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory columnar score snapshots, one per survey, loaded from the stored application scores on first use.
+ * Snapshots are reloaded once older than maxAge and evicted least-recently-used beyond maxSurveys.
+ * Concurrent requests for a survey that is being loaded share the one load.
+ */
+@Component
+public class SurveyScoreStore {
+
+    private final Function<String, SurveyScoreColumns> loader;
+    private final int maxSurveys;
+    private final long maxAgeNanos;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Entry> entries;
+    private final Map<String, CompletableFuture<SurveyScoreColumns>> loading = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SurveyScoreStore(ApplicationService applicationService,
+                            @Value("${scoring.score-store.max-surveys:32}") int maxSurveys,
+                            @Value("${scoring.score-store.max-age:PT5M}") Duration maxAge) {
+        this(applicationService::loadScoreColumns, maxSurveys, maxAge, System::nanoTime);
+    }
+
+    SurveyScoreStore(Function<String, SurveyScoreColumns> loader, int maxSurveys, Duration maxAge,
+                     LongSupplier nanoClock) {
+        this.loader = loader;
+        this.maxSurveys = maxSurveys;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > SurveyScoreStore.this.maxSurveys;
+            }
+        };
+    }
+
+    /**
+     * The current snapshot of a survey, loading it if absent or stale.
+     */
+    public SurveyScoreColumns columns(String surveyId) {
+        synchronized (entries) {
+            Entry entry = entries.get(surveyId);
+            if (entry != null && nanoClock.getAsLong() - entry.loadedAtNanos() < maxAgeNanos) {
+                return entry.columns();
+            }
+        }
+        return load(surveyId);
+    }
+
+    /**
+     * Final application scores of every application of a survey under the given configuration,
+     * aligned with the rows of {@link #columns}.
+     */
+    public double[] applicationScores(String surveyId, Weightings weightings, Pillars pillars) {
+        return columns(surveyId).applicationScores(weightings, pillars);
+    }
+
+    /**
+     * Load a fresh snapshot now, e.g. after a survey's applications were rescored.
+     */
+    public SurveyScoreColumns refresh(String surveyId) {
+        return load(surveyId);
+    }
+
+    public void evict(String surveyId) {
+        synchronized (entries) {
+            entries.remove(surveyId);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private SurveyScoreColumns load(String surveyId) {
+        CompletableFuture<SurveyScoreColumns> created = new CompletableFuture<>();
+        CompletableFuture<SurveyScoreColumns> existing = loading.putIfAbsent(surveyId, created);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            long startedAtNanos = nanoClock.getAsLong();
+            SurveyScoreColumns columns = loader.apply(surveyId);
+            synchronized (entries) {
+                entries.put(surveyId, new Entry(columns, startedAtNanos));
+            }
+            created.complete(columns);
+            return columns;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(surveyId, created);
+        }
+    }
+
+    private record Entry(SurveyScoreColumns columns, long loadedAtNanos) {
+    }
+}
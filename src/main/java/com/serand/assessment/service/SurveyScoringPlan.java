@@ -0,0 +1,161 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Question;
+import com.serand.assessment.model.Survey;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable, pre-compiled view of a Survey used by the CentralScoringEngine.
+ * Compiled once per survey id, version and question content so every response scored against the same
+ * survey reuses the question index and the pre-classified, ordinal-encoded MCQ answer keys.
+ */
+public final class SurveyScoringPlan {
+
+    /**
+     * How an MCQ/coding answer to a question is scored.
+     */
+    public enum McqKind {
+        /** Always/Often/Sometimes pattern, see isTypeOneQuestion. */
+        FIXED,
+        /** Company-specific answer key matched case-insensitively. */
+        VARIABLE
+    }
+
+    private final String surveyId;
+    private final long version;
+    private final String surveyName;
+    private final long questionsFingerprint;
+    private final long answerKeyFingerprint;
+    private final Map<String, CompiledQuestion> questionsById;
+
+    private SurveyScoringPlan(String surveyId, long version, String surveyName, long questionsFingerprint,
+                              Map<String, CompiledQuestion> questionsById) {
+        this.surveyId = surveyId;
+        this.version = version;
+        this.surveyName = surveyName;
+        this.questionsFingerprint = questionsFingerprint;
+        this.answerKeyFingerprint = answerKeyFingerprint(questionsById);
+        this.questionsById = questionsById;
+    }
+
+    /**
+     * Compile a scoring plan for the given survey.
+     */
+    public static SurveyScoringPlan compile(Survey survey) {
+        Map<String, CompiledQuestion> questionsById = new HashMap<>();
+        List<Question> questions = survey.getQuestions();
+        if (questions != null) {
+            for (Question question : questions) {
+                // First definition wins, matching the previous stream().filter().findFirst() lookup
+                if (question != null && question.getId() != null) {
+                    questionsById.putIfAbsent(question.getId(), compileQuestion(question));
+                }
+            }
+        }
+        return new SurveyScoringPlan(survey.getId(), survey.getVersion(), survey.getName(), fingerprint(questions),
+                Collections.unmodifiableMap(questionsById));
+    }
+
+    /**
+     * Whether this plan was compiled from the survey's current version and questions. Surveys carried in
+     * requests often all have the default version, so the questions themselves are compared as well.
+     */
+    public boolean isCompiledFrom(Survey survey) {
+        return version == survey.getVersion() && questionsFingerprint == fingerprint(survey.getQuestions());
+    }
+
+    /**
+     * 64-bit hash of everything compileQuestion reads, in question order.
+     */
+    static long fingerprint(List<Question> questions) {
+        if (questions == null) {
+            return 0;
+        }
+        long hash = 0xcbf29ce484222325L;
+        for (Question question : questions) {
+            if (question == null) {
+                hash = mix(hash, 0);
+                continue;
+            }
+            hash = mix(hash, Objects.hashCode(question.getId()));
+            hash = mix(hash, Objects.hashCode(question.getReference()));
+            hash = mix(hash, Objects.hashCode(question.getQuestion()));
+            hash = mix(hash, Arrays.hashCode(question.getAvailableAnswers()));
+            hash = mix(hash, Arrays.hashCode(question.getCorrectAnswers()));
+            hash = mix(hash, question.isGemini() ? 1 : 2);
+        }
+        return hash;
+    }
+
+    /**
+     * 64-bit hash of the MCQ answer keys (available and correct answers) by question id. Stored with every
+     * scored response, so answers scored against keys that were corrected since can be found again.
+     */
+    static long answerKeyFingerprint(Map<String, CompiledQuestion> questionsById) {
+        long hash = 0xcbf29ce484222325L;
+        for (Map.Entry<String, CompiledQuestion> entry : new TreeMap<>(questionsById).entrySet()) {
+            Question question = entry.getValue().getQuestion();
+            hash = mix(hash, entry.getKey().hashCode());
+            hash = mix(hash, Arrays.hashCode(question.getAvailableAnswers()));
+            hash = mix(hash, Arrays.hashCode(question.getCorrectAnswers()));
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * 0x100000001b3L;
+    }
+
+    /**
+     * Compile a single question outside of a survey plan.
+     */
+    public static CompiledQuestion compileQuestion(Question question) {
+        McqAnswerKey answerKey = McqAnswerKey.compile(question.getAvailableAnswers(), question.getCorrectAnswers());
+        McqKind kind = answerKey.isFixedScale() ? McqKind.FIXED : McqKind.VARIABLE;
+        return new CompiledQuestion(question, kind, answerKey);
+    }
+
+    static String normalize(String answer) {
+        return answer.toLowerCase(Locale.ROOT);
+    }
+
+    public CompiledQuestion getQuestion(String questionId) {
+        return questionId != null ? questionsById.get(questionId) : null;
+    }
+
+    public String getSurveyId() { return surveyId; }
+    public long getVersion() { return version; }
+    public String getSurveyName() { return surveyName; }
+    public int getQuestionCount() { return questionsById.size(); }
+    public Set<String> getQuestionIds() { return questionsById.keySet(); }
+    public long getAnswerKeyFingerprint() { return answerKeyFingerprint; }
+
+    /**
+     * A question together with its pre-computed scoring metadata.
+     */
+    public static final class CompiledQuestion {
+        private final Question question;
+        private final McqKind mcqKind;
+        private final McqAnswerKey answerKey;
+
+        private CompiledQuestion(Question question, McqKind mcqKind, McqAnswerKey answerKey) {
+            this.question = question;
+            this.mcqKind = mcqKind;
+            this.answerKey = answerKey;
+        }
+
+        public Question getQuestion() { return question; }
+        public McqKind getMcqKind() { return mcqKind; }
+        public int getCorrectAnswerCount() { return answerKey.getCorrectAnswerCount(); }
+        McqAnswerKey getAnswerKey() { return answerKey; }
+    }
+}
@@ -0,0 +1,50 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Survey;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches compiled SurveyScoringPlans by survey id, recompiling when the survey version or its questions
+ * changed. Surveys without an id are compiled on every call and never cached.
+ */
+@Component
+public class SurveyScoringPlanCache {
+
+    private final Map<String, SurveyScoringPlan> plans = new ConcurrentHashMap<>();
+
+    public SurveyScoringPlan getPlan(Survey survey) {
+        if (survey.getId() == null) {
+            return SurveyScoringPlan.compile(survey);
+        }
+        SurveyScoringPlan plan = plans.get(survey.getId());
+        if (plan != null && plan.isCompiledFrom(survey)) {
+            return plan;
+        }
+        return plans.compute(survey.getId(), (id, cached) ->
+                cached != null && cached.isCompiledFrom(survey) ? cached : SurveyScoringPlan.compile(survey));
+    }
+
+    /**
+     * Install an already compiled plan, replacing any cached plan for the survey even at the same version
+     * (e.g. one published by the ScoringConfigRegistry after an in-place edit).
+     */
+    public void prime(SurveyScoringPlan plan) {
+        if (plan.getSurveyId() != null) {
+            plans.put(plan.getSurveyId(), plan);
+        }
+    }
+
+    /**
+     * Drop the cached plan for a survey (e.g. after its questions were edited in place).
+     */
+    public void evict(String surveyId) {
+        plans.remove(surveyId);
+    }
+
+    public int size() {
+        return plans.size();
+    }
+}
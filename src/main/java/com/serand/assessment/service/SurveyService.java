@@ -1,12 +1,73 @@
 package com.serand.assessment.service;
 
+import com.serand.assessment.model.Company;
 import com.serand.assessment.model.Mindset;
 import com.serand.assessment.model.PersonalityProfile;
+import com.serand.assessment.model.Survey;
+import com.serand.assessment.repository.CompanyRepository;
+import com.serand.assessment.repository.PersistenceMapper;
+import com.serand.assessment.repository.SurveyDocument;
+import com.serand.assessment.repository.SurveyRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
 @Service
 public class SurveyService {
-    
+
+    private final SurveyRepository surveyRepository;
+    private final CompanyRepository companyRepository;
+
+    public SurveyService(SurveyRepository surveyRepository, CompanyRepository companyRepository) {
+        this.surveyRepository = surveyRepository;
+        this.companyRepository = companyRepository;
+    }
+
+    /**
+     * Load a survey and its company with only the fields the scoring pipeline reads.
+     */
+    public Optional<Survey> findSurveyForScoring(String surveyId) {
+        return surveyRepository.findScoringViewById(surveyId).map(this::withCompany);
+    }
+
+    /**
+     * Load the full survey, including the personality profile, with its company.
+     */
+    public Optional<Survey> findSurvey(String surveyId) {
+        return surveyRepository.findById(surveyId).map(this::withCompany);
+    }
+
+    public Optional<Company> findCompanyForScoring(String companyId) {
+        return companyRepository.findScoringViewById(companyId).map(PersistenceMapper::toModel);
+    }
+
+    /**
+     * Scoring view of every company, for warming the ScoringConfigRegistry.
+     */
+    public List<Company> findAllCompaniesForScoring() {
+        return companyRepository.findAllScoringViews().stream().map(PersistenceMapper::toModel).toList();
+    }
+
+    /**
+     * Scoring view of every survey, linked to its company through the given lookup by company id
+     * (e.g. over companies loaded up front) instead of one query per survey.
+     */
+    public List<Survey> findAllSurveysForScoring(Function<String, Company> companyLookup) {
+        return surveyRepository.findAllScoringViews().stream()
+                .map(document -> PersistenceMapper.toModel(document,
+                        document.getCompanyId() != null ? companyLookup.apply(document.getCompanyId()) : null))
+                .toList();
+    }
+
+    private Survey withCompany(SurveyDocument document) {
+        Company company = document.getCompanyId() != null
+                ? findCompanyForScoring(document.getCompanyId()).orElse(null)
+                : null;
+        return PersistenceMapper.toModel(document, company);
+    }
+
     public Mindset calculateZindexScore(Mindset candidateMindset, PersonalityProfile targetProfile) {
         // Mock Z-index calculation - in real implementation this would normalize scores
         Mindset zIndexed = new Mindset();
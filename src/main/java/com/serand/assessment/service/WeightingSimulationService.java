@@ -0,0 +1,189 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Company;
+import com.serand.assessment.model.Pillars;
+import com.serand.assessment.model.Weightings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * What-if ranking of a survey's applicants under proposed weightings or pillars, without writing anything.
+ * Both the current and the proposed application scores are recomputed from the survey's cached columnar
+ * snapshot in SurveyScoreStore, the same way a re-composition job would store them, and ranked against
+ * each other. Applicants with equal scores share a rank (1, 2, 2, 4). A survey missing from the
+ * ScoringConfigRegistry is compiled privately for the simulation and never published.
+ */
+@Service
+public class WeightingSimulationService {
+
+    private final ScoringConfigRegistry configRegistry;
+    private final SurveyService surveyService;
+    private final SurveyScoreStore scoreStore;
+    private final int maxTopN;
+
+    public WeightingSimulationService(ScoringConfigRegistry configRegistry, SurveyService surveyService,
+                                      SurveyScoreStore scoreStore,
+                                      @Value("${scoring.simulation.max-top-n:500}") int maxTopN) {
+        this.configRegistry = configRegistry;
+        this.surveyService = surveyService;
+        this.scoreStore = scoreStore;
+        this.maxTopN = Math.max(1, maxTopN);
+    }
+
+    /**
+     * Rank a survey's applicants under the proposed configuration. Null weightings or pillars keep the
+     * company's current ones.
+     *
+     * @return the new top applicants with their rank changes, or empty if the survey does not exist
+     * @throws IllegalArgumentException if a proposed weight is negative, all weights are zero, or a proposed
+     *         pillar is neither a current pillar nor scored in any stored application
+     */
+    public Optional<Simulation> simulate(String surveyId, Weightings weightings, Pillars pillars, int topN) {
+        // A private snapshot (registry version 0): a simulation must not change what live scoring uses
+        Optional<ScoringConfigSnapshot> snapshot = Optional.ofNullable(configRegistry.get(surveyId))
+                .or(() -> surveyService.findSurveyForScoring(surveyId)
+                        .map(survey -> ScoringConfigSnapshot.compile(survey, 0)));
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+        Company company = snapshot.get().getCompany();
+        Weightings currentWeightings = company != null ? company.getWeightings() : null;
+        Pillars currentPillars = company != null ? company.getPillars() : null;
+        Weightings proposedWeightings = weightings != null ? weightings : currentWeightings;
+        Pillars proposedPillars = pillars != null ? pillars : currentPillars;
+        if (proposedPillars != null && proposedPillars.getPillars() == null) {
+            proposedPillars = new Pillars();
+        }
+        validate(proposedWeightings, proposedPillars);
+
+        SurveyScoreColumns columns = scoreStore.columns(surveyId);
+        if (pillars != null) {
+            requireStoredScores(pillars, currentPillars, columns);
+        }
+        double[] currentScores = columns.applicationScores(currentWeightings, currentPillars);
+        double[] proposedScores = columns.applicationScores(proposedWeightings, proposedPillars);
+        int[] currentRanks = ranks(currentScores);
+        int[] proposedRanks = ranks(proposedScores);
+
+        int limit = Math.min(Math.max(1, Math.min(topN, maxTopN)), columns.size());
+        int applicantsMoved = 0;
+        List<Integer> top = new ArrayList<>();
+        for (int row = 0; row < columns.size(); row++) {
+            if (currentRanks[row] != proposedRanks[row]) {
+                applicantsMoved++;
+            }
+            // Ties at the cut-off can put more than limit rows within it
+            if (proposedRanks[row] <= limit) {
+                top.add(row);
+            }
+        }
+        top.sort(Comparator.<Integer>comparingInt(row -> proposedRanks[row]).thenComparingInt(row -> row));
+
+        List<RankedApplicant> topApplicants = new ArrayList<>(limit);
+        for (int row : top.subList(0, Math.min(limit, top.size()))) {
+            topApplicants.add(new RankedApplicant(columns.getApplicationId(row), proposedRanks[row], currentRanks[row],
+                    currentRanks[row] - proposedRanks[row], proposedScores[row], currentScores[row]));
+        }
+        return Optional.of(new Simulation(surveyId, columns.size(), applicantsMoved, topApplicants));
+    }
+
+    private static void validate(Weightings weightings, Pillars pillars) {
+        if (pillars != null && !pillars.getPillars().isEmpty()) {
+            double total = 0;
+            for (Map.Entry<String, Double> pillar : pillars.getPillars().entrySet()) {
+                total += requireWeight(pillar.getKey(), pillar.getValue());
+            }
+            requirePositiveTotal(total);
+        } else if (weightings != null) {
+            requirePositiveTotal(requireWeight("values", weightings.getValues())
+                    + requireWeight("culture", weightings.getCulture())
+                    + requireWeight("mindset", weightings.getMindset())
+                    + requireWeight("workLife", weightings.getWorkLife()));
+        }
+    }
+
+    // Stored pillar scores cannot be recomputed here, so a new pillar would silently carry no weight
+    private static void requireStoredScores(Pillars proposed, Pillars current, SurveyScoreColumns columns) {
+        if (proposed.getPillars() == null || columns.size() == 0) {
+            return;
+        }
+        Set<String> unscored = new TreeSet<>();
+        for (String pillar : proposed.getPillars().keySet()) {
+            boolean currentPillar = current != null && current.getPillars() != null
+                    && current.getPillars().containsKey(pillar);
+            if (!currentPillar && columns.customPillarLayout().ordinalOf(pillar) < 0) {
+                unscored.add(pillar);
+            }
+        }
+        if (!unscored.isEmpty()) {
+            throw new IllegalArgumentException("No stored scores for pillars " + unscored
+                    + "; applications must be re-scored before these pillars can be simulated");
+        }
+    }
+
+    private static double requireWeight(String name, Double weight) {
+        if (weight == null || !(weight >= 0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("Weight of " + name + " must be a non-negative number, was "
+                    + weight);
+        }
+        return weight;
+    }
+
+    private static void requirePositiveTotal(double total) {
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+    }
+
+    /**
+     * Competition rank of every score, highest first: one plus the number of strictly higher scores.
+     */
+    static int[] ranks(double[] scores) {
+        double[] sorted = scores.clone();
+        Arrays.sort(sorted);
+        int[] ranks = new int[scores.length];
+        for (int row = 0; row < scores.length; row++) {
+            ranks[row] = scores.length - upperBound(sorted, scores[row]) + 1;
+        }
+        return ranks;
+    }
+
+    // Index of the first element of the ascending array greater than value
+    private static int upperBound(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Double.compare(sorted[middle], value) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Outcome of a simulation: the proposed top applicants and how many applicants changed rank in total.
+     */
+    public record Simulation(String surveyId, int applicants, int applicantsMoved,
+                             List<RankedApplicant> topApplicants) {
+    }
+
+    /**
+     * An applicant's rank and application score under the proposed and the current configuration.
+     * rankChange is positive when the applicant moves up.
+     */
+    public record RankedApplicant(String applicationId, int rank, int currentRank, int rankChange,
+                                  double score, double currentScore) {
+    }
+}
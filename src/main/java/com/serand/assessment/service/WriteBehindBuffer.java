@@ -0,0 +1,196 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Application;
+import com.serand.assessment.model.Candidate;
+import com.serand.assessment.model.SurveyResponse;
+import com.serand.assessment.repository.ApplicationUpdates;
+import com.serand.assessment.repository.PersistenceMapper;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cross-request write-behind buffer for the applications, survey_responses and candidates collections.
+ * Pending writes are coalesced by entity id (last write wins) and flushed as one unordered
+ * MongoDB bulk write per collection when maxBatchSize entities are pending or flushInterval
+ * has elapsed, whichever comes first. Each enqueue returns a future that completes once its
+ * entity has been written, so callers can still wait for durability. Applications are upserted field by
+ * field rather than replaced, so the ATS outbox state written by the dispatcher is left alone.
+ */
+@Component
+@ConditionalOnProperty(name = "scoring.persistence.write-behind.enabled", havingValue = "true")
+public class WriteBehindBuffer {
+
+    static final String APPLICATIONS = "applications";
+    static final String SURVEY_RESPONSES = "survey_responses";
+    static final String CANDIDATES = "candidates";
+    private static final List<String> COLLECTIONS = List.of(APPLICATIONS, SURVEY_RESPONSES, CANDIDATES);
+
+    private final MongoTemplate mongoTemplate;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService flusher;
+
+    private final Object lock = new Object();
+    // collection -> entity id -> pending write
+    private Map<String, Map<String, PendingWrite>> pending = newPendingMap();
+    private int pendingCount;
+    private boolean flushScheduled;
+
+    @Autowired
+    public WriteBehindBuffer(MongoTemplate mongoTemplate,
+                             @Value("${scoring.persistence.write-behind.max-batch-size:500}") int maxBatchSize,
+                             @Value("${scoring.persistence.write-behind.flush-interval:PT0.05S}") Duration flushInterval) {
+        this.mongoTemplate = mongoTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("write-behind-"));
+        long intervalMillis = Math.max(1, flushInterval.toMillis());
+        flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue an application together with its survey response, mirroring ApplicationService.saveApplication.
+     */
+    public CompletableFuture<Void> enqueue(Application application) {
+        if (application.getId() == null) {
+            application.setId(new ObjectId().toHexString());
+        }
+        CompletableFuture<Void> written = enqueue(APPLICATIONS, application.getId(),
+                toDocument(PersistenceMapper.toDocument(application)));
+        SurveyResponse response = application.getCandidateResponse();
+        if (response == null) {
+            return written;
+        }
+        if (response.getId() == null) {
+            response.setId(new ObjectId().toHexString());
+        }
+        CompletableFuture<Void> responseWritten = enqueue(SURVEY_RESPONSES, response.getId(),
+                toDocument(PersistenceMapper.toDocument(response)));
+        return CompletableFuture.allOf(written, responseWritten);
+    }
+
+    public CompletableFuture<Void> enqueue(Candidate candidate) {
+        if (candidate.getId() == null) {
+            candidate.setId(new ObjectId().toHexString());
+        }
+        return enqueue(CANDIDATES, candidate.getId(), toDocument(PersistenceMapper.toDocument(candidate)));
+    }
+
+    private CompletableFuture<Void> enqueue(String collection, String id, Document document) {
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        synchronized (lock) {
+            Map<String, PendingWrite> writes = pending.get(collection);
+            PendingWrite write = writes.get(id);
+            if (write == null) {
+                writes.put(id, new PendingWrite(document, written));
+                pendingCount++;
+            } else {
+                write.coalesce(document, written);
+            }
+            if (!flushScheduled && pendingCount >= maxBatchSize) {
+                flushScheduled = true;
+                flusher.execute(this::flush);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Write everything currently pending. Runs on the flusher thread; safe to call directly.
+     */
+    public synchronized void flush() {
+        Map<String, Map<String, PendingWrite>> toWrite;
+        synchronized (lock) {
+            toWrite = pending;
+            pending = newPendingMap();
+            pendingCount = 0;
+            flushScheduled = false;
+        }
+        toWrite.forEach(this::write);
+    }
+
+    public int pendingCount() {
+        synchronized (lock) {
+            return pendingCount;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flush();
+    }
+
+    private void write(String collection, Map<String, PendingWrite> writes) {
+        if (writes.isEmpty()) {
+            return;
+        }
+        try {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+            for (Map.Entry<String, PendingWrite> entry : writes.entrySet()) {
+                Document document = entry.getValue().document;
+                if (APPLICATIONS.equals(collection)) {
+                    bulk.upsert(Query.query(Criteria.where("_id").is(document.get("_id"))),
+                            ApplicationUpdates.upsertOf(document));
+                } else {
+                    bulk.replaceOne(Query.query(Criteria.where("_id").is(entry.getKey())), document,
+                            FindAndReplaceOptions.options().upsert());
+                }
+            }
+            bulk.execute();
+            writes.values().forEach(write -> write.waiters.forEach(waiter -> waiter.complete(null)));
+        } catch (RuntimeException e) {
+            writes.values().forEach(write -> write.waiters.forEach(waiter -> waiter.completeExceptionally(e)));
+        }
+    }
+
+    private Document toDocument(Object entity) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(entity, document);
+        return document;
+    }
+
+    private static Map<String, Map<String, PendingWrite>> newPendingMap() {
+        Map<String, Map<String, PendingWrite>> map = new LinkedHashMap<>();
+        COLLECTIONS.forEach(collection -> map.put(collection, new LinkedHashMap<>()));
+        return map;
+    }
+
+    private static final class PendingWrite {
+        private Document document;
+        private final List<CompletableFuture<Void>> waiters = new ArrayList<>(1);
+
+        private PendingWrite(Document document, CompletableFuture<Void> waiter) {
+            this.document = document;
+            this.waiters.add(waiter);
+        }
+
+        private void coalesce(Document latest, CompletableFuture<Void> waiter) {
+            // A pending ATS push requested by an earlier write still has to be written
+            if (latest.get(ApplicationUpdates.ATS_PUSH) == null && document.get(ApplicationUpdates.ATS_PUSH) != null) {
+                latest.put(ApplicationUpdates.ATS_PUSH, document.get(ApplicationUpdates.ATS_PUSH));
+            }
+            this.document = latest;
+            this.waiters.add(waiter);
+        }
+    }
+}
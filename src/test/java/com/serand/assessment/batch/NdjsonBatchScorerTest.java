@@ -0,0 +1,139 @@
+package com.serand.assessment.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.serand.assessment.model.Application;
+import com.serand.assessment.model.Scores;
+import com.serand.assessment.service.CentralScoringEngine;
+import com.serand.assessment.service.ScoreCompositionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NdjsonBatchScorerTest {
+
+    @Mock
+    private CentralScoringEngine centralScoringEngine;
+    @Mock
+    private ScoreCompositionService scoreCompositionService;
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void score_ManySmallChunks_ScoresEveryLineAndKeepsInputOrder() throws Exception {
+        // Arrange - 64 byte chunks force most lines into their own chunk
+        when(scoreCompositionService.aggregatePillarScores(any(), any(), any())).thenReturn(new Scores());
+        when(scoreCompositionService.updateApplicationScores(any(Application.class), any(Scores.class), anyDouble()))
+                .thenAnswer(invocation -> {
+                    Application application = invocation.getArgument(0);
+                    application.setApplicationOverallScore(75.0);
+                    return application;
+                });
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            input.append(response("r" + i)).append('\n');
+            if (i == 10) {
+                input.append("\n{broken\n");
+            }
+        }
+        Path in = Files.writeString(tempDir.resolve("responses.ndjson"), input, StandardCharsets.UTF_8);
+        Path out = tempDir.resolve("scored.ndjson");
+        NdjsonBatchScorer scorer = new NdjsonBatchScorer(centralScoringEngine, scoreCompositionService, objectMapper,
+                executor, 64, 3);
+
+        // Act
+        BatchScoringReport report = scorer.score(in, out);
+
+        // Assert
+        assertEquals(51, report.responses());
+        assertEquals(1, report.failures());
+        assertTrue(report.chunks() > 10);
+        List<String> lines = Files.readAllLines(out, StandardCharsets.UTF_8);
+        assertEquals(51, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals("r0", first.get("surveyResponseId").asText());
+        assertEquals(75.0, first.get("overallScore").asDouble());
+        assertFalse(objectMapper.readTree(lines.get(11)).get("success").asBoolean());
+        assertEquals("r49", objectMapper.readTree(lines.get(50)).get("surveyResponseId").asText());
+        verify(centralScoringEngine, times(50)).calculateAllQuestionScores(any(), any(), any());
+    }
+
+    @Test
+    void score_NoTrailingNewline_ScoresLastLine() throws Exception {
+        // Arrange
+        when(scoreCompositionService.aggregatePillarScores(any(), any(), any())).thenReturn(new Scores());
+        when(scoreCompositionService.updateApplicationScores(any(Application.class), any(Scores.class), anyDouble()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        Path in = Files.writeString(tempDir.resolve("responses.ndjson"), response("r1") + "\n" + response("r2"));
+        Path out = tempDir.resolve("scored.ndjson");
+        NdjsonBatchScorer scorer = new NdjsonBatchScorer(centralScoringEngine, scoreCompositionService, objectMapper,
+                executor, 1024 * 1024, 2);
+
+        // Act
+        BatchScoringReport report = scorer.score(in, out);
+
+        // Assert
+        assertEquals(2, report.responses());
+        assertEquals(1, report.chunks());
+        assertEquals(2, Files.readAllLines(out).size());
+    }
+
+    @Test
+    void score_NullAndMalformedLines_WritesErrorResultsWithoutFailingTheChunk() throws Exception {
+        // Arrange - "null" parses to no response; the survey-less response fails while scoring
+        when(scoreCompositionService.aggregatePillarScores(any(), any(), any())).thenReturn(new Scores());
+        when(scoreCompositionService.updateApplicationScores(any(Application.class), any(Scores.class), anyDouble()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        String input = response("r1") + "\nnull\n{\"id\":\"r2\"}\n" + response("r3") + "\n";
+        Path in = Files.writeString(tempDir.resolve("responses.ndjson"), input);
+        Path out = tempDir.resolve("scored.ndjson");
+        NdjsonBatchScorer scorer = new NdjsonBatchScorer(centralScoringEngine, scoreCompositionService, objectMapper,
+                executor, 1024 * 1024, 2);
+
+        // Act
+        BatchScoringReport report = scorer.score(in, out);
+
+        // Assert
+        assertEquals(4, report.responses());
+        assertEquals(2, report.failures());
+        List<String> lines = Files.readAllLines(out, StandardCharsets.UTF_8);
+        assertEquals(4, lines.size());
+        assertTrue(objectMapper.readTree(lines.get(0)).get("success").asBoolean());
+        JsonNode nullLine = objectMapper.readTree(lines.get(1));
+        assertFalse(nullLine.get("success").asBoolean());
+        assertTrue(nullLine.get("message").asText().contains("invalid SurveyResponse JSON"));
+        JsonNode surveyLess = objectMapper.readTree(lines.get(2));
+        assertFalse(surveyLess.get("success").asBoolean());
+        assertEquals("r2", surveyLess.get("surveyResponseId").asText());
+        assertEquals("r3", objectMapper.readTree(lines.get(3)).get("surveyResponseId").asText());
+    }
+
+    private static String response(String id) {
+        return "{\"id\":\"" + id + "\",\"survey\":{\"id\":\"survey1\",\"company\":{\"id\":\"company1\"}},"
+                + "\"candidate\":{\"id\":\"cand-" + id + "\"},\"answerMap\":{}}";
+    }
+}
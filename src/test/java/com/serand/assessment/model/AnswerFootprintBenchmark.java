@@ -0,0 +1,126 @@
+package com.serand.assessment.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Measures the retained heap per survey response for the SurveyResponseAnswer map versus
+ * CompactSurveyResponse. Responses are built the way deserialization builds them, with private copies
+ * of every string. Not part of the unit test suite; run after {@code mvn test-compile} with:
+ * <pre>
+ * java -Xmx2g -cp target/classes:target/test-classes com.serand.assessment.model.AnswerFootprintBenchmark
+ * </pre>
+ */
+public final class AnswerFootprintBenchmark {
+
+    private static final int RESPONSES = 100_000;
+    private static final int MCQ_QUESTIONS = 16;
+    private static final int TEXT_QUESTIONS = 4;
+    private static final String[] OPTIONS = {"Always", "Often", "Sometimes", "Rarely", "Never"};
+    private static final String[] REFERENCES = {"values", "culture", "workplace"};
+
+    public static void main(String[] args) {
+        Survey survey = survey();
+
+        long baseline = usedHeap();
+        List<SurveyResponse> responses = responses(survey, new Random(7));
+        long legacyBytes = usedHeap() - baseline;
+        keep(responses);
+        responses = null;
+
+        baseline = usedHeap();
+        List<CompactSurveyResponse> compact = compact(survey, new Random(7));
+        long compactBytes = usedHeap() - baseline;
+        keep(compact);
+
+        System.out.printf("answers per response : %d (%d MCQ, %d text)%n",
+                MCQ_QUESTIONS + TEXT_QUESTIONS, MCQ_QUESTIONS, TEXT_QUESTIONS);
+        System.out.printf("SurveyResponseAnswer : %8.0f bytes/response%n", (double) legacyBytes / RESPONSES);
+        System.out.printf("Compact              : %8.0f bytes/response%n", (double) compactBytes / RESPONSES);
+        System.out.printf("reduction            : %.1fx%n", (double) legacyBytes / compactBytes);
+    }
+
+    private static List<SurveyResponse> responses(Survey survey, Random random) {
+        List<SurveyResponse> responses = new ArrayList<>(RESPONSES);
+        for (int i = 0; i < RESPONSES; i++) {
+            responses.add(response(survey, random));
+        }
+        return responses;
+    }
+
+    // Each response is compacted as it arrives, so the full answers are never retained
+    private static List<CompactSurveyResponse> compact(Survey survey, Random random) {
+        List<CompactSurveyResponse> compact = new ArrayList<>(RESPONSES);
+        for (int i = 0; i < RESPONSES; i++) {
+            compact.add(CompactSurveyResponse.from(response(survey, random)));
+        }
+        return compact;
+    }
+
+    private static volatile int retained;
+
+    private static void keep(List<?> list) {
+        retained = list.size();
+    }
+
+    private static Survey survey() {
+        List<Question> questions = new ArrayList<>();
+        for (int q = 0; q < MCQ_QUESTIONS + TEXT_QUESTIONS; q++) {
+            Question question = new Question();
+            question.setId("question-" + q);
+            question.setReference(REFERENCES[q % REFERENCES.length]);
+            if (q < MCQ_QUESTIONS) {
+                question.setAvailableAnswers(OPTIONS);
+            }
+            questions.add(question);
+        }
+        Survey survey = new Survey();
+        survey.setId("survey-1");
+        survey.setQuestions(questions);
+        return survey;
+    }
+
+    private static SurveyResponse response(Survey survey, Random random) {
+        Map<String, SurveyResponseAnswer> answers = new HashMap<>();
+        for (int q = 0; q < MCQ_QUESTIONS + TEXT_QUESTIONS; q++) {
+            Question question = survey.getQuestions().get(q);
+            SurveyResponseAnswer answer = new SurveyResponseAnswer();
+            answer.setQuestionId(copy(question.getId()));
+            answer.setReference(copy(question.getReference()));
+            answer.setQuestionScore(random.nextInt(101));
+            if (q < MCQ_QUESTIONS) {
+                answer.setType(copy("multipleChoice"));
+                String[] selected = new String[1 + random.nextInt(2)];
+                for (int s = 0; s < selected.length; s++) {
+                    selected[s] = copy(OPTIONS[random.nextInt(OPTIONS.length)]);
+                }
+                answer.setArrayAnswer(selected);
+            } else {
+                answer.setType(copy("text"));
+                answer.setStringAnswer("I enjoy working in small teams and learning from colleagues " + random.nextInt());
+                answer.setScoreExplanation(copy("0.8-Relevant and specific"));
+            }
+            answers.put(copy(question.getId()), answer);
+        }
+        SurveyResponse response = new SurveyResponse();
+        response.setId("response-" + random.nextLong());
+        response.setSurvey(survey);
+        response.setAnswerMap(answers);
+        return response;
+    }
+
+    private static String copy(String value) {
+        return new String(value.toCharArray());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,155 @@
+package com.serand.assessment.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactSurveyResponseTest {
+
+    private static final String[] OPTIONS = {"Always", "Often", "Sometimes"};
+
+    @Test
+    void roundTrip_PreservesEveryAnswerField() {
+        // Arrange
+        Survey survey = survey();
+        SurveyResponse response = response(survey);
+
+        // Act
+        CompactSurveyResponse compact = CompactSurveyResponse.from(response);
+        Map<String, SurveyResponseAnswer> decoded = compact.toAnswerMap(survey);
+
+        // Assert
+        assertEquals(response.getAnswerMap().keySet(), decoded.keySet());
+        for (Map.Entry<String, SurveyResponseAnswer> entry : response.getAnswerMap().entrySet()) {
+            SurveyResponseAnswer expected = entry.getValue();
+            SurveyResponseAnswer actual = decoded.get(entry.getKey());
+            assertEquals(expected.getQuestionId(), actual.getQuestionId());
+            assertEquals(expected.getReference(), actual.getReference());
+            assertEquals(expected.getType(), actual.getType());
+            assertArrayEquals(expected.getArrayAnswer(), actual.getArrayAnswer());
+            assertEquals(expected.getStringAnswer(), actual.getStringAnswer());
+            assertEquals(expected.getIntAnswer(), actual.getIntAnswer());
+            assertEquals(expected.getQuestionScore(), actual.getQuestionScore());
+            assertEquals(expected.getScoreExplanation(), actual.getScoreExplanation());
+        }
+        assertEquals("response1", compact.getId());
+        assertEquals("candidate1", compact.toSurveyResponse(survey).getCandidate().getId());
+    }
+
+    @Test
+    void from_McqSelectionsAreOrdinalsAndIdsAreShared() {
+        Survey survey = survey();
+        Question definition = survey.getQuestions().get(0);
+        CompactSurveyResponse first = CompactSurveyResponse.from(response(survey));
+        CompactSurveyResponse second = CompactSurveyResponse.from(response(survey));
+
+        CompactSurveyResponseAnswer mcq = answer(first, "q1");
+        assertArrayEquals(new byte[]{0, 2}, mcq.getSelectionOrdinals());
+        assertEquals(QuestionType.MULTIPLE_CHOICE, mcq.getType());
+        assertSame(definition.getId(), mcq.getQuestionId());
+        assertSame(definition.getReference(), mcq.getReference());
+        assertSame(mcq.getQuestionId(), answer(second, "q1").getQuestionId());
+        assertSame(definition.getId(), first.getKey(0));
+    }
+
+    @Test
+    void from_CandidateSuppliedStrings_AreNotInterned() {
+        // Arrange - a reference and a selection that the survey does not define
+        Survey survey = survey();
+        SurveyResponse response = response(survey);
+        response.getAnswerMap().get("q1").setReference(new String("leadership"));
+        response.getAnswerMap().get("q1").setArrayAnswer(new String[]{new String("never")});
+
+        // Act
+        CompactSurveyResponse compact = CompactSurveyResponse.from(response);
+
+        // Assert
+        CompactSurveyResponseAnswer mcq = answer(compact, "q1");
+        assertEquals("leadership", mcq.getReference());
+        assertNotSame("leadership", mcq.getReference());
+        assertNotSame("never", mcq.getSelections(OPTIONS)[0]);
+    }
+
+    @Test
+    void from_SelectionOutsideOptionsOrUnknownType_KeptLiterally() {
+        Survey survey = survey();
+        SurveyResponse response = response(survey);
+        response.getAnswerMap().get("q1").setArrayAnswer(new String[]{"Always", "always"});
+        response.getAnswerMap().get("q2").setType("rating");
+
+        CompactSurveyResponse compact = CompactSurveyResponse.from(response);
+
+        assertNull(answer(compact, "q1").getSelectionOrdinals());
+        assertArrayEquals(new String[]{"Always", "always"}, compact.toAnswerMap(survey).get("q1").getArrayAnswer());
+        assertNull(answer(compact, "q2").getType());
+        assertEquals("rating", compact.toAnswerMap(survey).get("q2").getType());
+    }
+
+    @Test
+    void toAnswerMap_DifferentSurveyVersion_Throws() {
+        Survey survey = survey();
+        CompactSurveyResponse compact = CompactSurveyResponse.from(response(survey));
+        survey.setVersion(2);
+
+        assertThrows(IllegalArgumentException.class, () -> compact.toAnswerMap(survey));
+    }
+
+    private CompactSurveyResponseAnswer answer(CompactSurveyResponse response, String key) {
+        for (int i = 0; i < response.getAnswerCount(); i++) {
+            if (key.equals(response.getKey(i))) {
+                return response.getAnswer(i);
+            }
+        }
+        throw new AssertionError("No answer for " + key);
+    }
+
+    private Survey survey() {
+        Question mcq = new Question();
+        mcq.setId("q1");
+        mcq.setReference("values");
+        mcq.setAvailableAnswers(OPTIONS);
+        Question text = new Question();
+        text.setId("q2");
+        text.setReference("culture");
+        Survey survey = new Survey();
+        survey.setId("survey1");
+        survey.setVersion(1);
+        survey.setQuestions(new ArrayList<>(List.of(mcq, text)));
+        return survey;
+    }
+
+    private SurveyResponse response(Survey survey) {
+        SurveyResponseAnswer mcq = new SurveyResponseAnswer();
+        mcq.setQuestionId(new String("q1"));
+        mcq.setReference(new String("values"));
+        mcq.setType("multipleChoice");
+        mcq.setArrayAnswer(new String[]{"Always", "Sometimes"});
+        mcq.setQuestionScore(75.0);
+
+        SurveyResponseAnswer text = new SurveyResponseAnswer();
+        text.setQuestionId("q2");
+        text.setReference("culture");
+        text.setType("text");
+        text.setStringAnswer("Ich arbeite gern im Team – naïve café");
+        text.setIntAnswer(3);
+        text.setQuestionScore(80.0);
+        text.setScoreExplanation("0.8-Relevant");
+
+        Map<String, SurveyResponseAnswer> answers = new LinkedHashMap<>();
+        answers.put("q1", mcq);
+        answers.put("q2", text);
+        Candidate candidate = new Candidate();
+        candidate.setId("candidate1");
+        SurveyResponse response = new SurveyResponse();
+        response.setId("response1");
+        response.setSurvey(survey);
+        response.setCandidate(candidate);
+        response.setAnswerMap(answers);
+        return response;
+    }
+}
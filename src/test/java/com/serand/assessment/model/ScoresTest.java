@@ -0,0 +1,216 @@
+package com.serand.assessment.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoresTest {
+
+    @Test
+    void getOverallScore_SetterCalled_Recomputes() {
+        Scores scores = standardScores(80.0);
+        assertEquals(80.0, scores.getOverallScore(), 0.01);
+
+        scores.setValues(100.0);
+
+        assertEquals(85.0, scores.getOverallScore(), 0.01); // (100 + 80 + 80 + 80) / 4
+    }
+
+    @Test
+    void getOverallScore_CustomPillarAdded_Recomputes() {
+        Scores scores = new Scores();
+        Pillars pillars = new Pillars();
+        pillars.setPillars(new HashMap<>(Map.of("technology", 0.5, "leadership", 0.5)));
+        scores.setPillars(pillars);
+        scores.addCustomPillarScore("technology", 80.0);
+        assertEquals(80.0, scores.getOverallScore(), 0.01);
+
+        scores.addCustomPillarScore("leadership", 60.0);
+
+        assertEquals(70.0, scores.getOverallScore(), 0.01);
+    }
+
+    @Test
+    void getOverallScore_NestedWeightingsMutated_RequiresRecalculate() {
+        Scores scores = standardScores(80.0);
+        scores.setValues(100.0);
+        assertEquals(85.0, scores.getOverallScore(), 0.01);
+
+        // In-place mutation of a nested object is not observed until recalculated
+        scores.getWeightings().setValues(0.0);
+        assertEquals(85.0, scores.getOverallScore(), 0.01);
+
+        scores.recalculateOverallScore();
+        assertEquals(80.0, scores.getOverallScore(), 0.01);
+    }
+
+    @Test
+    void getCustomPillarScores_IsReadOnlyView() {
+        Scores scores = new Scores();
+        scores.addCustomPillarScore("technology", 80.0);
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> scores.getCustomPillarScores().put("technology", 10.0));
+        assertEquals(80.0, scores.getCustomPillarScores().get("technology"), 0.01);
+    }
+
+    @Test
+    void getCustomPillarScores_ReflectsLaterChanges() {
+        // Arrange
+        Scores scores = new Scores();
+        scores.addCustomPillarScore("technology", 80.0);
+        Map<String, Double> view = scores.getCustomPillarScores();
+
+        // Act
+        scores.addCustomPillarScore("leadership", 60.0);
+        scores.addCustomPillarAnswers("leadership", new String[]{"often"});
+
+        // Assert
+        assertSame(view, scores.getCustomPillarScores());
+        assertEquals(Map.of("technology", 80.0, "leadership", 60.0), view);
+        assertEquals(List.of("technology", "leadership"), List.copyOf(view.keySet()));
+        assertEquals(List.of("leadership"), List.copyOf(scores.getCustomPillarAnswers().keySet()));
+    }
+
+    @Test
+    void getWorkLife_ReturnsCopy() {
+        Scores scores = standardScores(80.0);
+
+        scores.getWorkLife().setWorkLife(10.0);
+
+        assertEquals(80.0, scores.getWorkLife().getWorkLife(), 0.01);
+    }
+
+    @Test
+    void setCustomPillarScores_UnknownPillars_BuildsOneSharedLayout() {
+        // Arrange
+        Scores scores = new Scores();
+        scores.addCustomPillarAnswers("leadership", new String[]{"often"});
+        Map<String, Double> read = new LinkedHashMap<>();
+        read.put("technology", 80.0);
+        read.put("design", 70.0);
+
+        // Act
+        scores.setCustomPillarScores(read);
+
+        // Assert - pillars already present keep their slot, the new ones are appended in one layout
+        assertSame(PillarLayout.of(List.of("leadership", "technology", "design")), scores.customPillarLayout());
+        assertEquals(read, scores.getCustomPillarScores());
+        assertArrayEquals(new String[]{"often"}, scores.getCustomPillarAnswers().get("leadership"));
+    }
+
+    @Test
+    void json_CustomPillars_RoundTrip() throws Exception {
+        // Arrange
+        ObjectMapper mapper = new ObjectMapper();
+        Scores scores = new Scores();
+        Pillars pillars = new Pillars();
+        pillars.setPillars(new HashMap<>(Map.of("technology", 0.5, "leadership", 0.5)));
+        scores.setPillars(pillars);
+        scores.setValues(70.0);
+        scores.addCustomPillarScore("technology", 80.0);
+        scores.addCustomPillarScore("leadership", 60.0);
+        scores.addCustomPillarAnswers("leadership", new String[]{"often"});
+
+        // Act
+        Scores read = mapper.readValue(mapper.writeValueAsString(scores), Scores.class);
+
+        // Assert
+        assertEquals(70.0, read.getValues(), 0.01);
+        assertEquals(scores.getCustomPillarScores(), read.getCustomPillarScores());
+        assertArrayEquals(new String[]{"often"}, read.getCustomPillarAnswers().get("leadership"));
+        assertNull(read.getWorkLife());
+        assertEquals(70.0, read.getOverallScore(), 0.01);
+    }
+
+    @Test
+    void useCustomPillarLayout_SameCompanyPillars_ShareOneLayout() {
+        // Arrange
+        Scores first = new Scores();
+        Scores second = new Scores();
+
+        // Act
+        first.useCustomPillarLayout(PillarLayout.of(List.of("technology", "leadership")));
+        second.useCustomPillarLayout(PillarLayout.of(List.of("technology", "leadership")));
+        first.setCustomPillarScore(1, 70.0);
+
+        // Assert
+        assertSame(first.customPillarLayout(), second.customPillarLayout());
+        assertEquals(70.0, first.getCustomPillarScore("leadership"), 0.01);
+        assertTrue(Double.isNaN(first.getCustomPillarScore("technology")));
+        assertFalse(first.getCustomPillarScores().containsKey("technology"));
+    }
+
+    @Test
+    void addCustomPillarScore_DataDrivenPillars_DoNotInternPrefixLayouts() {
+        // Arrange
+        int interned = PillarLayout.internedCount();
+        Scores scores = new Scores();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            scores.addCustomPillarScore("pillar-" + UUID.randomUUID(), i);
+        }
+
+        // Assert
+        assertEquals(20, scores.customPillarLayout().size());
+        assertTrue(PillarLayout.internedCount() <= interned);
+    }
+
+    @Test
+    void useCustomPillarLayout_ExistingScores_AreCarriedOver() {
+        // Arrange
+        Scores scores = new Scores();
+        scores.addCustomPillarScore("technology", 80.0);
+
+        // Act
+        scores.useCustomPillarLayout(PillarLayout.of(List.of("leadership", "technology")));
+
+        // Assert
+        assertEquals(80.0, scores.getCustomPillarScore("technology"), 0.01);
+        assertEquals(List.of("technology"), List.copyOf(scores.getCustomPillarScores().keySet()));
+    }
+
+    @Test
+    void scoreVector_HoldsStandardPillarsInFixedSlots() {
+        // Arrange
+        Scores scores = standardScores(60.0);
+        scores.setGrowthMindset(40.0);
+
+        // Act
+        double[] vector = scores.scoreVector();
+        vector[Scores.VALUES] = 0.0;
+
+        // Assert
+        assertEquals(60.0, vector[Scores.CULTURE], 0.01);
+        assertEquals(40.0, vector[Scores.GROWTH_MINDSET], 0.01);
+        assertEquals(60.0, vector[Scores.WORK_LIFE], 0.01);
+        assertEquals(60.0, scores.getValues(), 0.01);
+    }
+
+    @Test
+    void getWorkLife_Unset_ReturnsNull() {
+        Scores scores = new Scores();
+
+        assertNull(scores.getWorkLife());
+    }
+
+    private Scores standardScores(double score) {
+        Scores scores = new Scores();
+        scores.setValues(score);
+        scores.setCulture(score);
+        scores.setMindset(score);
+        WorkLife workLife = new WorkLife();
+        workLife.setWorkLife(score);
+        scores.setWorkLife(workLife);
+        scores.setWeightings(new Weightings());
+        return scores;
+    }
+}
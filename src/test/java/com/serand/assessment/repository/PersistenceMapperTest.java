@@ -0,0 +1,139 @@
+package com.serand.assessment.repository;
+
+import com.serand.assessment.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistenceMapperTest {
+
+    @Test
+    void toDocument_Application_StoresReferencesAndCompactQuestionScores() {
+        // Arrange
+        Candidate candidate = new Candidate();
+        candidate.setId("cand1");
+        Survey survey = new Survey();
+        survey.setId("survey1");
+        Company company = new Company();
+        company.setId("company1");
+
+        Map<String, SurveyResponseAnswer> answers = new LinkedHashMap<>();
+        answers.put("q1", answer("q1", "values", 80.0));
+        answers.put("personalInfo", answer("personalInfo", null, 0.0));
+        answers.put("q2", answer("q2", "culture", 60.0));
+        SurveyResponse response = new SurveyResponse();
+        response.setId("response1");
+        response.setAnswerMap(answers);
+
+        Application application = new Application();
+        application.setId("app1");
+        application.setCandidate(candidate);
+        application.setSurvey(survey);
+        application.setCompany(company);
+        application.setCandidateResponse(response);
+        application.setApplicationOverallScore(72.5);
+        response.setApplication(application);
+
+        // Act
+        ApplicationDocument document = PersistenceMapper.toDocument(application);
+
+        // Assert
+        assertEquals("cand1", document.getCandidateId());
+        assertEquals("survey1", document.getSurveyId());
+        assertEquals("company1", document.getCompanyId());
+        assertEquals("response1", document.getSurveyResponseId());
+        assertEquals(72.5, document.getApplicationOverallScore());
+        QuestionScores questionScores = document.getQuestionScores();
+        assertEquals(2, questionScores.size());
+        assertArrayEquals(new String[]{"q1", "q2"}, questionScores.getQuestionIds());
+        assertArrayEquals(new String[]{"values", "culture"}, questionScores.getReferences());
+        assertArrayEquals(new double[]{80.0, 60.0}, questionScores.getScores());
+    }
+
+    @Test
+    void toDocument_SurveyResponse_StoresApplicationById() {
+        // Arrange
+        Application application = new Application();
+        application.setId("app1");
+        SurveyResponse response = new SurveyResponse();
+        response.setApplication(application);
+        application.setCandidateResponse(response);
+
+        // Act
+        SurveyResponseDocument document = PersistenceMapper.toDocument(response);
+
+        // Assert
+        assertEquals("app1", document.getApplicationId());
+    }
+
+    @Test
+    void scores_RoundTrip_KeepsStoredFieldShape() {
+        // Arrange
+        Scores scores = new Scores();
+        scores.setValues(80.0);
+        scores.setCulture(60.0);
+        WorkLife workLife = new WorkLife();
+        workLife.setWorkLife(70.0);
+        scores.setWorkLife(workLife);
+        scores.addCustomPillarScore("technology", 90.0);
+        scores.addCustomPillarAnswers("technology", new String[]{"Java"});
+
+        // Act
+        ScoresDocument document = PersistenceMapper.toDocument(scores);
+        Scores restored = PersistenceMapper.toModel(document);
+
+        // Assert
+        assertEquals(80.0, document.getValues());
+        assertEquals(70.0, document.getWorkLife().getWorkLife());
+        assertEquals(Map.of("technology", 90.0), document.getCustomPillarScores());
+        assertEquals(60.0, restored.getCulture());
+        assertEquals(70.0, restored.getWorkLife().getWorkLife());
+        assertEquals(90.0, restored.getCustomPillarScore("technology"));
+        assertArrayEquals(new String[]{"Java"}, restored.getCustomPillarAnswers().get("technology"));
+    }
+
+    @Test
+    void cvScoreOf_StoredWithoutCvScore_RecoversItFromOverallScores() {
+        // Arrange - pillar overall score (80 + 60 + 40 + 60) / 4 = 60
+        Scores scores = new Scores();
+        scores.setValues(80.0);
+        scores.setCulture(60.0);
+        scores.setMindset(40.0);
+        WorkLife workLife = new WorkLife();
+        workLife.setWorkLife(60.0);
+        scores.setWorkLife(workLife);
+        Weightings weightings = new Weightings();
+        weightings.setValues(1.0);
+        weightings.setCulture(1.0);
+        weightings.setMindset(1.0);
+        weightings.setWorkLife(1.0);
+        scores.setWeightings(weightings);
+        ApplicationDocument withCv = legacyApplication(scores, 70.0);
+        ApplicationDocument withoutCv = legacyApplication(scores, 60.0);
+        ApplicationDocument stored = legacyApplication(scores, 70.0);
+        stored.setCvScore(0.0);
+
+        // Act & Assert
+        assertEquals(80.0, PersistenceMapper.cvScoreOf(withCv), 0.001);
+        assertEquals(0.0, PersistenceMapper.cvScoreOf(withoutCv));
+        assertEquals(0.0, PersistenceMapper.cvScoreOf(stored));
+    }
+
+    private ApplicationDocument legacyApplication(Scores scores, double applicationOverallScore) {
+        ApplicationDocument document = new ApplicationDocument();
+        document.setScores(PersistenceMapper.toDocument(scores));
+        document.setApplicationOverallScore(applicationOverallScore);
+        return document;
+    }
+
+    private SurveyResponseAnswer answer(String questionId, String reference, double score) {
+        SurveyResponseAnswer answer = new SurveyResponseAnswer();
+        answer.setQuestionId(questionId);
+        answer.setReference(reference);
+        answer.setQuestionScore(score);
+        return answer;
+    }
+}
@@ -0,0 +1,357 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Company;
+import com.serand.assessment.model.Question;
+import com.serand.assessment.model.Survey;
+import com.serand.assessment.model.SurveyResponseAnswer;
+import com.serand.assessment.model.Weightings;
+import com.serand.assessment.repository.AnswerKeyRescoringJobDocument;
+import com.serand.assessment.repository.AnswerRescoringStore;
+import com.serand.assessment.repository.ApplicationDocument;
+import com.serand.assessment.repository.QuestionScores;
+import com.serand.assessment.repository.RecomposedScores;
+import com.serand.assessment.repository.RecompositionJobDocument;
+import com.serand.assessment.repository.SurveyResponseDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Re-scores answer keys synchronously with the real scoring engine against an in-memory store.
+ */
+class AnswerKeyRescoringServiceTest {
+
+    private final SurveyService surveyService = mock(SurveyService.class);
+    private final GeminiService geminiService = mock(GeminiService.class);
+    private final InMemoryStore store = new InMemoryStore();
+    private ScoringConfigRegistry registry;
+    private ExecutorService executor;
+    private AnswerKeyRescoringService service;
+
+    @BeforeEach
+    void setUp() {
+        SurveyScoringPlanCache planCache = new SurveyScoringPlanCache();
+        registry = new ScoringConfigRegistry(surveyService, planCache, false, 2, true);
+        executor = Executors.newFixedThreadPool(2);
+        service = new AnswerKeyRescoringService(registry, new CentralScoringEngineImpl(geminiService, planCache),
+                new ScoreCompositionServiceImpl(surveyService), store, executor, Runnable::run, 1, 2);
+
+        // All responses were scored against version 1, whose q1 key is Java
+        long scoredWith = SurveyScoringPlan.compile(survey(1, "Java")).getAnswerKeyFingerprint();
+        store.add("r1", "app1", scoredWith, Map.of("q1", mcq("q1", 0.0, "Python"), "q2", mcq("q2", 100.0, "Go"),
+                "q3", text("q3", 80.0)));
+        store.add("r2", "app2", scoredWith, Map.of("q1", mcq("q1", 100.0, "Java"), "q2", mcq("q2", 0.0, "Java"),
+                "q3", text("q3", 80.0)));
+        store.add("r3", "app3", scoredWith, Map.of("q2", mcq("q2", 100.0, "Go"), "q3", text("q3", 60.0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void reloadAndRescore_KeyCorrectedBeforeRestart_RescoresFromStoredFingerprints() {
+        // Arrange - nothing of the old survey is in memory, as after a restart
+        when(surveyService.findSurveyForScoring("survey1")).thenReturn(Optional.of(survey(2, "Python")));
+
+        // Act
+        service.reloadAndRescore("survey1").orElseThrow();
+
+        // Assert
+        AnswerKeyRescoringJobDocument job = service.progress("survey1").orElseThrow();
+        assertEquals(AnswerKeyRescoringJobDocument.Status.COMPLETED, job.getStatus());
+        assertEquals(3, job.getResponsesScanned());
+        assertEquals(2, job.getAnswersChanged());
+        assertEquals(2, job.getApplicationsRecomposed());
+        assertEquals(Map.of("r1", Map.of("q1", 100.0), "r2", Map.of("q1", 0.0)), store.answerScores);
+        long current = SurveyScoringPlan.compile(survey(2, "Python")).getAnswerKeyFingerprint();
+        assertEquals(Set.of("r1", "r2", "r3"), store.stampedWith(current));
+
+        // values 100, culture 100, mindset 50, workplace 80 with equal weights
+        RecomposedScores first = store.written.get("app1");
+        assertEquals(82.5, first.applicationOverallScore(), 0.01);
+        assertArrayEquals(new double[]{100.0, 100.0, 80.0}, first.questionScores().getScores());
+        assertTrue(first.changed());
+        assertEquals(32.5, store.written.get("app2").applicationOverallScore(), 0.01);
+        assertFalse(store.written.containsKey("app3"));
+        verifyNoInteractions(geminiService);
+    }
+
+    @Test
+    void reloadAndRescore_KeysAlreadyReloaded_StillRescoresStaleResponses() {
+        // Arrange - a plain reload already published the corrected keys
+        when(surveyService.findSurveyForScoring("survey1")).thenReturn(Optional.of(survey(2, "Python")));
+        registry.reloadSurvey("survey1");
+
+        // Act
+        service.reloadAndRescore("survey1");
+
+        // Assert
+        assertEquals(Map.of("r1", Map.of("q1", 100.0), "r2", Map.of("q1", 0.0)), store.answerScores);
+        assertEquals(Set.of("app1", "app2"), store.written.keySet());
+    }
+
+    @Test
+    void reloadAndRescore_UnchangedKeys_CompletesWithoutWrites() {
+        // Arrange
+        when(surveyService.findSurveyForScoring("survey1")).thenReturn(Optional.of(survey(2, "Java")));
+
+        // Act
+        service.reloadAndRescore("survey1");
+
+        // Assert
+        AnswerKeyRescoringJobDocument job = service.progress("survey1").orElseThrow();
+        assertEquals(AnswerKeyRescoringJobDocument.Status.COMPLETED, job.getStatus());
+        assertEquals(0, job.getResponsesScanned());
+        assertTrue(store.answerScores.isEmpty());
+        assertTrue(store.written.isEmpty());
+    }
+
+    @Test
+    void reloadAndRescore_AfterFailedChunk_ResumesFromPersistedCheckpoint() {
+        // Arrange - the second chunk (r2) fails to write
+        when(surveyService.findSurveyForScoring("survey1")).thenReturn(Optional.of(survey(2, "Python")));
+        store.failOnBulkWrite = 2;
+        service.reloadAndRescore("survey1");
+        AnswerKeyRescoringJobDocument failed = store.jobs.get("survey1");
+        assertEquals(AnswerKeyRescoringJobDocument.Status.FAILED, failed.getStatus());
+        assertEquals("r1", failed.getLastResponseId());
+        store.written.clear();
+
+        // Act
+        service.reloadAndRescore("survey1");
+
+        // Assert
+        AnswerKeyRescoringJobDocument job = store.jobs.get("survey1");
+        assertEquals(AnswerKeyRescoringJobDocument.Status.COMPLETED, job.getStatus());
+        assertEquals(3, job.getResponsesScanned());
+        assertEquals(Set.of("app2"), store.written.keySet());
+        assertEquals(0.0, store.answerScores.get("r2").get("q1"));
+        assertNull(job.getLastError());
+    }
+
+    @Test
+    void reloadAndRescore_ApplicationRescoredMeanwhile_KeepsItsScoresAndLeavesResponseUnstamped() {
+        // Arrange - app1's text answer is re-scored after the job read it
+        when(surveyService.findSurveyForScoring("survey1")).thenReturn(Optional.of(survey(2, "Python")));
+        store.textRescoredMeanwhile.add("app1");
+
+        // Act
+        service.reloadAndRescore("survey1");
+
+        // Assert
+        AnswerKeyRescoringJobDocument job = service.progress("survey1").orElseThrow();
+        assertEquals(AnswerKeyRescoringJobDocument.Status.COMPLETED, job.getStatus());
+        assertEquals(1, job.getResponsesSkipped());
+        assertEquals(1, job.getApplicationsRecomposed());
+        assertEquals(Set.of("app2"), store.written.keySet());
+        assertEquals(10.0, store.applications.get("app1").getQuestionScores().getScores()[2]);
+        long current = SurveyScoringPlan.compile(survey(2, "Python")).getAnswerKeyFingerprint();
+        assertEquals(Set.of("r2", "r3"), store.stampedWith(current));
+        assertFalse(store.answerScores.containsKey("r1"));
+    }
+
+    @Test
+    void reloadAndRescore_UnknownSurvey_ReturnsEmpty() {
+        when(surveyService.findSurveyForScoring(anyString())).thenReturn(Optional.empty());
+
+        assertTrue(service.reloadAndRescore("missing").isEmpty());
+        assertTrue(store.jobs.isEmpty());
+    }
+
+    private Survey survey(long version, String correctLanguage) {
+        Survey survey = new Survey();
+        survey.setId("survey1");
+        survey.setName("Survey");
+        survey.setVersion(version);
+        survey.setQuestions(new ArrayList<>(List.of(
+                question("q1", "values", new String[]{correctLanguage}),
+                question("q2", "culture", new String[]{"Go"}),
+                question("q3", "workplace", null))));
+        Company company = new Company();
+        company.setId("company1");
+        company.setWeightings(new Weightings());
+        survey.setCompany(company);
+        return survey;
+    }
+
+    private Question question(String id, String reference, String[] correctAnswers) {
+        Question question = new Question();
+        question.setId(id);
+        question.setReference(reference);
+        question.setAvailableAnswers(correctAnswers != null ? new String[]{"Java", "Python", "Go"} : null);
+        question.setCorrectAnswers(correctAnswers);
+        return question;
+    }
+
+    private SurveyResponseAnswer mcq(String questionId, double storedScore, String... selected) {
+        SurveyResponseAnswer answer = text(questionId, storedScore);
+        answer.setType("multipleChoice");
+        answer.setArrayAnswer(selected);
+        return answer;
+    }
+
+    private SurveyResponseAnswer text(String questionId, double storedScore) {
+        SurveyResponseAnswer answer = new SurveyResponseAnswer();
+        answer.setQuestionId(questionId);
+        answer.setType("text");
+        answer.setStringAnswer("An answer");
+        answer.setQuestionScore(storedScore);
+        return answer;
+    }
+
+    /**
+     * Survey responses (ordered by id) and their applications in memory; records answer-score, fingerprint
+     * and application writes, can fail the n-th application bulk write and can re-score an application's text
+     * answers just before it is written.
+     */
+    private static class InMemoryStore implements AnswerRescoringStore {
+        private static final Map<String, String> REFERENCES = Map.of("q1", "values", "q2", "culture", "q3", "workplace");
+
+        private final NavigableMap<String, SurveyResponseDocument> responses = new TreeMap<>();
+        private final Map<String, ApplicationDocument> applications = new HashMap<>();
+        private final Map<String, Map<String, Double>> answerScores = new HashMap<>();
+        private final Map<String, RecomposedScores> written = new HashMap<>();
+        private final Map<String, AnswerKeyRescoringJobDocument> jobs = new HashMap<>();
+        private final Set<String> textRescoredMeanwhile = new HashSet<>();
+        private int bulkWrites;
+        private int failOnBulkWrite;
+
+        void add(String responseId, String applicationId, long answerKeyFingerprint,
+                 Map<String, SurveyResponseAnswer> answers) {
+            SurveyResponseDocument response = new SurveyResponseDocument();
+            response.setId(responseId);
+            response.setApplicationId(applicationId);
+            response.setAnswerKeyFingerprint(answerKeyFingerprint);
+            response.setAnswerMap(new TreeMap<>(answers));
+            responses.put(responseId, response);
+
+            List<String> questionIds = new ArrayList<>(new TreeMap<>(answers).keySet());
+            ApplicationDocument application = new ApplicationDocument();
+            application.setId(applicationId);
+            application.setQuestionScores(new QuestionScores(questionIds.toArray(new String[0]),
+                    questionIds.stream().map(REFERENCES::get).toArray(String[]::new),
+                    questionIds.stream().mapToDouble(id -> answers.get(id).getQuestionScore()).toArray()));
+            applications.put(applicationId, application);
+        }
+
+        Set<String> stampedWith(long answerKeyFingerprint) {
+            return responses.values().stream()
+                    .filter(response -> response.getAnswerKeyFingerprint() == answerKeyFingerprint)
+                    .map(SurveyResponseDocument::getId)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public Optional<AnswerKeyRescoringJobDocument> findAnswerKeyJob(String surveyId) {
+            return Optional.ofNullable(jobs.get(surveyId)).map(AnswerKeyRescoringJobDocument::copy);
+        }
+
+        @Override
+        public void saveAnswerKeyJob(AnswerKeyRescoringJobDocument job) {
+            jobs.put(job.getId(), job.copy());
+        }
+
+        // Copies, so the engine re-scoring answers in place does not change what is stored
+        @Override
+        public Stream<SurveyResponseDocument> streamSurveyResponses(String surveyId, long answerKeyFingerprint,
+                                                                    String afterResponseId) {
+            return (afterResponseId != null ? responses.tailMap(afterResponseId, false) : responses).values()
+                    .stream()
+                    .filter(response -> !Objects.equals(response.getAnswerKeyFingerprint(), answerKeyFingerprint))
+                    .map(InMemoryStore::copy);
+        }
+
+        @Override
+        public List<ApplicationDocument> findScoredApplications(Collection<String> applicationIds) {
+            return applicationIds.stream().map(applications::get).filter(Objects::nonNull).toList();
+        }
+
+        @Override
+        public synchronized void writeAnswerScores(Map<String, Map<String, Double>> scores,
+                                                   long answerKeyFingerprint) {
+            scores.forEach((responseId, changed) -> {
+                SurveyResponseDocument response = responses.get(responseId);
+                response.setAnswerKeyFingerprint(answerKeyFingerprint);
+                changed.forEach((answerKey, score) -> response.getAnswerMap().get(answerKey).setQuestionScore(score));
+                if (!changed.isEmpty()) {
+                    answerScores.put(responseId, changed);
+                }
+            });
+        }
+
+        @Override
+        public synchronized Set<String> writeScores(Collection<RecomposedScores> results) {
+            if (++bulkWrites == failOnBulkWrite) {
+                throw new IllegalStateException("bulk write failed");
+            }
+            Set<String> missed = new HashSet<>();
+            for (RecomposedScores result : results) {
+                ApplicationDocument document = applications.get(result.applicationId());
+                if (textRescoredMeanwhile.remove(result.applicationId())) {
+                    QuestionScores read = document.getQuestionScores();
+                    double[] scores = read.getScores().clone();
+                    scores[scores.length - 1] = 10.0;
+                    document.setQuestionScores(new QuestionScores(read.getQuestionIds(), read.getReferences(), scores));
+                }
+                if (Double.compare(document.getApplicationOverallScore(), result.readOverallScore()) != 0
+                        || document.getQuestionScores() != result.readQuestionScores()) {
+                    missed.add(result.applicationId());
+                    continue;
+                }
+                document.setQuestionScores(result.questionScores());
+                document.setApplicationOverallScore(result.applicationOverallScore());
+                written.put(result.applicationId(), result);
+            }
+            return missed;
+        }
+
+        @Override
+        public Optional<RecompositionJobDocument> findJob(String companyId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveJob(RecompositionJobDocument job) {
+        }
+
+        @Override
+        public long countScoredApplications(String companyId) {
+            return applications.size();
+        }
+
+        @Override
+        public Stream<ApplicationDocument> streamScoredApplications(String companyId, String afterApplicationId) {
+            return applications.values().stream();
+        }
+
+        private static SurveyResponseDocument copy(SurveyResponseDocument response) {
+            SurveyResponseDocument copy = new SurveyResponseDocument();
+            copy.setId(response.getId());
+            copy.setApplicationId(response.getApplicationId());
+            Map<String, SurveyResponseAnswer> answers = new TreeMap<>();
+            response.getAnswerMap().forEach((key, answer) -> {
+                SurveyResponseAnswer answerCopy = new SurveyResponseAnswer();
+                answerCopy.setQuestionId(answer.getQuestionId());
+                answerCopy.setType(answer.getType());
+                answerCopy.setStringAnswer(answer.getStringAnswer());
+                answerCopy.setArrayAnswer(answer.getArrayAnswer());
+                answerCopy.setQuestionScore(answer.getQuestionScore());
+                answers.put(key, answerCopy);
+            });
+            copy.setAnswerMap(answers);
+            return copy;
+        }
+    }
+}
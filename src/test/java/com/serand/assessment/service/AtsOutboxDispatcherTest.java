@@ -0,0 +1,181 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.dto.AtsScorePush;
+import com.serand.assessment.repository.AtsOutbox;
+import com.serand.assessment.repository.AtsOutboxEntry;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the dispatcher against a local stub ATS endpoint and an in-memory outbox.
+ */
+class AtsOutboxDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private HttpServer stubAts;
+    private final Queue<String> receivedBodies = new ConcurrentLinkedQueue<>();
+    private final Deque<Integer> responseStatuses = new ArrayDeque<>();
+    private String retryAfter;
+
+    private InMemoryOutbox outbox;
+    private AtsOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubAts = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubAts.createContext("/scores", exchange -> {
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            Integer status;
+            synchronized (responseStatuses) {
+                status = responseStatuses.isEmpty() ? 200 : responseStatuses.poll();
+            }
+            if (retryAfter != null) {
+                exchange.getResponseHeaders().add("Retry-After", retryAfter);
+            }
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        stubAts.start();
+
+        String endpoint = "http://localhost:" + stubAts.getAddress().getPort() + "/scores";
+        ApplicationTrackingService ats = new ApplicationTrackingService(endpoint, Duration.ofSeconds(5));
+        outbox = new InMemoryOutbox();
+        dispatcher = new AtsOutboxDispatcher(outbox, ats, 2, 3, Duration.ofSeconds(1), Duration.ofSeconds(30),
+                Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+        stubAts.stop(0);
+    }
+
+    @Test
+    void dispatch_PendingPushes_DeliveredInBatches() {
+        // Arrange
+        outbox.add("app1", 0);
+        outbox.add("app2", 0);
+        outbox.add("app3", 0);
+
+        // Act
+        int delivered = dispatcher.dispatch();
+
+        // Assert - batch size 2: one full batch, then the remainder
+        assertEquals(3, delivered);
+        assertEquals(2, receivedBodies.size());
+        assertTrue(receivedBodies.peek().contains("\"applicationId\":\"app1\""));
+        assertTrue(receivedBodies.peek().contains("\"applicationId\":\"app2\""));
+        assertEquals(Set.of("app1", "app2", "app3"), outbox.delivered);
+    }
+
+    @Test
+    void dispatch_AtsError_SchedulesRetryWithExponentialBackoff() {
+        // Arrange
+        outbox.add("app1", 0);
+        outbox.add("app2", 1);
+        responseStatuses.add(500);
+
+        // Act
+        int delivered = dispatcher.dispatch();
+
+        // Assert - attempt 1 waits 1s, attempt 2 waits 2s; nothing delivered
+        assertEquals(0, delivered);
+        assertEquals(NOW.plusSeconds(1), outbox.retries.get("app1"));
+        assertEquals(NOW.plusSeconds(2), outbox.retries.get("app2"));
+        assertTrue(outbox.delivered.isEmpty());
+    }
+
+    @Test
+    void dispatch_MaxAttemptsReached_MarksFailed() {
+        // Arrange
+        outbox.add("app1", 2);
+        responseStatuses.add(500);
+
+        // Act
+        dispatcher.dispatch();
+
+        // Assert
+        assertEquals(Set.of("app1"), outbox.failed);
+        assertFalse(outbox.retries.containsKey("app1"));
+    }
+
+    @Test
+    void dispatch_AtsThrottles_PausesUntilRetryAfter() {
+        // Arrange
+        outbox.add("app1", 0);
+        responseStatuses.add(429);
+        retryAfter = "10";
+
+        // Act
+        dispatcher.dispatch();
+        outbox.add("app2", 0);
+        int deliveredWhilePaused = dispatcher.dispatch();
+
+        // Assert - the second round sends nothing while the ATS asked us to back off
+        assertEquals(0, deliveredWhilePaused);
+        assertEquals(1, receivedBodies.size());
+        assertEquals(NOW.plusSeconds(1), outbox.retries.get("app1"));
+    }
+
+    @Test
+    void backoff_DoublesUpToMaximum() {
+        assertEquals(Duration.ofSeconds(1), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(8), dispatcher.backoff(4));
+        assertEquals(Duration.ofSeconds(30), dispatcher.backoff(20));
+    }
+
+    /**
+     * Outbox holding pending pushes in memory; an entry stays due until it is delivered, retried or failed.
+     */
+    private static class InMemoryOutbox implements AtsOutbox {
+        private final Map<String, AtsOutboxEntry> pending = new LinkedHashMap<>();
+        private final Set<String> delivered = new HashSet<>();
+        private final Set<String> failed = new HashSet<>();
+        private final Map<String, Instant> retries = new HashMap<>();
+
+        void add(String applicationId, int attempts) {
+            AtsScorePush push = new AtsScorePush(applicationId, "cand-" + applicationId, "survey1", "company1", 80.0);
+            pending.put(applicationId, new AtsOutboxEntry(push, attempts, NOW));
+        }
+
+        @Override
+        public List<AtsOutboxEntry> findDue(Instant now, int limit) {
+            return pending.values().stream().limit(limit).toList();
+        }
+
+        @Override
+        public void markDelivered(Collection<AtsOutboxEntry> entries) {
+            entries.forEach(entry -> {
+                pending.remove(entry.push().getApplicationId());
+                delivered.add(entry.push().getApplicationId());
+            });
+        }
+
+        @Override
+        public void scheduleRetry(AtsOutboxEntry entry, Instant nextAttemptAt, String error) {
+            pending.remove(entry.push().getApplicationId());
+            retries.put(entry.push().getApplicationId(), nextAttemptAt);
+        }
+
+        @Override
+        public void markFailed(AtsOutboxEntry entry, String error) {
+            pending.remove(entry.push().getApplicationId());
+            failed.add(entry.push().getApplicationId());
+        }
+    }
+}
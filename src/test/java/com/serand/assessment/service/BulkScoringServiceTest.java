@@ -0,0 +1,131 @@
+package com.serand.assessment.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.serand.assessment.dto.SurveyProcessingResponse;
+import com.serand.assessment.model.Scores;
+import com.serand.assessment.model.SurveyResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkScoringServiceTest {
+
+    @Mock
+    private SurveyResponseService surveyResponseService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void scoreNdjson_ValidAndInvalidLines_WritesOneResultLinePerInputLine() throws Exception {
+        // Arrange
+        BulkScoringService service = new BulkScoringService(surveyResponseService, objectMapper, 4);
+        when(surveyResponseService.processSurveyResponse(any(SurveyResponse.class), isNull(), eq(ScoringPriority.BULK)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        SurveyProcessingResponse.success(80.0, new Scores(), "Success")));
+        String input = "{\"id\":\"r1\"}\n\n{not json}\n{\"id\":\"r2\"}\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long processed = service.scoreNdjson(stream(input), output);
+
+        // Assert
+        assertEquals(3, processed);
+        List<JsonNode> lines = lines(output);
+        assertEquals(3, lines.size());
+        assertEquals("r1", lines.get(0).get("surveyResponseId").asText());
+        assertTrue(lines.get(0).get("success").asBoolean());
+        assertFalse(lines.get(1).get("success").asBoolean());
+        assertTrue(lines.get(1).get("message").asText().contains("line 3"));
+        assertEquals("r2", lines.get(2).get("surveyResponseId").asText());
+    }
+
+    @Test
+    void scoreNdjson_NullLine_WritesErrorLineWithoutScoring() throws Exception {
+        // Arrange
+        BulkScoringService service = new BulkScoringService(surveyResponseService, objectMapper, 4);
+        when(surveyResponseService.processSurveyResponse(any(SurveyResponse.class), isNull(), eq(ScoringPriority.BULK)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        SurveyProcessingResponse.success(80.0, new Scores(), "Success")));
+        String input = "null\n{\"id\":\"r1\"}\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long processed = service.scoreNdjson(stream(input), output);
+
+        // Assert
+        assertEquals(2, processed);
+        List<JsonNode> lines = lines(output);
+        assertEquals(2, lines.size());
+        assertFalse(lines.get(0).get("success").asBoolean());
+        assertTrue(lines.get(0).get("message").asText().contains("line 1"));
+        assertEquals("r1", lines.get(1).get("surveyResponseId").asText());
+        verify(surveyResponseService, times(1)).processSurveyResponse(any(), isNull(), eq(ScoringPriority.BULK));
+    }
+
+    @Test
+    void scoreNdjson_MaxInFlightReached_StopsReadingUntilAResponseCompletes() throws Exception {
+        // Arrange - responses stay pending until completed by the test
+        BulkScoringService service = new BulkScoringService(surveyResponseService, objectMapper, 2);
+        Map<String, CompletableFuture<SurveyProcessingResponse>> pending = new ConcurrentHashMap<>();
+        when(surveyResponseService.processSurveyResponse(any(SurveyResponse.class), isNull(), eq(ScoringPriority.BULK)))
+                .thenAnswer(invocation -> {
+                    CompletableFuture<SurveyProcessingResponse> future = new CompletableFuture<>();
+                    pending.put(invocation.<SurveyResponse>getArgument(0).getId(), future);
+                    return future;
+                });
+        String input = "{\"id\":\"r1\"}\n{\"id\":\"r2\"}\n{\"id\":\"r3\"}\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        CompletableFuture<Long> run = CompletableFuture.supplyAsync(() -> {
+            try {
+                return service.scoreNdjson(stream(input), output);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        // Assert - only two responses are started while both are pending
+        verify(surveyResponseService, timeout(5000).times(2)).processSurveyResponse(any(), isNull(), eq(ScoringPriority.BULK));
+        Thread.sleep(100);
+        verify(surveyResponseService, times(2)).processSurveyResponse(any(), isNull(), eq(ScoringPriority.BULK));
+
+        pending.get("r1").complete(SurveyProcessingResponse.success(70.0, null, "Success"));
+        verify(surveyResponseService, timeout(5000).times(3)).processSurveyResponse(any(), isNull(), eq(ScoringPriority.BULK));
+
+        pending.get("r2").complete(SurveyProcessingResponse.success(71.0, null, "Success"));
+        pending.get("r3").complete(SurveyProcessingResponse.error("Failed: boom"));
+        assertEquals(3, run.get(5, TimeUnit.SECONDS));
+        assertEquals(3, lines(output).size());
+    }
+
+    private static ByteArrayInputStream stream(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> lines(ByteArrayOutputStream output) throws Exception {
+        String[] rows = output.toString(StandardCharsets.UTF_8).split("\n");
+        JsonNode[] nodes = new JsonNode[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            nodes[i] = objectMapper.readTree(rows[i]);
+        }
+        return List.of(nodes);
+    }
+}
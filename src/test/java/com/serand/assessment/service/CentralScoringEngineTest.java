@@ -8,6 +8,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -164,6 +170,8 @@ class CentralScoringEngineTest {
         assertEquals(50.0, scores.get("q1"), 0.01); // 1.0 / 2 * 100 = 50.0
         assertEquals(75.0, scores.get("q2"), 0.01); // 0.75 * 100 = 75.0
         assertFalse(scores.containsKey("personalInfo"));
+        // The response records which answer keys it was scored against
+        assertEquals(SurveyScoringPlan.compile(survey).getAnswerKeyFingerprint(), response.getAnswerKeyFingerprint());
     }
 
     @Test
@@ -251,13 +259,15 @@ class CentralScoringEngineTest {
     void scoreExplanations_AreProperlyManaged() {
         // Arrange
         SurveyResponseAnswer answer = new SurveyResponseAnswer();
+        answer.setQuestionId("q1");
         answer.setType("text");
         answer.setStringAnswer("Test answer");
+        SurveyResponse response = new SurveyResponse();
+        response.setAnswerMap(new HashMap<>(Map.of("q1", answer)));
 
-        Question question = new Question();
-        question.setId("q1");
-        question.setQuestion("Test question");
-        question.setGemini(true);
+        Survey survey = new Survey();
+        survey.setName("Test Survey");
+        survey.setQuestions(List.of(createQuestion("q1", "Test question", true)));
 
         Company company = new Company();
 
@@ -265,15 +275,297 @@ class CentralScoringEngineTest {
                 .thenReturn("0.8-Test explanation");
 
         // Act
-        centralScoringEngine.calculateQuestionScore(answer, question, company, "Test Survey");
+        ScoringContext context = new ScoringContext();
+        centralScoringEngine.calculateAllQuestionScores(response, survey, company, context);
+
+        // Assert
+        assertEquals("Test explanation", context.getScoreExplanations().get("q1"));
+        assertEquals("Test explanation", answer.getScoreExplanation());
+
+        // A fresh context per response starts empty
+        assertTrue(new ScoringContext().getScoreExplanations().isEmpty());
+    }
+
+    @Test
+    void scoreExplanations_DoNotLeakAcrossResponses() {
+        // Arrange - first candidate answers a Gemini-explained question
+        SurveyResponseAnswer explained = new SurveyResponseAnswer();
+        explained.setType("text");
+        explained.setStringAnswer("First candidate");
+        Question question = createQuestion("q1", "Why us?", true);
+
+        when(geminiService.getSurveyAnswerRelevanceScore(anyString(), anyString(), anyString()))
+                .thenReturn("0.8-First explanation");
+        centralScoringEngine.calculateQuestionScore(explained, question, new Company(), "Test Survey");
+
+        // Act - second candidate answers the same question id with an MCQ-style answer
+        SurveyResponseAnswer second = new SurveyResponseAnswer();
+        second.setType("multipleChoice");
+        second.setArrayAnswer(new String[]{"always"});
+        Question sameId = createQuestion("q1", new String[]{"always"});
+        centralScoringEngine.calculateQuestionScore(second, sameId, new Company(), "Test Survey");
 
         // Assert
-        Map<String, String> explanations = centralScoringEngine.getScoreExplanations();
-        assertEquals("Test explanation", explanations.get("q1"));
+        assertEquals("First explanation", explained.getScoreExplanation());
+        assertNull(second.getScoreExplanation());
+    }
 
-        // Test clearing
-        centralScoringEngine.clearScoreExplanations();
-        assertTrue(centralScoringEngine.getScoreExplanations().isEmpty());
+    @Test
+    void calculateAllQuestionScores_SameSurveyVersion_ReusesCompiledPlan() {
+        // Arrange
+        SurveyScoringPlanCache planCache = new SurveyScoringPlanCache();
+        CentralScoringEngineImpl engine = new CentralScoringEngineImpl(geminiService, planCache);
+
+        Survey survey = new Survey();
+        survey.setId("survey1");
+        survey.setVersion(1);
+        survey.setQuestions(new ArrayList<>(List.of(createQuestion("q1", new String[]{"Java", "Python"}))));
+
+        SurveyResponse response = new SurveyResponse();
+        SurveyResponseAnswer answer = new SurveyResponseAnswer();
+        answer.setQuestionId("q1");
+        answer.setType("multipleChoice");
+        answer.setArrayAnswer(new String[]{"java"});
+        response.setAnswerMap(new HashMap<>(Map.of("q1", answer)));
+
+        // Act
+        SurveyScoringPlan first = planCache.getPlan(survey);
+        Map<String, Double> scores = engine.calculateAllQuestionScores(response, survey, new Company());
+
+        // Assert
+        assertSame(first, planCache.getPlan(survey));
+        assertEquals(50.0, scores.get("q1"), 0.01); // case-insensitive match: 1 / 2 * 100 = 50.0
+    }
+
+    @Test
+    void calculateAllQuestionScores_NewSurveyVersion_RecompilesPlan() {
+        // Arrange
+        SurveyScoringPlanCache planCache = new SurveyScoringPlanCache();
+        CentralScoringEngineImpl engine = new CentralScoringEngineImpl(geminiService, planCache);
+
+        Survey survey = new Survey();
+        survey.setId("survey1");
+        survey.setVersion(1);
+        survey.setQuestions(new ArrayList<>(List.of(createQuestion("q1", new String[]{"Java", "Python"}))));
+
+        SurveyResponse response = new SurveyResponse();
+        SurveyResponseAnswer answer = new SurveyResponseAnswer();
+        answer.setQuestionId("q1");
+        answer.setType("multipleChoice");
+        answer.setArrayAnswer(new String[]{"Java"});
+        response.setAnswerMap(new HashMap<>(Map.of("q1", answer)));
+
+        engine.calculateAllQuestionScores(response, survey, new Company());
+
+        // Act - answer key corrected in a new survey version
+        survey.setQuestions(new ArrayList<>(List.of(createQuestion("q1", new String[]{"Java"}))));
+        survey.setVersion(2);
+        Map<String, Double> scores = engine.calculateAllQuestionScores(response, survey, new Company());
+
+        // Assert
+        assertEquals(2, planCache.getPlan(survey).getVersion());
+        assertEquals(100.0, scores.get("q1"), 0.01);
+    }
+
+    @Test
+    void calculateAllQuestionScores_EditedQuestionsAtSameVersion_RecompilesPlan() {
+        // Arrange - surveys carried in requests keep the default version
+        SurveyScoringPlanCache planCache = new SurveyScoringPlanCache();
+        CentralScoringEngineImpl engine = new CentralScoringEngineImpl(geminiService, planCache);
+
+        Survey survey = new Survey();
+        survey.setId("survey1");
+        survey.setQuestions(new ArrayList<>(List.of(createQuestion("q1", new String[]{"Java", "Python"}))));
+        Survey sameContent = new Survey();
+        sameContent.setId("survey1");
+        sameContent.setQuestions(new ArrayList<>(List.of(createQuestion("q1", new String[]{"Java", "Python"}))));
+        Survey edited = new Survey();
+        edited.setId("survey1");
+        edited.setQuestions(new ArrayList<>(List.of(createQuestion("q1", new String[]{"Java"}))));
+
+        SurveyResponse response = new SurveyResponse();
+        SurveyResponseAnswer answer = new SurveyResponseAnswer();
+        answer.setQuestionId("q1");
+        answer.setType("multipleChoice");
+        answer.setArrayAnswer(new String[]{"Java"});
+        response.setAnswerMap(new HashMap<>(Map.of("q1", answer)));
+
+        // Act
+        SurveyScoringPlan first = planCache.getPlan(survey);
+        SurveyScoringPlan reused = planCache.getPlan(sameContent);
+        Map<String, Double> scores = engine.calculateAllQuestionScores(response, edited, new Company());
+
+        // Assert
+        assertSame(first, reused);
+        assertNotSame(first, planCache.getPlan(edited));
+        assertEquals(100.0, scores.get("q1"), 0.01);
+    }
+
+    @Test
+    void calculateAllQuestionScores_TextAnswers_ScoredConcurrently() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CentralScoringEngineImpl engine = new CentralScoringEngineImpl(geminiService, new SurveyScoringPlanCache(), executor, 1, 8000);
+
+        Survey survey = new Survey();
+        survey.setName("Test Survey");
+        survey.setQuestions(Arrays.asList(
+                createQuestion("q1", "Why this role?", false),
+                createQuestion("q2", "Why this company?", false)));
+
+        Map<String, SurveyResponseAnswer> answersMap = new HashMap<>();
+        for (String id : new String[]{"q1", "q2"}) {
+            SurveyResponseAnswer answer = new SurveyResponseAnswer();
+            answer.setQuestionId(id);
+            answer.setType("text");
+            answer.setStringAnswer("Answer " + id);
+            answersMap.put(id, answer);
+        }
+        SurveyResponse response = new SurveyResponse();
+        response.setAnswerMap(answersMap);
+
+        // Each call only returns once both calls are in flight, so serial scoring would time out
+        CountDownLatch bothInFlight = new CountDownLatch(2);
+        when(geminiService.getSurveyAnswerRelevanceScore(anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    bothInFlight.countDown();
+                    return bothInFlight.await(5, TimeUnit.SECONDS) ? "0.6-Concurrent" : "0.0-Serial";
+                });
+
+        try {
+            // Act
+            Map<String, Double> scores = engine.calculateAllQuestionScores(response, survey, new Company());
+
+            // Assert
+            assertEquals(60.0, scores.get("q1"), 0.01);
+            assertEquals(60.0, scores.get("q2"), 0.01);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void calculateAllQuestionScores_TextAnswers_GroupedIntoSizeBoundedBatches() {
+        // Arrange
+        CentralScoringEngineImpl engine = new CentralScoringEngineImpl(
+                geminiService, new SurveyScoringPlanCache(), Runnable::run, 2, 8000);
+
+        Survey survey = new Survey();
+        survey.setName("Test Survey");
+        List<Question> questions = new ArrayList<>();
+        Map<String, SurveyResponseAnswer> answersMap = new LinkedHashMap<>();
+        for (String id : new String[]{"q1", "q2", "q3"}) {
+            questions.add(createQuestion(id, "Question " + id, false));
+            SurveyResponseAnswer answer = new SurveyResponseAnswer();
+            answer.setQuestionId(id);
+            answer.setType("text");
+            answer.setStringAnswer("Answer " + id);
+            answersMap.put(id, answer);
+        }
+        survey.setQuestions(questions);
+        SurveyResponse response = new SurveyResponse();
+        response.setAnswerMap(answersMap);
+
+        when(geminiService.getSurveyAnswerRelevanceScores(anyList(), eq("Test Survey")))
+                .thenReturn(List.of("0.5-First", "0.7-Second"));
+        when(geminiService.getSurveyAnswerRelevanceScore("Answer q3", "Question q3", "Test Survey"))
+                .thenReturn("0.9-Third");
+
+        // Act
+        Map<String, Double> scores = engine.calculateAllQuestionScores(response, survey, new Company());
+
+        // Assert - two answers in one batch call, the remainder on its own
+        verify(geminiService, times(1)).getSurveyAnswerRelevanceScores(anyList(), anyString());
+        verify(geminiService, times(1)).getSurveyAnswerRelevanceScore(anyString(), anyString(), anyString());
+        assertEquals(50.0, scores.get("q1"), 0.01);
+        assertEquals(70.0, scores.get("q2"), 0.01);
+        assertEquals(90.0, scores.get("q3"), 0.01);
+    }
+
+    @Test
+    void calculateAllQuestionScores_RepeatedTextAnswer_ServedFromRelevanceCache() {
+        // Arrange
+        Survey survey = new Survey();
+        survey.setName("Test Survey");
+        survey.setQuestions(List.of(createQuestion("q1", "Anything else?", false)));
+
+        when(geminiService.getSurveyAnswerRelevanceScore(anyString(), anyString(), anyString()))
+                .thenReturn("0.4-Short answer");
+
+        // Act - two candidates submit the same answer modulo case and whitespace
+        for (String text : new String[]{"N/A", "  n/a "}) {
+            SurveyResponseAnswer answer = new SurveyResponseAnswer();
+            answer.setQuestionId("q1");
+            answer.setType("text");
+            answer.setStringAnswer(text);
+            SurveyResponse response = new SurveyResponse();
+            response.setAnswerMap(new HashMap<>(Map.of("q1", answer)));
+
+            Map<String, Double> scores = centralScoringEngine.calculateAllQuestionScores(response, survey, new Company());
+            assertEquals(40.0, scores.get("q1"), 0.01);
+        }
+
+        // Assert
+        verify(geminiService, times(1)).getSurveyAnswerRelevanceScore(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void calculateAllQuestionScores_TextScoringFails_PropagatesOriginalException() {
+        // Arrange
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CentralScoringEngineImpl engine = new CentralScoringEngineImpl(geminiService, new SurveyScoringPlanCache(), executor);
+
+        Survey survey = new Survey();
+        survey.setName("Test Survey");
+        survey.setQuestions(List.of(createQuestion("q1", "Why this role?", false)));
+
+        SurveyResponseAnswer answer = new SurveyResponseAnswer();
+        answer.setQuestionId("q1");
+        answer.setType("text");
+        answer.setStringAnswer("Because");
+        SurveyResponse response = new SurveyResponse();
+        response.setAnswerMap(new HashMap<>(Map.of("q1", answer)));
+
+        when(geminiService.getSurveyAnswerRelevanceScore(anyString(), anyString(), anyString()))
+                .thenThrow(new IllegalStateException("Gemini unavailable"));
+
+        try {
+            // Act & Assert
+            IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                    () -> engine.calculateAllQuestionScores(response, survey, new Company()));
+            assertEquals("Gemini unavailable", thrown.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void calculateAllQuestionScores_TextScoringRejected_ReleasesRelevanceClaims() {
+        // Arrange
+        RelevanceScoreCache relevanceScoreCache = new RelevanceScoreCache();
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("Executor shut down");
+        };
+        CentralScoringEngineImpl engine = new CentralScoringEngineImpl(geminiService, new SurveyScoringPlanCache(),
+                relevanceScoreCache, rejecting, 10, 8000);
+
+        Survey survey = new Survey();
+        survey.setName("Test Survey");
+        survey.setQuestions(List.of(createQuestion("q1", "Why this role?", false)));
+
+        SurveyResponseAnswer answer = new SurveyResponseAnswer();
+        answer.setQuestionId("q1");
+        answer.setType("text");
+        answer.setStringAnswer("Because");
+        SurveyResponse response = new SurveyResponse();
+        response.setAnswerMap(new HashMap<>(Map.of("q1", answer)));
+
+        // Act & Assert
+        assertThrows(RejectedExecutionException.class,
+                () -> engine.calculateAllQuestionScores(response, survey, new Company()));
+        String key = relevanceScoreCache.key("Because", "Why this role?", "Test Survey");
+        assertTrue(relevanceScoreCache.claim(key).owner());
+        verifyNoInteractions(geminiService);
     }
 
     private Question createQuestion(String id, String[] correctAnswers) {
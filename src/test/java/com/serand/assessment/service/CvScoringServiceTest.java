@@ -0,0 +1,134 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Company;
+import com.serand.assessment.model.ValuesAnswer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CvScoringServiceTest {
+
+    private final CvScoringService cvScoringService = new CvScoringService();
+
+    @Test
+    void scoreCv_PlainText_AveragesValuesAndCultureCoverage() {
+        // Arrange - values: 1 of 2 phrases found, culture: 2 of 2
+        Company company = company(List.of("Customer obsession", "Ownership"), new String[]{"Remote", "Fast paced"});
+        InputStream resume = text("Led a remote team in a fast-paced startup; took full OWNERSHIP of delivery.");
+
+        // Act
+        double score = cvScoringService.scoreCv(resume, company);
+
+        // Assert
+        assertEquals(75.0, score, 0.001);
+    }
+
+    @Test
+    void scoreCv_PhraseWordsSplitAcrossDocument_StillMatches() {
+        // Arrange
+        Company company = company(List.of("Customer obsession"), null);
+        StringBuilder resume = new StringBuilder("customer\n");
+        resume.append("filler text ".repeat(10_000));
+        resume.append("obsession");
+
+        // Act
+        double score = cvScoringService.scoreCv(text(resume.toString()), company);
+
+        // Assert
+        assertEquals(100.0, score, 0.001);
+    }
+
+    @Test
+    void scoreCv_Docx_ReadsDocumentBodyWithoutMarkup() throws Exception {
+        // Arrange
+        Company company = company(List.of("Integrity"), new String[]{"Collaboration"});
+        ByteArrayOutputStream docx = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(docx)) {
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            zip.write("<Types><Default Extension=\"collaboration\"/></Types>".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.write("<w:document><w:body><w:p><w:r><w:t>Acting with integrity</w:t></w:r></w:p></w:body></w:document>"
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+
+        // Act
+        double score = cvScoringService.scoreCv(new ByteArrayInputStream(docx.toByteArray()), company);
+
+        // Assert - only the document body counts, not the other archive entries
+        assertEquals(50.0, score, 0.001);
+    }
+
+    @Test
+    void scoreCv_Pdf_ReturnsNaN() {
+        // Arrange - readable keywords in the PDF must not be scraped from the binary content
+        Company company = company(List.of("Integrity"), null);
+        InputStream pdf = text("%PDF-1.7\n1 0 obj << /Title (Integrity) >> endobj\nstream\n\u0000\u0001\u0002\nendstream");
+
+        // Act
+        double score = cvScoringService.scoreCv(pdf, company);
+
+        // Assert
+        assertTrue(Double.isNaN(score));
+    }
+
+    @Test
+    void scoreCv_ZipWithoutDocumentBody_ReturnsNaN() throws Exception {
+        // Arrange
+        Company company = company(List.of("Integrity"), null);
+        ByteArrayOutputStream odt = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(odt)) {
+            zip.putNextEntry(new ZipEntry("content.xml"));
+            zip.write("<office:text>Integrity</office:text>".getBytes(StandardCharsets.UTF_8));
+        }
+
+        // Act
+        double score = cvScoringService.scoreCv(new ByteArrayInputStream(odt.toByteArray()), company);
+
+        // Assert
+        assertTrue(Double.isNaN(score));
+    }
+
+    @Test
+    void scoreCv_BinaryContent_ReturnsNaN() {
+        // Arrange
+        Company company = company(List.of("Integrity"), null);
+        byte[] binary = new byte[256];
+        for (int i = 0; i < binary.length; i++) {
+            binary[i] = (byte) (i % 8 == 0 ? 'a' : i % 8);
+        }
+
+        // Act
+        double score = cvScoringService.scoreCv(new ByteArrayInputStream(binary), company);
+
+        // Assert
+        assertTrue(Double.isNaN(score));
+    }
+
+    @Test
+    void scoreCv_CompanyWithoutKeywords_ReturnsNaN() {
+        assertTrue(Double.isNaN(cvScoringService.scoreCv(text("anything"), new Company())));
+    }
+
+    private static Company company(List<String> values, String[] culture) {
+        Company company = new Company();
+        company.setValuesAnswers(values.stream().map(value -> {
+            ValuesAnswer answer = new ValuesAnswer();
+            answer.setValue(value);
+            return answer;
+        }).toList());
+        company.setCulture(culture);
+        return company;
+    }
+
+    private static InputStream text(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
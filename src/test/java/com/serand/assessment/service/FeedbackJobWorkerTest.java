@@ -0,0 +1,159 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Candidate;
+import com.serand.assessment.model.Survey;
+import com.serand.assessment.repository.FeedbackJob;
+import com.serand.assessment.repository.FeedbackJobStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FeedbackJobWorkerTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private FeedbackJobStore store;
+    @Mock
+    private GeminiService geminiService;
+    @Mock
+    private CandidateService candidateService;
+    @Mock
+    private SurveyService surveyService;
+
+    // Never runs scheduled polls or wake-ups, so only the test thread polls
+    @Mock
+    private ScheduledExecutorService poller;
+
+    private FeedbackJobWorker worker;
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void request_EnqueuesWithPriorityWeight() {
+        // Arrange
+        worker = worker(Runnable::run, 2, 10);
+        Candidate candidate = new Candidate();
+        candidate.setId("cand1");
+        Survey survey = new Survey();
+        survey.setId("survey1");
+
+        // Act
+        worker.request(candidate, survey, FeedbackPriority.HIGH);
+
+        // Assert
+        verify(store).enqueue("cand1", "survey1", FeedbackPriority.HIGH.getWeight(), NOW);
+    }
+
+    @Test
+    void poll_JobsForSameSurvey_OneGenerationCallPerSurvey() {
+        // Arrange
+        worker = worker(Runnable::run, 2, 10);
+        List<FeedbackJob> jobs = List.of(job("j1", "cand1", "survey1"), job("j2", "cand2", "survey1"),
+                job("j3", "cand3", "survey2"));
+        when(store.claim(eq(10), eq(NOW), any())).thenReturn(jobs).thenReturn(List.of());
+        stubSurveysAndCandidates();
+
+        // Act
+        int claimed = worker.poll();
+
+        // Assert
+        assertEquals(3, claimed);
+        verify(geminiService).generateCandidateFeedbackBatch(argThat((List<Candidate> c) -> c.size() == 2), argThat(s -> s.getId().equals("survey1")));
+        verify(geminiService).generateCandidateFeedbackBatch(argThat((List<Candidate> c) -> c.size() == 1), argThat(s -> s.getId().equals("survey2")));
+        verify(store).complete(List.of(jobs.get(0), jobs.get(1)));
+        verify(store).complete(List.of(jobs.get(2)));
+    }
+
+    @Test
+    void poll_GenerationFails_RetriesWithBackoffThenGivesUp() {
+        // Arrange
+        worker = worker(Runnable::run, 2, 10);
+        FeedbackJob firstAttempt = job("j1", "cand1", "survey1");
+        FeedbackJob lastAttempt = new FeedbackJob("j2", "cand2", "survey1", 10, 2);
+        when(store.claim(anyInt(), any(), any()))
+                .thenReturn(List.of(firstAttempt, lastAttempt))
+                .thenReturn(List.of());
+        stubSurveysAndCandidates();
+        doThrow(new RuntimeException("quota exceeded")).when(geminiService).generateCandidateFeedbackBatch(anyList(), any());
+
+        // Act
+        worker.poll();
+
+        // Assert - max attempts is 3
+        verify(store).scheduleRetry(firstAttempt, NOW.plusSeconds(30), "quota exceeded");
+        verify(store).markFailed(lastAttempt, "quota exceeded");
+        verify(store, never()).complete(any());
+    }
+
+    @Test
+    void poll_ConcurrencyBudgetExhausted_StopsClaimingUntilABatchFinishes() {
+        // Arrange - batches are queued but not run until released
+        List<Runnable> running = new ArrayList<>();
+        worker = worker(running::add, 1, 1);
+        when(store.claim(anyInt(), any(), any()))
+                .thenReturn(List.of(job("j1", "cand1", "survey1")))
+                .thenReturn(List.of(job("j2", "cand2", "survey1")))
+                .thenReturn(List.of());
+        stubSurveysAndCandidates();
+
+        // Act & Assert
+        assertEquals(1, worker.poll());
+        assertEquals(0, worker.poll());
+        verify(store, times(1)).claim(anyInt(), any(), any());
+
+        running.remove(0).run();
+        assertEquals(1, worker.poll());
+    }
+
+    private FeedbackJobWorker worker(Executor executor, int maxConcurrency, int batchSize) {
+        return new FeedbackJobWorker(store, geminiService, candidateService, surveyService, executor, maxConcurrency,
+                batchSize, 3, Duration.ofSeconds(30), Duration.ofHours(1), Duration.ofMinutes(10), Duration.ofHours(1),
+                poller, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private void stubSurveysAndCandidates() {
+        when(surveyService.findSurvey(anyString())).thenAnswer(invocation -> {
+            Survey survey = new Survey();
+            survey.setId(invocation.getArgument(0));
+            return Optional.of(survey);
+        });
+        when(candidateService.findCandidates(any())).thenAnswer(invocation -> {
+            List<Candidate> candidates = new ArrayList<>();
+            for (String id : invocation.<Collection<String>>getArgument(0)) {
+                Candidate candidate = new Candidate();
+                candidate.setId(id);
+                candidates.add(candidate);
+            }
+            return candidates;
+        });
+    }
+
+    private FeedbackJob job(String id, String candidateId, String surveyId) {
+        return new FeedbackJob(id, candidateId, surveyId, FeedbackPriority.NORMAL.getWeight(), 0);
+    }
+}
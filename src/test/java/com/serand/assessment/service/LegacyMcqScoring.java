@@ -0,0 +1,50 @@
+package com.serand.assessment.service;
+
+import java.util.Arrays;
+
+/**
+ * The string-comparison MCQ scoring used before answer keys were ordinal-encoded.
+ * Kept as a reference for equivalence tests and benchmarks.
+ */
+public final class LegacyMcqScoring {
+
+    private LegacyMcqScoring() {
+    }
+
+    public static double fixed(String[] candidateAnswer, String[] correctAnswers) {
+        if (candidateAnswer == null || correctAnswers == null || correctAnswers.length == 0) {
+            return 0.0;
+        }
+
+        double scorePoints = 0;
+        for (String ans : candidateAnswer) {
+            if ("always".equalsIgnoreCase(ans)) {
+                scorePoints += 1.0;
+            } else if ("often".equalsIgnoreCase(ans)) {
+                scorePoints += 0.75;
+            } else if ("sometimes".equalsIgnoreCase(ans)) {
+                scorePoints += 0.5;
+            }
+        }
+        return (scorePoints / correctAnswers.length) * 100;
+    }
+
+    public static double variable(String[] candidateAnswer, String[] correctAnswers) {
+        if (candidateAnswer == null || correctAnswers == null || correctAnswers.length == 0) {
+            return 0.0;
+        }
+
+        long matches = Arrays.stream(candidateAnswer)
+                .filter(ca -> Arrays.stream(correctAnswers).anyMatch(cca -> ca.equalsIgnoreCase(cca)))
+                .count();
+        return (double) matches / correctAnswers.length * 100;
+    }
+
+    public static boolean isTypeOne(String[] correctAnswers) {
+        if (correctAnswers == null) {
+            return false;
+        }
+        return Arrays.stream(correctAnswers).anyMatch(ans ->
+            "always".equalsIgnoreCase(ans) || "often".equalsIgnoreCase(ans));
+    }
+}
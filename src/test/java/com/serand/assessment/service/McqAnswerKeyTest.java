@@ -0,0 +1,60 @@
+package com.serand.assessment.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class McqAnswerKeyTest {
+
+    private static final String[] VOCABULARY = {
+            "Always", "always", "OFTEN", "Often", "sometimes", "Rarely", "never",
+            "Java", "java", "PYTHON", "Python", "C++", "Go", "Rust", "", "unknown"
+    };
+
+    @Test
+    void ordinalOf_CaseVariants_ResolveToSameOrdinal() {
+        McqAnswerKey key = McqAnswerKey.compile(new String[]{"Java", "Python"}, new String[]{"Java"});
+
+        assertEquals(key.ordinalOf("Java"), key.ordinalOf("JAVA"));
+        assertEquals(key.ordinalOf("Java"), key.ordinalOf("java"));
+        assertTrue(key.isCorrect(key.ordinalOf("jAvA")));
+        assertFalse(key.isCorrect(key.ordinalOf("Python")));
+        assertEquals(-1, key.ordinalOf("Cobol"));
+        assertEquals(-1, key.ordinalOf(null));
+    }
+
+    @Test
+    void isFixedScale_MatchesLegacyTypeOneCheck() {
+        assertTrue(McqAnswerKey.compile(null, new String[]{"Always", "Sometimes"}).isFixedScale());
+        assertTrue(McqAnswerKey.compile(null, new String[]{"OFTEN"}).isFixedScale());
+        assertFalse(McqAnswerKey.compile(null, new String[]{"Sometimes", "Java"}).isFixedScale());
+        assertFalse(McqAnswerKey.compile(null, null).isFixedScale());
+    }
+
+    @Test
+    void scoring_RandomAnswers_MatchesLegacyImplementation() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            String[] available = randomAnswers(random, 6);
+            String[] correct = randomAnswers(random, 4);
+            String[] candidate = randomAnswers(random, 5);
+            McqAnswerKey key = McqAnswerKey.compile(available, correct);
+
+            String context = Arrays.toString(correct) + " vs " + Arrays.toString(candidate);
+            assertEquals(LegacyMcqScoring.fixed(candidate, correct), key.scoreFixed(candidate), 1e-9, context);
+            assertEquals(LegacyMcqScoring.variable(candidate, correct), key.scoreVariable(candidate), 1e-9, context);
+            assertEquals(LegacyMcqScoring.isTypeOne(correct), key.isFixedScale(), context);
+        }
+    }
+
+    private static String[] randomAnswers(Random random, int maxLength) {
+        String[] answers = new String[random.nextInt(maxLength + 1)];
+        for (int i = 0; i < answers.length; i++) {
+            answers[i] = VOCABULARY[random.nextInt(VOCABULARY.length)];
+        }
+        return answers;
+    }
+}
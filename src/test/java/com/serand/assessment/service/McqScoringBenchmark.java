@@ -0,0 +1,98 @@
+package com.serand.assessment.service;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Micro-benchmark comparing the legacy string-comparison MCQ scoring with ordinal-encoded
+ * McqAnswerKey scoring. Not part of the unit test suite; run after {@code mvn test-compile} with:
+ * <pre>
+ * java -cp target/classes:target/test-classes com.serand.assessment.service.McqScoringBenchmark
+ * </pre>
+ */
+public final class McqScoringBenchmark {
+
+    private static final int QUESTIONS = 256;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int ITERATIONS_PER_ROUND = 2_000;
+
+    private static final String[] OPTIONS = {
+            "Always", "Often", "Sometimes", "Rarely", "Never",
+            "Java", "Python", "C++", "Go", "Rust", "Kotlin", "Scala"
+    };
+
+    public static void main(String[] args) {
+        Random random = new Random(7);
+        String[][] correct = new String[QUESTIONS][];
+        String[][] candidate = new String[QUESTIONS][];
+        McqAnswerKey[] keys = new McqAnswerKey[QUESTIONS];
+        for (int q = 0; q < QUESTIONS; q++) {
+            correct[q] = pick(random, 1 + random.nextInt(4));
+            candidate[q] = pick(random, 1 + random.nextInt(4));
+            keys[q] = McqAnswerKey.compile(OPTIONS, correct[q]);
+        }
+
+        Runnable legacy = () -> {
+            double sink = 0;
+            for (int q = 0; q < QUESTIONS; q++) {
+                sink += LegacyMcqScoring.isTypeOne(correct[q])
+                        ? LegacyMcqScoring.fixed(candidate[q], correct[q])
+                        : LegacyMcqScoring.variable(candidate[q], correct[q]);
+            }
+            blackhole(sink);
+        };
+        Runnable ordinal = () -> {
+            double sink = 0;
+            for (int q = 0; q < QUESTIONS; q++) {
+                McqAnswerKey key = keys[q];
+                sink += key.isFixedScale() ? key.scoreFixed(candidate[q]) : key.scoreVariable(candidate[q]);
+            }
+            blackhole(sink);
+        };
+
+        Result legacyResult = measure(legacy);
+        Result ordinalResult = measure(ordinal);
+        System.out.printf("legacy  : %8.1f ns/answer, %8.1f bytes/answer%n", legacyResult.nanosPerAnswer, legacyResult.bytesPerAnswer);
+        System.out.printf("ordinal : %8.1f ns/answer, %8.1f bytes/answer%n", ordinalResult.nanosPerAnswer, ordinalResult.bytesPerAnswer);
+        System.out.printf("speed-up: %.1fx%n", legacyResult.nanosPerAnswer / ordinalResult.nanosPerAnswer);
+    }
+
+    private static Result measure(Runnable round) {
+        for (int i = 0; i < WARMUP_ROUNDS * ITERATIONS_PER_ROUND; i++) {
+            round.run();
+        }
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS * ITERATIONS_PER_ROUND; i++) {
+            round.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = allocatedBytes() - bytesBefore;
+        double answers = (double) MEASURED_ROUNDS * ITERATIONS_PER_ROUND * QUESTIONS;
+        return new Result(elapsed / answers, bytes / answers);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static String[] pick(Random random, int count) {
+        String[] answers = new String[count];
+        for (int i = 0; i < count; i++) {
+            String option = OPTIONS[random.nextInt(OPTIONS.length)];
+            answers[i] = random.nextBoolean() ? option : option.toLowerCase();
+        }
+        return answers;
+    }
+
+    private static volatile double consumed;
+
+    private static void blackhole(double value) {
+        consumed = value;
+    }
+
+    private record Result(double nanosPerAnswer, double bytesPerAnswer) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Scores;
+import com.serand.assessment.model.Weightings;
+import com.serand.assessment.model.WorkLife;
+
+import java.util.Random;
+
+/**
+ * Micro-benchmark comparing re-ranking a survey object by object (Scores.getOverallScore plus the CV blend)
+ * with the columnar bulk computation of SurveyScoreColumns. Not part of the unit test suite; run after
+ * {@code mvn test-compile} with:
+ * <pre>
+ * java -cp target/classes:target/test-classes com.serand.assessment.service.OverallScoreBenchmark
+ * </pre>
+ */
+public final class OverallScoreBenchmark {
+
+    private static final int APPLICATIONS = 200_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    public static void main(String[] args) {
+        Random random = new Random(7);
+        Scores[] scores = new Scores[APPLICATIONS];
+        double[] cvScores = new double[APPLICATIONS];
+        SurveyScoreColumns.Builder builder = SurveyScoreColumns.builder("survey");
+        for (int i = 0; i < APPLICATIONS; i++) {
+            scores[i] = new Scores();
+            scores[i].setValues(random.nextDouble() * 100);
+            scores[i].setCulture(random.nextDouble() * 100);
+            scores[i].setMindset(random.nextDouble() * 100);
+            WorkLife workLife = new WorkLife();
+            workLife.setWorkLife(random.nextDouble() * 100);
+            scores[i].setWorkLife(workLife);
+            cvScores[i] = random.nextBoolean() ? random.nextDouble() * 100 : 0;
+            builder.add("app" + i, scores[i], cvScores[i]);
+        }
+        SurveyScoreColumns columns = builder.build();
+        Weightings[] weightings = new Weightings[MEASURED_ROUNDS];
+        for (int round = 0; round < weightings.length; round++) {
+            weightings[round] = new Weightings();
+            weightings[round].setValues(random.nextDouble());
+        }
+        ScoreCompositionServiceImpl composition = new ScoreCompositionServiceImpl(null);
+
+        Round perObject = weighting -> {
+            double sink = 0;
+            for (int i = 0; i < APPLICATIONS; i++) {
+                scores[i].setWeightings(weighting);
+                sink += composition.calculateOverallScore(scores[i], cvScores[i]);
+            }
+            blackhole(sink);
+        };
+        Round columnar = weighting -> blackhole(columns.applicationScores(weighting, null)[APPLICATIONS - 1]);
+
+        double perObjectMillis = measure(perObject, weightings);
+        double columnarMillis = measure(columnar, weightings);
+        System.out.printf("per object: %8.2f ms per %d applications%n", perObjectMillis, APPLICATIONS);
+        System.out.printf("columnar  : %8.2f ms per %d applications%n", columnarMillis, APPLICATIONS);
+        System.out.printf("speed-up  : %.1fx%n", perObjectMillis / columnarMillis);
+    }
+
+    private static double measure(Round round, Weightings[] weightings) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run(weightings[i % weightings.length]);
+        }
+        long start = System.nanoTime();
+        for (Weightings weighting : weightings) {
+            round.run(weighting);
+        }
+        return (System.nanoTime() - start) / 1e6 / weightings.length;
+    }
+
+    private static volatile double consumed;
+
+    private static void blackhole(double value) {
+        consumed = value;
+    }
+
+    private interface Round {
+        void run(Weightings weightings);
+    }
+}
@@ -0,0 +1,110 @@
+package com.serand.assessment.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RelevanceScoreCacheTest {
+
+    @Test
+    void key_NormalizedAnswers_ShareKey() {
+        RelevanceScoreCache cache = new RelevanceScoreCache();
+
+        assertEquals(cache.key("N/A", "Why us?", "Survey"), cache.key("  n/a ", "Why us?", "Survey"));
+        assertEquals(cache.key("I like  teams", "Q", "S"), cache.key("i like teams", "Q", "S"));
+        assertNotEquals(cache.key("N/A", "Why us?", "Survey"), cache.key("N/A", "Why us?", "Other Survey"));
+    }
+
+    @Test
+    void claim_AfterComplete_ReturnsCachedHit() {
+        RelevanceScoreCache cache = new RelevanceScoreCache();
+        String key = cache.key("answer", "question", "survey");
+
+        RelevanceScoreCache.Claim first = cache.claim(key);
+        assertTrue(first.owner());
+        cache.complete(key, "0.8-Good");
+
+        RelevanceScoreCache.Claim second = cache.claim(key);
+        assertFalse(second.owner());
+        assertEquals("0.8-Good", second.result().join());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void claim_WhileInFlight_SharesOwnerFuture() {
+        RelevanceScoreCache cache = new RelevanceScoreCache();
+        String key = cache.key("answer", "question", "survey");
+
+        RelevanceScoreCache.Claim owner = cache.claim(key);
+        RelevanceScoreCache.Claim waiter = cache.claim(key);
+
+        assertTrue(owner.owner());
+        assertFalse(waiter.owner());
+        assertSame(owner.result(), waiter.result());
+        assertEquals(1, cache.getCoalescedCount());
+
+        cache.complete(key, "0.5-Shared");
+        assertEquals("0.5-Shared", waiter.result().join());
+    }
+
+    @Test
+    void fail_WakesWaitersAndDoesNotCache() {
+        RelevanceScoreCache cache = new RelevanceScoreCache();
+        String key = cache.key("answer", "question", "survey");
+
+        RelevanceScoreCache.Claim owner = cache.claim(key);
+        RelevanceScoreCache.Claim waiter = cache.claim(key);
+        cache.fail(key, new IllegalStateException("boom"));
+
+        assertTrue(waiter.result().isCompletedExceptionally());
+        assertTrue(cache.claim(key).owner());
+    }
+
+    @Test
+    void complete_OverMaxSize_EvictsLeastRecentlyUsed() {
+        RelevanceScoreCache cache = new RelevanceScoreCache(2, Duration.ofHours(1));
+
+        cache.complete("a", "0.1-a");
+        cache.complete("b", "0.2-b");
+        cache.getIfPresent("a"); // touch a so b becomes eldest
+        cache.complete("c", "0.3-c");
+
+        assertEquals(2, cache.size());
+        assertEquals("0.1-a", cache.getIfPresent("a"));
+        assertNull(cache.getIfPresent("b"));
+    }
+
+    @Test
+    void getIfPresent_AfterTtl_Expires() {
+        AtomicLong now = new AtomicLong();
+        RelevanceScoreCache cache = new RelevanceScoreCache(10, Duration.ofSeconds(10), now::get);
+
+        cache.complete("a", "0.1-a");
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertEquals("0.1-a", cache.getIfPresent("a"));
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertNull(cache.getIfPresent("a"));
+    }
+
+    @Test
+    void claim_OwnerNeverResolves_TimesOutAndReleasesKey() {
+        RelevanceScoreCache cache = new RelevanceScoreCache(10, Duration.ofHours(1), Duration.ofMillis(50),
+                System::nanoTime);
+        String key = cache.key("answer", "question", "survey");
+
+        RelevanceScoreCache.Claim owner = cache.claim(key);
+        RelevanceScoreCache.Claim waiter = cache.claim(key);
+
+        CompletionException thrown = assertThrows(CompletionException.class, () -> waiter.result().join());
+        assertInstanceOf(TimeoutException.class, thrown.getCause());
+        assertTrue(owner.result().isCompletedExceptionally());
+        assertTrue(cache.claim(key).owner());
+    }
+}
@@ -200,6 +200,7 @@ class ScoreCompositionServiceTest {
         assertSame(application, updatedApplication);
         assertSame(scores, application.getScores());
         assertEquals(83.75, application.getApplicationOverallScore(), 0.01);
+        assertEquals(85.0, application.getCvScore(), 0.01);
     }
 
     @Test
@@ -281,6 +282,35 @@ class ScoreCompositionServiceTest {
         assertEquals(82.5, overallScore, 0.01); // Survey score only (negative CV ignored)
     }
 
+    @Test
+    void aggregatePillarScores_CompanyPillarsChange_UsesNewPillarLayout() {
+        // Arrange
+        Map<String, SurveyResponseAnswer> answersMap = new HashMap<>();
+        answersMap.put("tech1", createAnswer("technology", 80.0));
+        answersMap.put("lead1", createAnswer("leadership", 60.0));
+        answersMap.put("ops1", createAnswer("operations", 40.0));
+
+        Company company = new Company();
+        company.setId("company1");
+        company.setWeightings(createWeightings());
+
+        Pillars pillars = new Pillars();
+        pillars.setPillars(new HashMap<>(Map.of("technology", 0.6, "leadership", 0.4)));
+        scoreCompositionService.aggregatePillarScores(answersMap, company, pillars);
+
+        // Act - the company swaps leadership for operations
+        Pillars updated = new Pillars();
+        updated.setPillars(new HashMap<>(Map.of("technology", 0.5, "operations", 0.5)));
+        Scores scores = scoreCompositionService.aggregatePillarScores(answersMap, company, updated);
+
+        // Assert
+        Map<String, Double> customScores = scores.getCustomPillarScores();
+        assertEquals(2, customScores.size());
+        assertEquals(80.0, customScores.get("technology"), 0.01);
+        assertEquals(40.0, customScores.get("operations"), 0.01);
+        assertFalse(customScores.containsKey("leadership"));
+    }
+
     private SurveyResponseAnswer createAnswer(String reference, double score) {
         SurveyResponseAnswer answer = new SurveyResponseAnswer();
         answer.setReference(reference);
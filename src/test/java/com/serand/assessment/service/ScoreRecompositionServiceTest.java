@@ -0,0 +1,232 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Company;
+import com.serand.assessment.model.Scores;
+import com.serand.assessment.model.Weightings;
+import com.serand.assessment.model.WorkLife;
+import com.serand.assessment.repository.ApplicationDocument;
+import com.serand.assessment.repository.PersistenceMapper;
+import com.serand.assessment.repository.QuestionScores;
+import com.serand.assessment.repository.RecomposedScores;
+import com.serand.assessment.repository.RecompositionJobDocument;
+import com.serand.assessment.repository.RecompositionStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs re-composition jobs synchronously against an in-memory store.
+ */
+class ScoreRecompositionServiceTest {
+
+    private final InMemoryStore store = new InMemoryStore();
+    private final SurveyService surveyService = mock(SurveyService.class);
+    private ExecutorService executor;
+    private ScoreRecompositionService service;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        service = new ScoreRecompositionService(surveyService, new ScoreCompositionServiceImpl(surveyService), store,
+                executor, Runnable::run, 2, 2);
+        Company company = new Company();
+        company.setId("company1");
+        Weightings weightings = new Weightings();
+        weightings.setValues(0.7);
+        weightings.setCulture(0.1);
+        weightings.setMindset(0.1);
+        weightings.setWorkLife(0.1);
+        company.setWeightings(weightings);
+        when(surveyService.findCompanyForScoring("company1")).thenReturn(Optional.of(company));
+        for (int i = 1; i <= 5; i++) {
+            store.add("app" + i, 10.0 * i, i == 1 ? 90.0 : 0);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void start_NewWeightings_RecomposesEveryApplicationInChunks() {
+        // Act
+        Optional<RecompositionJobDocument> started = service.start("company1", false);
+
+        // Assert
+        assertTrue(started.isPresent());
+        assertEquals(5, started.get().getTotal());
+        RecompositionJobDocument job = service.progress("company1").orElseThrow();
+        assertEquals(RecompositionJobDocument.Status.COMPLETED, job.getStatus());
+        assertEquals(5, job.getProcessed());
+        assertEquals("app5", job.getLastApplicationId());
+        assertEquals(3, store.bulkWrites);
+        // values 20, culture 40, mindset 50, workplace 60 -> 0.7*20 + 0.1*(40 + 50 + 60)
+        RecomposedScores second = store.written.get("app2");
+        assertEquals(29.0, second.applicationOverallScore(), 0.01);
+        assertEquals(60.0, second.scores().getWorkLife().getWorkLife(), 0.01);
+        // The stored CV score is blended in as in live scoring
+        assertEquals((17.0 + 90.0) / 2, store.written.get("app1").applicationOverallScore(), 0.01);
+    }
+
+    @Test
+    void start_ApplicationStoredWithoutCvScore_KeepsItsCvScore() {
+        // Arrange - saved before cvScore was stored: pillar overall 60 blended with a CV score of 90
+        ApplicationDocument legacy = store.applications.get("app1");
+        legacy.setCvScore(null);
+        Scores stored = new Scores();
+        stored.setValues(60.0);
+        stored.setCulture(60.0);
+        stored.setMindset(60.0);
+        WorkLife workLife = new WorkLife();
+        workLife.setWorkLife(60.0);
+        stored.setWorkLife(workLife);
+        stored.setWeightings(new Weightings());
+        legacy.setScores(PersistenceMapper.toDocument(stored));
+        legacy.setApplicationOverallScore(75.0);
+
+        // Act
+        service.start("company1", false);
+
+        // Assert
+        RecomposedScores first = store.written.get("app1");
+        assertEquals(90.0, first.cvScore(), 0.01);
+        assertEquals((17.0 + 90.0) / 2, first.applicationOverallScore(), 0.01);
+    }
+
+    @Test
+    void start_AfterFailedChunk_ResumesFromCheckpoint() {
+        // Arrange
+        store.failOnBulkWrite = 2;
+        service.start("company1", false);
+        RecompositionJobDocument failed = service.progress("company1").orElseThrow();
+        assertEquals(RecompositionJobDocument.Status.FAILED, failed.getStatus());
+        assertEquals("app2", failed.getLastApplicationId());
+        store.written.clear();
+
+        // Act
+        service.start("company1", false);
+
+        // Assert
+        RecompositionJobDocument job = service.progress("company1").orElseThrow();
+        assertEquals(RecompositionJobDocument.Status.COMPLETED, job.getStatus());
+        assertEquals(5, job.getProcessed());
+        assertEquals(Set.of("app3", "app4", "app5"), store.written.keySet());
+        assertNull(job.getLastError());
+    }
+
+    @Test
+    void start_ApplicationScoredWhileRunning_KeepsNewerScoresAndCountsItSkipped() {
+        // Arrange - app3 is scored live after the job read it
+        store.scoredMeanwhile.put("app3", 99.0);
+
+        // Act
+        service.start("company1", false);
+
+        // Assert
+        RecompositionJobDocument job = service.progress("company1").orElseThrow();
+        assertEquals(RecompositionJobDocument.Status.COMPLETED, job.getStatus());
+        assertEquals(5, job.getProcessed());
+        assertEquals(1, job.getSkipped());
+        assertEquals(4, job.getChanged());
+        assertFalse(store.written.containsKey("app3"));
+        assertEquals(99.0, store.applications.get("app3").getApplicationOverallScore());
+    }
+
+    @Test
+    void start_Restart_StartsOverFromTheFirstApplication() {
+        // Arrange
+        service.start("company1", false);
+        store.written.clear();
+
+        // Act
+        service.start("company1", true);
+
+        // Assert
+        assertEquals(5, store.written.size());
+        assertEquals(5, service.progress("company1").orElseThrow().getProcessed());
+    }
+
+    @Test
+    void start_UnknownCompany_ReturnsEmpty() {
+        when(surveyService.findCompanyForScoring("missing")).thenReturn(Optional.empty());
+
+        assertTrue(service.start("missing", false).isEmpty());
+        assertTrue(store.jobs.isEmpty());
+    }
+
+    /**
+     * Applications keyed (and so ordered) by id; records every bulk write, can fail the n-th one and can
+     * score applications live just before a bulk write.
+     */
+    private static class InMemoryStore implements RecompositionStore {
+        private final NavigableMap<String, ApplicationDocument> applications = new TreeMap<>();
+        private final Map<String, RecompositionJobDocument> jobs = new HashMap<>();
+        private final Map<String, RecomposedScores> written = new HashMap<>();
+        private final Map<String, Double> scoredMeanwhile = new HashMap<>();
+        private int bulkWrites;
+        private int failOnBulkWrite;
+
+        void add(String applicationId, double score, double cvScore) {
+            ApplicationDocument document = new ApplicationDocument();
+            document.setId(applicationId);
+            document.setCompanyId("company1");
+            document.setCvScore(cvScore);
+            document.setQuestionScores(new QuestionScores(new String[]{"q1", "q2", "q3"},
+                    new String[]{"values", "culture", "workplace"}, new double[]{score, 2 * score, 3 * score}));
+            applications.put(applicationId, document);
+        }
+
+        @Override
+        public Optional<RecompositionJobDocument> findJob(String companyId) {
+            return Optional.ofNullable(jobs.get(companyId)).map(RecompositionJobDocument::copy);
+        }
+
+        @Override
+        public void saveJob(RecompositionJobDocument job) {
+            jobs.put(job.getId(), job.copy());
+        }
+
+        @Override
+        public long countScoredApplications(String companyId) {
+            return applications.size();
+        }
+
+        @Override
+        public Stream<ApplicationDocument> streamScoredApplications(String companyId, String afterApplicationId) {
+            return (afterApplicationId != null ? applications.tailMap(afterApplicationId, false) : applications)
+                    .values().stream();
+        }
+
+        @Override
+        public synchronized Set<String> writeScores(Collection<RecomposedScores> results) {
+            if (++bulkWrites == failOnBulkWrite) {
+                throw new IllegalStateException("bulk write failed");
+            }
+            Set<String> missed = new HashSet<>();
+            for (RecomposedScores result : results) {
+                ApplicationDocument document = applications.get(result.applicationId());
+                Double liveScore = scoredMeanwhile.remove(result.applicationId());
+                if (liveScore != null) {
+                    document.setApplicationOverallScore(liveScore);
+                }
+                if (Double.compare(document.getApplicationOverallScore(), result.readOverallScore()) != 0
+                        || document.getQuestionScores() != result.readQuestionScores()) {
+                    missed.add(result.applicationId());
+                    continue;
+                }
+                document.setApplicationOverallScore(result.applicationOverallScore());
+                written.put(result.applicationId(), result);
+            }
+            return missed;
+        }
+    }
+}
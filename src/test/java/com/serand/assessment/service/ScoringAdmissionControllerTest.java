@@ -0,0 +1,178 @@
+package com.serand.assessment.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringAdmissionControllerTest {
+
+    private final List<String> started = new ArrayList<>();
+    private final List<CompletableFuture<String>> running = new ArrayList<>();
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void submit_FreeSlot_RunsImmediately() {
+        ScoringAdmissionController admission = controller(1, 10, 10, 10);
+
+        CompletableFuture<String> result = admission.submit("acme", ScoringPriority.INTERACTIVE, work("a1"));
+
+        assertEquals(List.of("a1"), started);
+        running.get(0).complete("done");
+        assertEquals("done", result.join());
+        assertEquals(0, admission.getRunningCount());
+    }
+
+    @Test
+    void submit_BusyCompanies_AreServedRoundRobin() {
+        // Arrange - one slot, taken by the first bulk request
+        ScoringAdmissionController admission = controller(1, 10, 10, 10);
+        admission.submit("big", ScoringPriority.BULK, work("big-0"));
+        for (int i = 1; i <= 3; i++) {
+            admission.submit("big", ScoringPriority.BULK, work("big-" + i));
+        }
+        admission.submit("small", ScoringPriority.BULK, work("small-1"));
+
+        // Act
+        finishAll();
+
+        // Assert - the small company does not wait behind the whole import
+        assertEquals(List.of("big-0", "big-1", "small-1", "big-2", "big-3"), started);
+    }
+
+    @Test
+    void submit_InteractiveAndBulkQueued_InteractiveGetsWeightedShare() {
+        // Arrange - interactive weight 2, bulk weight 1
+        ScoringAdmissionController admission = controller(1, 10, 10, 10);
+        admission.submit("acme", ScoringPriority.BULK, work("b0"));
+        for (int i = 1; i <= 3; i++) {
+            admission.submit("acme", ScoringPriority.BULK, work("b" + i));
+            admission.submit("acme", ScoringPriority.INTERACTIVE, work("i" + i));
+        }
+
+        // Act
+        finishAll();
+
+        // Assert - two interactive per bulk, bulk still makes progress
+        assertEquals(List.of("b0", "i1", "b1", "i2", "i3", "b2", "b3"), started);
+    }
+
+    @Test
+    void submit_ClassQueueFull_RejectsWithClearStatus() {
+        ScoringAdmissionController admission = controller(1, 10, 1, 10);
+        admission.submit("acme", ScoringPriority.BULK, work("b0"));
+        admission.submit("acme", ScoringPriority.BULK, work("b1"));
+
+        CompletableFuture<String> rejected = admission.submit("other", ScoringPriority.BULK, work("b2"));
+        CompletableFuture<String> interactive = admission.submit("other", ScoringPriority.INTERACTIVE, work("i1"));
+
+        CompletionException failure = assertThrows(CompletionException.class, rejected::join);
+        ScoringRejectedException rejection = assertInstanceOf(ScoringRejectedException.class, failure.getCause());
+        assertEquals(ScoringPriority.BULK, rejection.getPriority());
+        assertFalse(interactive.isDone());
+        assertEquals(1, admission.getRejectedCount());
+    }
+
+    @Test
+    void submit_CompanyShareFull_RejectsOnlyThatCompany() {
+        ScoringAdmissionController admission = controller(1, 10, 10, 2);
+        admission.submit("big", ScoringPriority.BULK, work("big-0"));
+        admission.submit("big", ScoringPriority.BULK, work("big-1"));
+        admission.submit("big", ScoringPriority.BULK, work("big-2"));
+
+        CompletableFuture<String> overflow = admission.submit("big", ScoringPriority.BULK, work("big-3"));
+        CompletableFuture<String> other = admission.submit("small", ScoringPriority.BULK, work("small-1"));
+
+        assertTrue(overflow.isCompletedExceptionally());
+        assertFalse(other.isCompletedExceptionally());
+        assertEquals(3, admission.getQueuedCount());
+    }
+
+    @Test
+    void submit_WaitedTooLong_IsRejectedWhenDequeued() {
+        ScoringAdmissionController admission = controller(1, 10, 10, 10);
+        admission.submit("acme", ScoringPriority.INTERACTIVE, work("i0"));
+        CompletableFuture<String> stale = admission.submit("acme", ScoringPriority.INTERACTIVE, work("i1"));
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        CompletableFuture<String> fresh = admission.submit("acme", ScoringPriority.INTERACTIVE, work("i2"));
+
+        running.get(0).complete("done");
+
+        assertTrue(stale.isCompletedExceptionally());
+        assertEquals(List.of("i0", "i2"), started);
+        assertFalse(fresh.isDone());
+    }
+
+    @Test
+    void expireOverdue_AllSlotsHeld_RejectsRequestsThatWaitedTooLong() {
+        // Arrange - both slots stay busy, so no completion ever dequeues the waiting requests
+        ScoringAdmissionController admission = controller(2, 10, 10, 10);
+        admission.submit("acme", ScoringPriority.INTERACTIVE, work("i0"));
+        admission.submit("globex", ScoringPriority.BULK, work("b0"));
+        CompletableFuture<String> stale = admission.submit("acme", ScoringPriority.INTERACTIVE, work("i1"));
+        CompletableFuture<String> staleBulk = admission.submit("globex", ScoringPriority.BULK, work("b1"));
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        CompletableFuture<String> fresh = admission.submit("acme", ScoringPriority.INTERACTIVE, work("i2"));
+
+        // Act
+        admission.expireOverdue();
+
+        // Assert
+        CompletionException rejection = assertThrows(CompletionException.class, stale::join);
+        assertInstanceOf(ScoringRejectedException.class, rejection.getCause());
+        assertTrue(staleBulk.isCompletedExceptionally());
+        assertFalse(fresh.isDone());
+        assertEquals(1, admission.getQueuedCount());
+        assertEquals(2, admission.getRunningCount());
+        assertEquals(2, admission.getRejectedCount());
+
+        // The surviving request still gets the next free slot
+        running.get(0).complete("done");
+        assertEquals(List.of("i0", "b0", "i2"), started);
+    }
+
+    @Test
+    void submit_SynchronousWork_DrainsQueueWithoutRecursion() {
+        ScoringAdmissionController admission = controller(1, 10_000, 10_000, 10_000);
+        CompletableFuture<String> blocker = new CompletableFuture<>();
+        admission.submit("acme", ScoringPriority.BULK, () -> blocker);
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            results.add(admission.submit("acme", ScoringPriority.BULK, () -> CompletableFuture.completedFuture("ok")));
+        }
+
+        blocker.complete("done");
+
+        assertTrue(results.stream().allMatch(result -> "ok".equals(result.join())));
+        assertEquals(0, admission.getRunningCount());
+        assertEquals(0, admission.getQueuedCount());
+    }
+
+    private ScoringAdmissionController controller(int maxConcurrent, int interactiveCapacity, int bulkCapacity,
+                                                  int maxQueuedPerCompany) {
+        return new ScoringAdmissionController(maxConcurrent, interactiveCapacity, 2, bulkCapacity, 1,
+                maxQueuedPerCompany, Duration.ofSeconds(30), now::get);
+    }
+
+    private Supplier<CompletableFuture<String>> work(String name) {
+        return () -> {
+            started.add(name);
+            CompletableFuture<String> future = new CompletableFuture<>();
+            running.add(future);
+            return future;
+        };
+    }
+
+    private void finishAll() {
+        for (int i = 0; i < running.size(); i++) {
+            running.get(i).complete("done");
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Company;
+import com.serand.assessment.model.Pillars;
+import com.serand.assessment.model.Question;
+import com.serand.assessment.model.Survey;
+import com.serand.assessment.model.Weightings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScoringConfigRegistryTest {
+
+    @Mock
+    private SurveyService surveyService;
+
+    private SurveyScoringPlanCache planCache;
+    private ScoringConfigRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        planCache = new SurveyScoringPlanCache();
+        registry = new ScoringConfigRegistry(surveyService, planCache, false, 2, true);
+    }
+
+    @Test
+    void publish_SnapshotIsIsolatedFromLaterEditsOfTheSource() {
+        // Arrange
+        Survey survey = survey("survey1", company("company1", 0.4));
+
+        // Act
+        ScoringConfigSnapshot snapshot = registry.publish(survey);
+        survey.getCompany().getWeightings().setValues(0.9);
+        survey.getCompany().getPillars().getPillars().put("leadership", 0.5);
+        survey.getQuestions().clear();
+
+        // Assert
+        assertSame(snapshot, registry.get("survey1"));
+        assertEquals(0.4, snapshot.getCompany().getWeightings().getValues());
+        assertEquals(1, snapshot.getCompany().getPillars().getPillars().size());
+        assertEquals(1, snapshot.getSurvey().getQuestions().size());
+        assertNotNull(snapshot.getPlan().getQuestion("q1"));
+        assertEquals(0, snapshot.getCustomPillarLayout().ordinalOf("technology"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> snapshot.getCompany().getPillars().getPillars().put("other", 1.0));
+    }
+
+    @Test
+    void warmUp_LoadsSurveysWithTheirCompaniesAndPrimesPlans() {
+        // Arrange
+        Company company = company("company1", 0.4);
+        when(surveyService.findAllCompaniesForScoring()).thenReturn(List.of(company));
+        when(surveyService.findAllSurveysForScoring(any())).thenAnswer(invocation -> {
+            Function<String, Company> lookup = invocation.getArgument(0);
+            return List.of(survey("survey1", lookup.apply("company1")), survey("survey2", lookup.apply("company1")));
+        });
+
+        // Act
+        int loaded = registry.warmUp();
+
+        // Assert
+        assertEquals(2, loaded);
+        assertEquals("company1", registry.get("survey2").getCompanyId());
+        assertSame(registry.get("survey1").getPlan(), planCache.getPlan(registry.get("survey1").getSurvey()));
+    }
+
+    @Test
+    void reloadCompany_RepublishesItsSurveysAndLeavesHeldSnapshotsUnchanged() {
+        // Arrange
+        ScoringConfigSnapshot before = registry.publish(survey("survey1", company("company1", 0.4)));
+        registry.publish(survey("survey2", company("company2", 0.4)));
+        when(surveyService.findCompanyForScoring("company1")).thenReturn(Optional.of(company("company1", 0.7)));
+
+        // Act
+        int reloaded = registry.reloadCompany("company1");
+
+        // Assert
+        ScoringConfigSnapshot after = registry.get("survey1");
+        assertEquals(1, reloaded);
+        assertEquals(0.7, after.getCompany().getWeightings().getValues());
+        assertEquals(0.4, before.getCompany().getWeightings().getValues());
+        assertTrue(after.getVersion() > before.getVersion());
+        assertSame(before.getPlan(), after.getPlan());
+        assertEquals(0.4, registry.get("survey2").getCompany().getWeightings().getValues());
+    }
+
+    @Test
+    void reloadSurvey_SurveyDeleted_DropsSnapshot() {
+        registry.publish(survey("survey1", company("company1", 0.4)));
+        when(surveyService.findSurveyForScoring("survey1")).thenReturn(Optional.empty());
+
+        assertTrue(registry.reloadSurvey("survey1").isEmpty());
+        assertNull(registry.get("survey1"));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void snapshotFor_RequestVersions_OverridesOnlyNoNewerOrUnversionedGraphs() {
+        // Arrange - the registry holds version 1
+        ScoringConfigSnapshot snapshot = registry.publish(survey("survey1", company("company1", 0.4)));
+        Survey requested = survey("survey1", company("company1", 0.9));
+
+        // Act / Assert
+        assertSame(snapshot, registry.snapshotFor(requested));
+        requested.setVersion(2);
+        assertNull(registry.snapshotFor(requested));
+        requested.setVersion(0);
+        assertSame(snapshot, registry.snapshotFor(requested));
+        assertNull(registry.snapshotFor(survey("unregistered", null)));
+    }
+
+    @Test
+    void snapshotFor_UnversionedOverrideDisabled_KeepsTheRequestGraph() {
+        // Arrange
+        ScoringConfigRegistry strict = new ScoringConfigRegistry(surveyService, planCache, false, 2, false);
+        strict.publish(survey("survey1", company("company1", 0.4)));
+        Survey requested = survey("survey1", company("company1", 0.9));
+        requested.setVersion(0);
+
+        // Act / Assert
+        assertNull(strict.snapshotFor(requested));
+        requested.setVersion(1);
+        assertNotNull(strict.snapshotFor(requested));
+    }
+
+    private Survey survey(String id, Company company) {
+        Question question = new Question();
+        question.setId("q1");
+        question.setReference("values");
+        question.setAvailableAnswers(new String[]{"Always", "Never"});
+        question.setCorrectAnswers(new String[]{"Always"});
+        Survey survey = new Survey();
+        survey.setId(id);
+        survey.setName("Survey " + id);
+        survey.setVersion(1);
+        survey.setQuestions(new ArrayList<>(List.of(question)));
+        survey.setCompany(company);
+        return survey;
+    }
+
+    private Company company(String id, double valuesWeight) {
+        Company company = new Company();
+        company.setId(id);
+        Weightings weightings = new Weightings();
+        weightings.setValues(valuesWeight);
+        company.setWeightings(weightings);
+        Pillars pillars = new Pillars();
+        Map<String, Double> weights = new LinkedHashMap<>();
+        weights.put("technology", 1.0);
+        pillars.setPillars(weights);
+        company.setPillars(pillars);
+        return company;
+    }
+}
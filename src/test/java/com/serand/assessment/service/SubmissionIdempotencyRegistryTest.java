@@ -0,0 +1,132 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.dto.SurveyProcessingResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubmissionIdempotencyRegistryTest {
+
+    @Test
+    void execute_DuplicateWhileInFlight_AttachesToSameSubmission() {
+        SubmissionIdempotencyRegistry registry = new SubmissionIdempotencyRegistry();
+        CompletableFuture<SurveyProcessingResponse> running = new CompletableFuture<>();
+        AtomicInteger runs = new AtomicInteger();
+
+        CompletableFuture<SurveyProcessingResponse> first = registry.execute("resp-1", () -> {
+            runs.incrementAndGet();
+            return running;
+        });
+        CompletableFuture<SurveyProcessingResponse> duplicate = registry.execute("resp-1", () -> {
+            runs.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        assertEquals(1, runs.get());
+        assertEquals(1, registry.getCoalescedCount());
+        assertFalse(duplicate.isDone());
+
+        SurveyProcessingResponse response = SurveyProcessingResponse.success(80.0, null, "ok");
+        running.complete(response);
+        assertSame(response, first.join());
+        assertSame(response, duplicate.join());
+        assertEquals(0, registry.inFlightCount());
+    }
+
+    @Test
+    void execute_RetryAfterSuccess_ReturnsFinalizedResponseWithoutRunning() {
+        SubmissionIdempotencyRegistry registry = new SubmissionIdempotencyRegistry();
+        SurveyProcessingResponse response = SurveyProcessingResponse.success(80.0, null, "ok");
+        registry.execute("resp-1", () -> CompletableFuture.completedFuture(response)).join();
+
+        CompletableFuture<SurveyProcessingResponse> retry = registry.execute("resp-1",
+                () -> fail("Finalized submission must not run again"));
+
+        assertTrue(retry.isDone());
+        assertSame(response, retry.join());
+        assertEquals(1, registry.getHitCount());
+        assertEquals(1, registry.getMissCount());
+    }
+
+    @Test
+    void execute_ErrorResponse_IsNotCached() {
+        SubmissionIdempotencyRegistry registry = new SubmissionIdempotencyRegistry();
+        registry.execute("resp-1", () -> CompletableFuture.completedFuture(
+                SurveyProcessingResponse.error("Survey not found"))).join();
+
+        SurveyProcessingResponse retried = registry.execute("resp-1", () -> CompletableFuture.completedFuture(
+                SurveyProcessingResponse.success(70.0, null, "ok"))).join();
+
+        assertTrue(retried.isSuccess());
+        assertEquals(2, registry.getMissCount());
+    }
+
+    @Test
+    void execute_Failure_PropagatesToDuplicatesAndAllowsRetry() {
+        SubmissionIdempotencyRegistry registry = new SubmissionIdempotencyRegistry();
+        CompletableFuture<SurveyProcessingResponse> running = new CompletableFuture<>();
+        CompletableFuture<SurveyProcessingResponse> first = registry.execute("resp-1", () -> running);
+        CompletableFuture<SurveyProcessingResponse> duplicate = registry.execute("resp-1", CompletableFuture::new);
+
+        running.completeExceptionally(new IllegalStateException("Mongo down"));
+
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(duplicate.isCompletedExceptionally());
+        assertEquals(0, registry.size());
+        SurveyProcessingResponse retried = registry.execute("resp-1", () -> CompletableFuture.completedFuture(
+                SurveyProcessingResponse.success(70.0, null, "ok"))).join();
+        assertTrue(retried.isSuccess());
+    }
+
+    @Test
+    void execute_CancellingOneCaller_DoesNotCancelOthers() {
+        SubmissionIdempotencyRegistry registry = new SubmissionIdempotencyRegistry();
+        CompletableFuture<SurveyProcessingResponse> running = new CompletableFuture<>();
+        CompletableFuture<SurveyProcessingResponse> first = registry.execute("resp-1", () -> running);
+        CompletableFuture<SurveyProcessingResponse> duplicate = registry.execute("resp-1", CompletableFuture::new);
+
+        first.cancel(true);
+        running.complete(SurveyProcessingResponse.success(80.0, null, "ok"));
+
+        assertFalse(running.isCancelled());
+        assertTrue(duplicate.join().isSuccess());
+    }
+
+    @Test
+    void execute_NullId_AlwaysRuns() {
+        SubmissionIdempotencyRegistry registry = new SubmissionIdempotencyRegistry();
+        AtomicInteger runs = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            registry.execute(null, () -> {
+                runs.incrementAndGet();
+                return CompletableFuture.completedFuture(SurveyProcessingResponse.success(80.0, null, "ok"));
+            }).join();
+        }
+
+        assertEquals(2, runs.get());
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void finalizedResponses_ExpireAndEvictLeastRecentlyUsed() {
+        AtomicLong now = new AtomicLong();
+        SubmissionIdempotencyRegistry registry = new SubmissionIdempotencyRegistry(2, Duration.ofNanos(100), now::get);
+        for (String id : new String[]{"a", "b", "c"}) {
+            registry.execute(id, () -> CompletableFuture.completedFuture(
+                    SurveyProcessingResponse.success(80.0, null, id))).join();
+        }
+
+        assertEquals(2, registry.size());
+        assertNull(registry.getIfPresent("a"));
+        assertNotNull(registry.getIfPresent("c"));
+
+        now.addAndGet(100);
+        assertNull(registry.getIfPresent("c"));
+    }
+}
@@ -8,9 +8,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -76,7 +85,7 @@ class SurveyResponseServiceIntegrationTest {
 
         // Act
         CompletableFuture<SurveyProcessingResponse> future = 
-                surveyResponseService.processSurveyResponse(surveyResponse, new byte[0]);
+                surveyResponseService.processSurveyResponse(surveyResponse, null);
         SurveyProcessingResponse response = future.get();
 
         // Assert
@@ -85,7 +94,7 @@ class SurveyResponseServiceIntegrationTest {
         assertEquals("Success", response.getMessage());
         
         // Verify all services were called
-        verify(applicationService, times(2)).saveApplication(any(Application.class));
+        verify(applicationService, times(1)).saveApplication(any(Application.class)); // coalesced by the unit of work
         verify(candidateService).saveCandidate(any(Candidate.class));
         verify(centralScoringEngine).calculateAllQuestionScores(surveyResponse, survey, company);
         verify(scoreCompositionService).aggregatePillarScores(answersMap, company, company.getPillars());
@@ -102,7 +111,7 @@ class SurveyResponseServiceIntegrationTest {
 
         // Act & Assert
         CompletableFuture<SurveyProcessingResponse> future = 
-                surveyResponseService.processSurveyResponse(surveyResponse, new byte[0]);
+                surveyResponseService.processSurveyResponse(surveyResponse, null);
         
         SurveyProcessingResponse response = future.join();
         assertFalse(response.isSuccess());
@@ -121,7 +130,7 @@ class SurveyResponseServiceIntegrationTest {
 
         // Act
         CompletableFuture<SurveyProcessingResponse> future = 
-                surveyResponseService.processSurveyResponse(surveyResponse, new byte[0]);
+                surveyResponseService.processSurveyResponse(surveyResponse, null);
         SurveyProcessingResponse response = future.get();
 
         // Assert
@@ -165,7 +174,7 @@ class SurveyResponseServiceIntegrationTest {
 
         // Act
         CompletableFuture<SurveyProcessingResponse> future = 
-                surveyResponseService.processSurveyResponse(surveyResponse, new byte[0]);
+                surveyResponseService.processSurveyResponse(surveyResponse, null);
         SurveyProcessingResponse response = future.get();
 
         // Assert
@@ -208,7 +217,7 @@ class SurveyResponseServiceIntegrationTest {
 
         // Act
         CompletableFuture<SurveyProcessingResponse> future = 
-                surveyResponseService.processSurveyResponse(surveyResponse, new byte[0]);
+                surveyResponseService.processSurveyResponse(surveyResponse, null);
         SurveyProcessingResponse response = future.get();
 
         // Assert
@@ -216,6 +225,300 @@ class SurveyResponseServiceIntegrationTest {
         verify(scoreCompositionService).updateApplicationScores(any(Application.class), eq(mockScores), eq(0.0));
     }
 
+    @Test
+    void processSurveyResponse_PostProcessingPending_CompletesOnceScoresPersisted() throws Exception {
+        // Arrange - post-processing tasks are queued but not run until released
+        List<Runnable> postProcessing = new ArrayList<>();
+        surveyResponseService = new SurveyResponseService(
+                surveyService, candidateService, applicationService,
+                geminiService, applicationTrackingService,
+                centralScoringEngine, scoreCompositionService,
+                Runnable::run, Runnable::run, postProcessing::add, null
+        );
+
+        SurveyResponse surveyResponse = createSampleSurveyResponse();
+        Survey survey = surveyResponse.getSurvey();
+        Company company = survey.getCompany();
+
+        Scores mockScores = new Scores();
+        when(scoreCompositionService.aggregatePillarScores(surveyResponse.getAnswerMap(), company, company.getPillars()))
+                .thenReturn(mockScores);
+        when(scoreCompositionService.updateApplicationScores(any(Application.class), eq(mockScores), eq(85.0)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        SurveyProcessingResponse response =
+                surveyResponseService.processSurveyResponse(surveyResponse, null).get(5, TimeUnit.SECONDS);
+
+        // Assert - scores are durable, feedback and ATS push have not run yet
+        assertTrue(response.isSuccess());
+        verify(candidateService).saveCandidate(any(Candidate.class));
+        verify(geminiService, never()).generateCandidateFeedback(any(), any());
+        verify(applicationTrackingService, never()).pushingScoreToAts(any());
+
+        postProcessing.forEach(Runnable::run);
+        verify(geminiService).generateCandidateFeedback(any(Candidate.class), eq(survey));
+        verify(applicationTrackingService).pushingScoreToAts(any(Application.class));
+    }
+
+    @Test
+    void processSurveyResponse_PostProcessingFails_StillReturnsSuccess() throws Exception {
+        // Arrange
+        SurveyResponse surveyResponse = createSampleSurveyResponse();
+        Company company = surveyResponse.getSurvey().getCompany();
+
+        Scores mockScores = new Scores();
+        when(scoreCompositionService.aggregatePillarScores(surveyResponse.getAnswerMap(), company, company.getPillars()))
+                .thenReturn(mockScores);
+        when(scoreCompositionService.updateApplicationScores(any(Application.class), eq(mockScores), eq(85.0)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new RuntimeException("ATS down")).when(applicationTrackingService).pushingScoreToAts(any());
+
+        // Act
+        SurveyProcessingResponse response =
+                surveyResponseService.processSurveyResponse(surveyResponse, null).get();
+
+        // Assert
+        assertTrue(response.isSuccess());
+    }
+
+    @Test
+    void processSurveyResponse_RetriedSubmission_ReturnsFinalizedResponseWithoutReprocessing() throws Exception {
+        // Arrange
+        SurveyResponse surveyResponse = createSampleSurveyResponse();
+        Company company = surveyResponse.getSurvey().getCompany();
+
+        Scores mockScores = new Scores();
+        when(scoreCompositionService.aggregatePillarScores(surveyResponse.getAnswerMap(), company, company.getPillars()))
+                .thenReturn(mockScores);
+        when(scoreCompositionService.updateApplicationScores(any(Application.class), eq(mockScores), eq(85.0)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        SurveyProcessingResponse first =
+                surveyResponseService.processSurveyResponse(surveyResponse, null).get(5, TimeUnit.SECONDS);
+
+        // Act
+        SurveyProcessingResponse retried =
+                surveyResponseService.processSurveyResponse(surveyResponse, null).get(5, TimeUnit.SECONDS);
+
+        // Assert - scored, persisted and post-processed once
+        assertSame(first, retried);
+        verify(centralScoringEngine, times(1)).calculateAllQuestionScores(any(), any(), any());
+        verify(applicationService, times(1)).saveApplication(any(Application.class));
+        verify(candidateService, times(1)).saveCandidate(any(Candidate.class));
+        verify(applicationTrackingService, times(1)).pushingScoreToAts(any(Application.class));
+    }
+
+    @Test
+    void processSurveyResponse_AdmissionQueueFull_ReturnsRejectedResponse() throws Exception {
+        // Arrange - the only slot is busy and nothing may queue
+        ScoringAdmissionController admissionController = new ScoringAdmissionController(1, 0, 4, 0, 1, 0,
+                Duration.ofSeconds(30), System::nanoTime);
+        admissionController.submit("company1", ScoringPriority.BULK, CompletableFuture::new);
+        surveyResponseService = new SurveyResponseService(
+                surveyService, candidateService, applicationService,
+                geminiService, applicationTrackingService,
+                centralScoringEngine, scoreCompositionService, new CvScoringService(),
+                new SubmissionIdempotencyRegistry(), admissionController, new ScoringConfigRegistry(surveyService),
+                Runnable::run, Runnable::run, Runnable::run, null, null, null
+        );
+
+        // Act
+        SurveyProcessingResponse response =
+                surveyResponseService.processSurveyResponse(createSampleSurveyResponse(), null).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertFalse(response.isSuccess());
+        assertTrue(response.isRejected());
+        assertTrue(response.getMessage().startsWith("Rejected: "));
+        verifyNoInteractions(centralScoringEngine, applicationService);
+    }
+
+    @Test
+    void processSurveyResponse_SurveyRegistered_ScoresAgainstRegisteredConfiguration() throws Exception {
+        // Arrange - the registry holds newer weightings than the graph the request carries
+        ScoringConfigRegistry configRegistry = new ScoringConfigRegistry(surveyService);
+        Survey registered = createSampleSurveyResponse().getSurvey();
+        registered.getCompany().getWeightings().setValues(0.7);
+        ScoringConfigSnapshot snapshot = configRegistry.publish(registered);
+        surveyResponseService = new SurveyResponseService(
+                surveyService, candidateService, applicationService,
+                geminiService, applicationTrackingService,
+                centralScoringEngine, scoreCompositionService, new CvScoringService(),
+                new SubmissionIdempotencyRegistry(), new ScoringAdmissionController(), configRegistry,
+                Runnable::run, Runnable::run, Runnable::run, null, null, null
+        );
+        SurveyResponse surveyResponse = createSampleSurveyResponse();
+        Survey requested = surveyResponse.getSurvey();
+        Company registeredCompany = snapshot.getCompany();
+
+        Scores mockScores = new Scores();
+        mockScores.setWeightings(registeredCompany.getWeightings());
+        when(scoreCompositionService.aggregatePillarScores(surveyResponse.getAnswerMap(), registeredCompany,
+                registeredCompany.getPillars())).thenReturn(mockScores);
+        when(scoreCompositionService.updateApplicationScores(any(Application.class), eq(mockScores), eq(85.0)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        SurveyProcessingResponse response =
+                surveyResponseService.processSurveyResponse(surveyResponse, null).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(response.isSuccess());
+        verify(centralScoringEngine).calculateAllQuestionScores(surveyResponse, snapshot.getSurvey(), registeredCompany);
+        assertEquals(0.7, registeredCompany.getWeightings().getValues());
+        // The request keeps its own graph and the scores handed out do not share the registered weightings
+        assertSame(requested, surveyResponse.getSurvey());
+        assertNotSame(registeredCompany.getWeightings(), mockScores.getWeightings());
+        assertEquals(0.7, mockScores.getWeightings().getValues());
+    }
+
+    @Test
+    void processSurveyResponse_PostProcessingSaturated_CompletesWithoutRunningItInline() throws Exception {
+        // Arrange - the post-processing executor rejects everything
+        Executor saturated = command -> {
+            throw new RejectedExecutionException("post-processing queue full");
+        };
+        surveyResponseService = new SurveyResponseService(
+                surveyService, candidateService, applicationService,
+                geminiService, applicationTrackingService,
+                centralScoringEngine, scoreCompositionService, new CvScoringService(),
+                new SubmissionIdempotencyRegistry(), new ScoringAdmissionController(),
+                new ScoringConfigRegistry(surveyService),
+                Runnable::run, Runnable::run, saturated, null, null, null
+        );
+        SurveyResponse surveyResponse = createSampleSurveyResponse();
+        Company company = surveyResponse.getSurvey().getCompany();
+
+        Scores mockScores = new Scores();
+        when(scoreCompositionService.aggregatePillarScores(surveyResponse.getAnswerMap(), company, company.getPillars()))
+                .thenReturn(mockScores);
+        when(scoreCompositionService.updateApplicationScores(any(Application.class), eq(mockScores), eq(85.0)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        SurveyProcessingResponse response =
+                surveyResponseService.processSurveyResponse(surveyResponse, null).get(5, TimeUnit.SECONDS);
+
+        // Assert - scores are persisted and reported; feedback and the push were not run on the caller
+        assertTrue(response.isSuccess());
+        verify(applicationService).saveApplication(any(Application.class));
+        verifyNoInteractions(geminiService, applicationTrackingService);
+    }
+
+    @Test
+    void processSurveyResponse_AtsOutboxEnabled_RecordsPushInsteadOfCallingAts() throws Exception {
+        // Arrange
+        AtsOutboxDispatcher atsOutboxDispatcher = mock(AtsOutboxDispatcher.class);
+        surveyResponseService = new SurveyResponseService(
+                surveyService, candidateService, applicationService,
+                geminiService, applicationTrackingService,
+                centralScoringEngine, scoreCompositionService, new CvScoringService(),
+                new SubmissionIdempotencyRegistry(), new ScoringAdmissionController(),
+                new ScoringConfigRegistry(surveyService),
+                Runnable::run, Runnable::run, Runnable::run, null, atsOutboxDispatcher, null
+        );
+
+        SurveyResponse surveyResponse = createSampleSurveyResponse();
+        Company company = surveyResponse.getSurvey().getCompany();
+
+        Scores mockScores = new Scores();
+        when(scoreCompositionService.aggregatePillarScores(surveyResponse.getAnswerMap(), company, company.getPillars()))
+                .thenReturn(mockScores);
+        when(scoreCompositionService.updateApplicationScores(any(Application.class), eq(mockScores), eq(85.0)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        SurveyProcessingResponse response =
+                surveyResponseService.processSurveyResponse(surveyResponse, null).get(5, TimeUnit.SECONDS);
+
+        // Assert - the push is persisted with the application and handed to the dispatcher
+        assertTrue(response.isSuccess());
+        verify(applicationService).saveApplication(argThat(Application::isAtsPushPending));
+        verify(atsOutboxDispatcher).wakeUp();
+        verify(applicationTrackingService, never()).pushingScoreToAts(any());
+    }
+
+    @Test
+    void processSurveyResponse_FeedbackQueueEnabled_QueuesFeedbackInsteadOfGenerating() throws Exception {
+        // Arrange
+        FeedbackJobWorker feedbackJobWorker = mock(FeedbackJobWorker.class);
+        surveyResponseService = new SurveyResponseService(
+                surveyService, candidateService, applicationService,
+                geminiService, applicationTrackingService,
+                centralScoringEngine, scoreCompositionService, new CvScoringService(),
+                new SubmissionIdempotencyRegistry(), new ScoringAdmissionController(),
+                new ScoringConfigRegistry(surveyService),
+                Runnable::run, Runnable::run, Runnable::run, null, null, feedbackJobWorker
+        );
+
+        SurveyResponse surveyResponse = createSampleSurveyResponse();
+        Survey survey = surveyResponse.getSurvey();
+        Company company = survey.getCompany();
+
+        Scores mockScores = new Scores();
+        when(scoreCompositionService.aggregatePillarScores(surveyResponse.getAnswerMap(), company, company.getPillars()))
+                .thenReturn(mockScores);
+        when(scoreCompositionService.updateApplicationScores(any(Application.class), eq(mockScores), eq(85.0)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        SurveyProcessingResponse response =
+                surveyResponseService.processSurveyResponse(surveyResponse, null).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(response.isSuccess());
+        verify(feedbackJobWorker).request(surveyResponse.getCandidate(), survey, FeedbackPriority.NORMAL);
+        verify(geminiService, never()).generateCandidateFeedback(any(Candidate.class), any());
+    }
+
+    @Test
+    void processSurveyResponse_WithResume_ScoresCvIntoCvScoreMap() throws Exception {
+        // Arrange
+        SurveyResponse surveyResponse = createSampleSurveyResponse();
+        Company company = surveyResponse.getSurvey().getCompany();
+        company.setCulture(new String[]{"Teamwork", "Remote first"});
+
+        Scores mockScores = new Scores();
+        when(scoreCompositionService.aggregatePillarScores(surveyResponse.getAnswerMap(), company, company.getPillars()))
+                .thenReturn(mockScores);
+        when(scoreCompositionService.updateApplicationScores(any(Application.class), eq(mockScores), eq(50.0)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        InputStream resume = new ByteArrayInputStream("I value teamwork above all.".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        SurveyProcessingResponse response =
+                surveyResponseService.processSurveyResponse(surveyResponse, resume).get(5, TimeUnit.SECONDS);
+
+        // Assert - one of two culture keywords found replaces the pre-filled 85.0
+        assertTrue(response.isSuccess());
+        assertEquals(50.0, surveyResponse.getCandidate().getCvScoreMap().get("survey1"));
+        verify(scoreCompositionService).updateApplicationScores(any(Application.class), eq(mockScores), eq(50.0));
+    }
+
+    @Test
+    void processSurveyResponse_WithPdfResume_KeepsExistingCvScore() throws Exception {
+        // Arrange
+        SurveyResponse surveyResponse = createSampleSurveyResponse();
+        Company company = surveyResponse.getSurvey().getCompany();
+        company.setCulture(new String[]{"Teamwork", "Remote first"});
+
+        Scores mockScores = new Scores();
+        when(scoreCompositionService.aggregatePillarScores(surveyResponse.getAnswerMap(), company, company.getPillars()))
+                .thenReturn(mockScores);
+        when(scoreCompositionService.updateApplicationScores(any(Application.class), eq(mockScores), eq(85.0)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        InputStream resume = new ByteArrayInputStream("%PDF-1.4\n(Teamwork) Tj\n".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        SurveyProcessingResponse response =
+                surveyResponseService.processSurveyResponse(surveyResponse, resume).get(5, TimeUnit.SECONDS);
+
+        // Assert - the PDF cannot be read locally, so the pre-filled 85.0 stands
+        assertTrue(response.isSuccess());
+        assertEquals(85.0, surveyResponse.getCandidate().getCvScoreMap().get("survey1"));
+        verify(scoreCompositionService).updateApplicationScores(any(Application.class), eq(mockScores), eq(85.0));
+    }
+
     private SurveyResponse createSampleSurveyResponse() {
         // Create Survey
         Survey survey = new Survey();
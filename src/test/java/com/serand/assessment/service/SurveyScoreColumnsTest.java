@@ -0,0 +1,110 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Pillars;
+import com.serand.assessment.model.Scores;
+import com.serand.assessment.model.Weightings;
+import com.serand.assessment.model.WorkLife;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SurveyScoreColumnsTest {
+
+    private final ScoreCompositionServiceImpl composition = new ScoreCompositionServiceImpl(null);
+
+    @Test
+    void applicationScores_StandardWeightings_MatchPerApplicationScores() {
+        // Arrange
+        Weightings weightings = new Weightings();
+        weightings.setValues(0.4);
+        weightings.setWorkLife(0.1);
+        List<Scores> scores = List.of(standard(80, 60, 50, 70.0), standard(30, 90, 50, null), standard(55, 45, 65, 20.0));
+        double[] cvScores = {0, 64, 12};
+        SurveyScoreColumns.Builder builder = SurveyScoreColumns.builder("survey1");
+        for (int i = 0; i < scores.size(); i++) {
+            builder.add("app" + i, scores.get(i), cvScores[i]);
+        }
+
+        // Act
+        double[] result = builder.build().applicationScores(weightings, null);
+
+        // Assert
+        for (int i = 0; i < scores.size(); i++) {
+            scores.get(i).setWeightings(weightings);
+            assertEquals(composition.calculateOverallScore(scores.get(i), cvScores[i]), result[i], 1e-9);
+        }
+    }
+
+    @Test
+    void overallScores_CustomPillars_SkipPillarsWithoutScore() {
+        // Arrange
+        Scores first = new Scores();
+        first.addCustomPillarScore("technology", 80.0);
+        first.addCustomPillarScore("leadership", 40.0);
+        Scores second = new Scores();
+        second.addCustomPillarScore("leadership", 90.0);
+        Scores third = new Scores();
+        Map<String, Double> weights = new LinkedHashMap<>();
+        weights.put("technology", 3.0);
+        weights.put("leadership", 1.0);
+        weights.put("communication", 2.0);
+        Pillars pillars = new Pillars();
+        pillars.setPillars(weights);
+
+        // Act
+        SurveyScoreColumns columns = SurveyScoreColumns.builder("survey1")
+                .add("app1", first, 0).add("app2", second, 0).add("app3", third, 0)
+                .build();
+        double[] result = columns.overallScores(new Weightings(), pillars);
+
+        // Assert
+        assertEquals(3, columns.size());
+        assertEquals("app2", columns.getApplicationId(1));
+        assertEquals(70.0, result[0], 1e-9);
+        assertEquals(90.0, result[1], 1e-9);
+        assertEquals(0.0, result[2], 1e-9);
+        first.setPillars(pillars);
+        assertEquals(first.getOverallScore(), result[0], 1e-9);
+    }
+
+    @Test
+    void build_BeyondInitialCapacity_KeepsLateCustomPillarColumnsAligned() {
+        // Arrange
+        SurveyScoreColumns.Builder builder = SurveyScoreColumns.builder("survey1");
+        for (int i = 0; i < 100; i++) {
+            Scores scores = new Scores();
+            if (i >= 70) {
+                scores.addCustomPillarScore("technology", i);
+            }
+            builder.add("app" + i, scores, 0);
+        }
+        Pillars pillars = new Pillars();
+        pillars.setPillars(Map.of("technology", 1.0));
+
+        // Act
+        double[] result = builder.build().overallScores(null, pillars);
+
+        // Assert
+        assertEquals(100, result.length);
+        assertEquals(0.0, result[69], 1e-9);
+        assertEquals(70.0, result[70], 1e-9);
+        assertEquals(99.0, result[99], 1e-9);
+    }
+
+    private Scores standard(double values, double culture, double mindset, Double workLife) {
+        Scores scores = new Scores();
+        scores.setValues(values);
+        scores.setCulture(culture);
+        scores.setMindset(mindset);
+        if (workLife != null) {
+            WorkLife workLifeScore = new WorkLife();
+            workLifeScore.setWorkLife(workLife);
+            scores.setWorkLife(workLifeScore);
+        }
+        return scores;
+    }
+}
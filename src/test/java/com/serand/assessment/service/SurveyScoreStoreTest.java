@@ -0,0 +1,70 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Scores;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SurveyScoreStoreTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, SurveyScoreColumns> loader = surveyId -> {
+        loads.incrementAndGet();
+        return SurveyScoreColumns.builder(surveyId).add("app1", new Scores(), 0).build();
+    };
+
+    @Test
+    void columns_WithinMaxAge_ReusesSnapshot() {
+        // Arrange
+        AtomicLong clock = new AtomicLong();
+        SurveyScoreStore store = new SurveyScoreStore(loader, 4, Duration.ofMinutes(5), clock::get);
+
+        // Act
+        SurveyScoreColumns first = store.columns("survey1");
+        clock.addAndGet(Duration.ofMinutes(4).toNanos());
+        SurveyScoreColumns second = store.columns("survey1");
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void columns_OlderThanMaxAge_Reloads() {
+        // Arrange
+        AtomicLong clock = new AtomicLong();
+        SurveyScoreStore store = new SurveyScoreStore(loader, 4, Duration.ofMinutes(5), clock::get);
+        SurveyScoreColumns first = store.columns("survey1");
+
+        // Act
+        clock.addAndGet(Duration.ofMinutes(5).toNanos());
+        SurveyScoreColumns second = store.columns("survey1");
+
+        // Assert
+        assertNotSame(first, second);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void columns_BeyondMaxSurveys_EvictsLeastRecentlyUsed() {
+        // Arrange
+        SurveyScoreStore store = new SurveyScoreStore(loader, 2, Duration.ofMinutes(5), () -> 0L);
+        store.columns("survey1");
+        store.columns("survey2");
+        store.columns("survey1");
+
+        // Act
+        store.columns("survey3");
+        store.columns("survey1");
+        store.columns("survey2");
+
+        // Assert
+        assertEquals(2, store.size());
+        assertEquals(4, loads.get());
+    }
+}
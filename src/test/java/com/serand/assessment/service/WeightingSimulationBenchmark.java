@@ -0,0 +1,75 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Company;
+import com.serand.assessment.model.Scores;
+import com.serand.assessment.model.Survey;
+import com.serand.assessment.model.Weightings;
+import com.serand.assessment.model.WorkLife;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Latency of a what-if ranking over a survey with 100k scored applicants whose snapshot is already cached.
+ * Not part of the unit test suite; run after {@code mvn test-compile} with:
+ * <pre>
+ * java -cp target/classes:target/test-classes com.serand.assessment.service.WeightingSimulationBenchmark
+ * </pre>
+ */
+public final class WeightingSimulationBenchmark {
+
+    private static final int APPLICATIONS = 100_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    public static void main(String[] args) {
+        Random random = new Random(7);
+        SurveyScoreColumns.Builder builder = SurveyScoreColumns.builder("survey");
+        for (int i = 0; i < APPLICATIONS; i++) {
+            Scores scores = new Scores();
+            scores.setValues(random.nextDouble() * 100);
+            scores.setCulture(random.nextDouble() * 100);
+            scores.setMindset(random.nextDouble() * 100);
+            WorkLife workLife = new WorkLife();
+            workLife.setWorkLife(random.nextDouble() * 100);
+            scores.setWorkLife(workLife);
+            builder.add("app" + i, scores, random.nextBoolean() ? random.nextDouble() * 100 : 0);
+        }
+        SurveyScoreColumns columns = builder.build();
+
+        Company company = new Company();
+        company.setId("company");
+        company.setWeightings(new Weightings());
+        Survey survey = new Survey();
+        survey.setId("survey");
+        survey.setQuestions(new ArrayList<>());
+        survey.setCompany(company);
+        ScoringConfigRegistry registry = new ScoringConfigRegistry(null, new SurveyScoringPlanCache(), false, 1, true);
+        registry.publish(survey);
+        WeightingSimulationService service = new WeightingSimulationService(registry, null,
+                new SurveyScoreStore(surveyId -> columns, 1, Duration.ofHours(1), System::nanoTime), 500);
+
+        Weightings[] proposals = new Weightings[MEASURED_ROUNDS];
+        for (int round = 0; round < proposals.length; round++) {
+            proposals[round] = new Weightings();
+            proposals[round].setValues(random.nextDouble());
+            proposals[round].setCulture(random.nextDouble());
+        }
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            blackhole(service.simulate("survey", proposals[i % proposals.length], null, 50).orElseThrow());
+        }
+        long start = System.nanoTime();
+        for (Weightings proposal : proposals) {
+            blackhole(service.simulate("survey", proposal, null, 50).orElseThrow());
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / proposals.length;
+        System.out.printf("simulation: %8.2f ms per %d applications (top 50)%n", millis, APPLICATIONS);
+    }
+
+    private static volatile Object consumed;
+
+    private static void blackhole(Object value) {
+        consumed = value;
+    }
+}
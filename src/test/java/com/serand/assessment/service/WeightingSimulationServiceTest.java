@@ -0,0 +1,154 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Company;
+import com.serand.assessment.model.Pillars;
+import com.serand.assessment.model.Scores;
+import com.serand.assessment.model.Survey;
+import com.serand.assessment.model.Weightings;
+import com.serand.assessment.model.WorkLife;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WeightingSimulationServiceTest {
+
+    private final SurveyService surveyService = mock(SurveyService.class);
+    private final AtomicInteger loads = new AtomicInteger();
+    private ScoringConfigRegistry registry;
+    private WeightingSimulationService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ScoringConfigRegistry(surveyService, new SurveyScoringPlanCache(), false, 2, true);
+        registry.publish(survey("survey1"));
+        SurveyScoreStore scoreStore = new SurveyScoreStore(surveyId -> {
+            loads.incrementAndGet();
+            return SurveyScoreColumns.builder(surveyId)
+                    .add("app1", scores(90, 10, 10, 10), 0)
+                    .add("app2", scores(20, 80, 80, 80), 0)
+                    .add("app3", scores(60, 60, 60, 60), 0)
+                    .add("app4", scores(50, 20, 20, 20), 0)
+                    .build();
+        }, 4, Duration.ofMinutes(5), System::nanoTime);
+        service = new WeightingSimulationService(registry, surveyService, scoreStore, 500);
+    }
+
+    @Test
+    void simulate_ProposedWeightings_ReturnsNewTopWithRankChanges() {
+        // Arrange
+        Weightings valuesOnly = new Weightings();
+        valuesOnly.setValues(1.0);
+        valuesOnly.setCulture(0);
+        valuesOnly.setMindset(0);
+        valuesOnly.setWorkLife(0);
+
+        // Act
+        WeightingSimulationService.Simulation simulation =
+                service.simulate("survey1", valuesOnly, null, 2).orElseThrow();
+
+        // Assert
+        assertEquals(4, simulation.applicants());
+        // app1 3 -> 1, app2 1 -> 4, app4 4 -> 3; app3 stays second
+        assertEquals(3, simulation.applicantsMoved());
+        assertEquals(List.of(
+                new WeightingSimulationService.RankedApplicant("app1", 1, 3, 2, 90.0, 30.0),
+                new WeightingSimulationService.RankedApplicant("app3", 2, 2, 0, 60.0, 60.0)),
+                simulation.topApplicants());
+    }
+
+    @Test
+    void simulate_RepeatedProposals_ReuseTheCachedSnapshot() {
+        // Act
+        service.simulate("survey1", null, null, 10);
+        WeightingSimulationService.Simulation unchanged = service.simulate("survey1", null, null, 10).orElseThrow();
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(0, unchanged.applicantsMoved());
+        assertEquals(4, unchanged.topApplicants().size());
+    }
+
+    @Test
+    void simulate_NegativeWeight_Throws() {
+        Weightings weightings = new Weightings();
+        weightings.setCulture(-0.5);
+
+        assertThrows(IllegalArgumentException.class, () -> service.simulate("survey1", weightings, null, 10));
+    }
+
+    @Test
+    void simulate_SurveyNotRegistered_DoesNotPublishASnapshot() {
+        // Arrange
+        when(surveyService.findSurveyForScoring("survey2")).thenReturn(Optional.of(survey("survey2")));
+        long registryVersion = registry.getVersion();
+
+        // Act
+        Optional<WeightingSimulationService.Simulation> simulation = service.simulate("survey2", null, null, 10);
+
+        // Assert
+        assertTrue(simulation.isPresent());
+        assertNull(registry.get("survey2"));
+        assertEquals(registryVersion, registry.getVersion());
+    }
+
+    @Test
+    void simulate_ProposedPillarWithoutStoredScores_Throws() {
+        // Arrange - no stored application has a leadership score
+        Pillars pillars = new Pillars();
+        pillars.setPillars(new HashMap<>(Map.of("leadership", 1.0)));
+
+        // Act
+        IllegalArgumentException rejected = assertThrows(IllegalArgumentException.class,
+                () -> service.simulate("survey1", null, pillars, 10));
+
+        // Assert
+        assertTrue(rejected.getMessage().contains("[leadership]"));
+    }
+
+    @Test
+    void simulate_UnknownSurvey_ReturnsEmpty() {
+        when(surveyService.findSurveyForScoring("missing")).thenReturn(Optional.empty());
+
+        assertTrue(service.simulate("missing", null, null, 10).isEmpty());
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void ranks_EqualScores_ShareARank() {
+        assertArrayEquals(new int[]{2, 1, 2, 4}, WeightingSimulationService.ranks(new double[]{50, 70, 50, 10}));
+    }
+
+    private Survey survey(String surveyId) {
+        Company company = new Company();
+        company.setId("company1");
+        company.setWeightings(new Weightings());
+        Survey survey = new Survey();
+        survey.setId(surveyId);
+        survey.setName("Survey");
+        survey.setVersion(1);
+        survey.setQuestions(new ArrayList<>());
+        survey.setCompany(company);
+        return survey;
+    }
+
+    private Scores scores(double values, double culture, double mindset, double workLifeScore) {
+        Scores scores = new Scores();
+        scores.setValues(values);
+        scores.setCulture(culture);
+        scores.setMindset(mindset);
+        WorkLife workLife = new WorkLife();
+        workLife.setWorkLife(workLifeScore);
+        scores.setWorkLife(workLife);
+        return scores;
+    }
+}
@@ -0,0 +1,152 @@
+package com.serand.assessment.service;
+
+import com.serand.assessment.model.Application;
+import com.serand.assessment.model.Candidate;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WriteBehindBufferTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private BulkOperations applicationBulk;
+    @Mock
+    private BulkOperations candidateBulk;
+
+    private WriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        // Same simple types and conversions (e.g. java.time) as the Spring Boot configured converter
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WriteBehindBuffer.APPLICATIONS)).thenReturn(applicationBulk);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WriteBehindBuffer.CANDIDATES)).thenReturn(candidateBulk);
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.shutdown();
+    }
+
+    @Test
+    void flush_RepeatedWritesOfSameEntity_CoalescedIntoOneBulkWrite() {
+        // Arrange
+        buffer = new WriteBehindBuffer(mongoTemplate, 100, Duration.ofHours(1));
+        Application application = application("app1");
+
+        // Act
+        CompletableFuture<Void> first = buffer.enqueue(application);
+        application.setApplicationOverallScore(90.0);
+        CompletableFuture<Void> second = buffer.enqueue(application);
+        CompletableFuture<Void> candidate = buffer.enqueue(candidate("cand1"));
+        buffer.flush();
+
+        // Assert
+        verify(mongoTemplate, times(1)).bulkOps(BulkOperations.BulkMode.UNORDERED, WriteBehindBuffer.APPLICATIONS);
+        verify(applicationBulk, times(1)).upsert(any(Query.class), argThat((Update update) ->
+                update.getUpdateObject().get("$set", Document.class).getDouble("applicationOverallScore") == 90.0));
+        verify(applicationBulk).execute();
+        verify(candidateBulk, times(1)).replaceOne(any(), any(), any());
+        assertTrue(first.isDone() && second.isDone() && candidate.isDone());
+        assertEquals(0, buffer.pendingCount());
+    }
+
+    @Test
+    void enqueue_SizeThresholdReached_FlushesWithoutWaitingForInterval() throws Exception {
+        // Arrange
+        buffer = new WriteBehindBuffer(mongoTemplate, 2, Duration.ofHours(1));
+
+        // Act
+        buffer.enqueue(application("app1"));
+        CompletableFuture<Void> second = buffer.enqueue(application("app2"));
+
+        // Assert
+        second.get(5, TimeUnit.SECONDS);
+        verify(applicationBulk, times(2)).upsert(any(Query.class), any(Update.class));
+        verify(applicationBulk, times(1)).execute();
+    }
+
+    @Test
+    void flush_Application_LeavesAtsOutboxStateUnlessPushBecomesPending() {
+        // Arrange
+        buffer = new WriteBehindBuffer(mongoTemplate, 100, Duration.ofHours(1));
+        Application pending = application("app1");
+        pending.setAtsPushPending(true);
+        Application unchanged = application("app2");
+
+        // Act
+        buffer.enqueue(pending);
+        pending.setAtsPushPending(false);
+        buffer.enqueue(pending);
+        buffer.enqueue(unchanged);
+        buffer.flush();
+
+        // Assert
+        verify(applicationBulk).upsert(eq(Query.query(Criteria.where("_id").is("app1"))), argThat((Update update) ->
+                update.getUpdateObject().get("$set", Document.class).containsKey("atsPush")));
+        verify(applicationBulk).upsert(eq(Query.query(Criteria.where("_id").is("app2"))), argThat((Update update) ->
+                !update.getUpdateObject().get("$set", Document.class).containsKey("atsPush")
+                        && !update.getUpdateObject().get("$unset", Document.class).containsKey("atsPush")));
+        verify(applicationBulk, never()).replaceOne(any(), any(), any());
+    }
+
+    @Test
+    void flush_BulkWriteFails_FailsWaiters() {
+        // Arrange
+        buffer = new WriteBehindBuffer(mongoTemplate, 100, Duration.ofHours(1));
+        when(applicationBulk.execute()).thenThrow(new IllegalStateException("Mongo unavailable"));
+
+        // Act
+        CompletableFuture<Void> write = buffer.enqueue(application("app1"));
+        buffer.flush();
+
+        // Assert
+        assertTrue(write.isCompletedExceptionally());
+    }
+
+    private Application application(String id) {
+        Application application = new Application();
+        application.setId(id);
+        application.setCandidate(candidate("cand-" + id));
+        return application;
+    }
+
+    private Candidate candidate(String id) {
+        Candidate candidate = new Candidate();
+        candidate.setId(id);
+        return candidate;
+    }
+}